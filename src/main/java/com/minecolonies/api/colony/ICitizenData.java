@@ -9,6 +9,7 @@ import com.minecolonies.api.quests.IQuestGiver;
 import com.minecolonies.api.quests.IQuestParticipant;
 import com.minecolonies.api.util.Tuple;
 import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -451,4 +452,12 @@ public interface ICitizenData extends ICivilianData, IQuestGiver, IQuestParticip
      * @return the instance of the handler
      */
     ICitizenFoodHandler getCitizenFoodHandler();
+
+    /**
+     * Writes the bit mask of the view groups changed since the last call, followed by these groups, and takes the current state as synced state.
+     *
+     * @param buf the buffer to write to.
+     * @return the size in bytes of all groups, what a full view update would have taken.
+     */
+    int serializeViewNetworkDelta(@NotNull FriendlyByteBuf buf);
 }
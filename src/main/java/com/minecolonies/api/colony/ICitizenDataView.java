@@ -90,6 +90,14 @@ public interface ICitizenDataView extends ICitizen
      */
     void deserialize(@NotNull FriendlyByteBuf buf);
 
+    /**
+     * Applies a partial update carrying only some groups of the view data.
+     *
+     * @param groups the bit mask of the contained groups, see the view group indices in CitizenConstants.
+     * @param buf    Byte buffer to deserialize.
+     */
+    void deserializeDelta(int groups, @NotNull FriendlyByteBuf buf);
+
     /**
      * @return current health.
      */
@@ -197,6 +197,17 @@ public interface IColonyManager
      */
     IColony getClosestColony(@NotNull Level w, @NotNull BlockPos pos);
 
+    /**
+     * Get the colonies with their center within a range of a position.
+     *
+     * @param w     World.
+     * @param pos   coordinates.
+     * @param range the range in blocks.
+     * @return the colonies in range.
+     */
+    @NotNull
+    List<IColony> getColoniesInRange(@NotNull Level w, @NotNull BlockPos pos, int range);
+
     /**
      * Side neutral method to get colony. On clients it returns the view. On servers it returns the colony itself.
      * <p>
@@ -321,6 +332,16 @@ public interface IColonyManager
      */
     void handleColonyViewCitizensMessage(int colonyId, int citizenId, FriendlyByteBuf buf, ResourceKey<Level> dim);
 
+    /**
+     * Returns result of {@link IColonyView#handleColonyViewCitizenDeltaMessage(int, FriendlyByteBuf)} if {@link #getColonyView(int, ResourceKey)} gives a not-null result.
+     *
+     * @param colonyId  ID of the colony.
+     * @param citizenId ID of the citizen.
+     * @param buf       {@link FriendlyByteBuf} with the changed citizen data.
+     * @param dim       the dimension.
+     */
+    void handleColonyViewCitizenDeltaMessage(int colonyId, int citizenId, FriendlyByteBuf buf, ResourceKey<Level> dim);
+
     /**
      * Returns result of {@link IColonyView#handleColonyViewWorkOrderMessage(FriendlyByteBuf)} (int, ByteBuf)} if {@link #getColonyView(int, ResourceKey)} gives a not-null result. If {@link
      * #getColonyView(int, ResourceKey)} is null, returns null.
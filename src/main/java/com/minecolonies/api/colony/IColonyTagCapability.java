@@ -3,6 +3,10 @@ package com.minecolonies.api.colony;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.LongArraySet;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -42,7 +46,7 @@ public interface IColonyTagCapability
     /**
      * Get a list of colonies with a static claim.
      *
-     * @return a list of their ids.
+     * @return an unmodifiable list of their ids.
      */
     @NotNull
     List<Integer> getStaticClaimColonies();
@@ -97,22 +101,48 @@ public interface IColonyTagCapability
     /**
      * Get the claiming buildings map.
      *
-     * @return the entire map.
+     * @return a copy of the entire map.
      */
     @NotNull
     Map<Integer, Set<BlockPos>> getAllClaimingBuildings();
 
+    /**
+     * Get the buildings of a colony claiming the chunk.
+     *
+     * @param colonyId the colony id.
+     * @return the positions of the buildings.
+     */
+    @NotNull
+    List<BlockPos> getClaimingBuildings(final int colonyId);
+
+    /**
+     * Get the number of colonies with building claims on the chunk.
+     *
+     * @return the number of colonies.
+     */
+    int getBuildingClaimColonyCount();
+
+    /**
+     * Get the number of buildings of a colony claiming the chunk.
+     *
+     * @param colonyId the colony id.
+     * @return the number of buildings.
+     */
+    int getBuildingClaimCount(final int colonyId);
+
     void readFromNBT(CompoundTag compound);
 
     /**
      * The implementation of the colonyTagCapability.
+     * <p>
+     * Unclaimed chunks share immutable empty collections, the claims are only given own collections with the first claim. Building positions are stored packed as longs.
      */
     class Impl implements IColonyTagCapability
     {
         /**
-         * The set of all close colonies. Only relevant in non dynamic claiming.
+         * All close colonies, each id once. Only relevant in non dynamic claiming.
          */
-        private Set<Integer> colonies = new HashSet<>();
+        private IntList colonies = IntLists.emptyList();
 
         /**
          * The colony owning the chunk. NO_COLONY_ID If none.
@@ -120,9 +150,9 @@ public interface IColonyTagCapability
         private int owningColony = NO_COLONY_ID;
 
         /**
-         * List of buildings claiming this chunk for a certain colony.
+         * Packed positions of the buildings claiming this chunk for a certain colony.
          */
-        private final Map<Integer, Set<BlockPos>> claimingBuildings = new HashMap<>();
+        private Int2ObjectMap<LongSet> claimingBuildings = Int2ObjectMaps.emptyMap();
 
         @Override
         public void addColony(final int id, final LevelChunk chunk)
@@ -133,7 +163,7 @@ public interface IColonyTagCapability
                 return;
             }
 
-            colonies.add(id);
+            addStaticClaim(id);
             if (owningColony == NO_COLONY_ID || IColonyManager.getInstance().getColonyByDimension(owningColony, chunk.getLevel().dimension()) == null)
             {
                 colony.addLoadedChunk(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z), chunk);
@@ -145,17 +175,24 @@ public interface IColonyTagCapability
         @Override
         public void removeColony(final int id, final LevelChunk chunk)
         {
-            colonies.remove(id);
-            claimingBuildings.remove(id);
+            if (colonies.contains(id))
+            {
+                colonies.rem(id);
+            }
+            if (claimingBuildings.containsKey(id))
+            {
+                claimingBuildings.remove(id);
+            }
+
             if (owningColony == id)
             {
                 if (!claimingBuildings.isEmpty())
                 {
-                    owningColony = claimingBuildings.keySet().iterator().next();
+                    owningColony = claimingBuildings.keySet().iterator().nextInt();
                 }
                 else if (!colonies.isEmpty())
                 {
-                    owningColony = colonies.iterator().next();
+                    owningColony = colonies.getInt(0);
                 }
                 else
                 {
@@ -169,15 +206,19 @@ public interface IColonyTagCapability
         @Override
         public void setStaticColonyClaim(final List<Integer> colonies)
         {
-            this.colonies = new HashSet<>(colonies);
+            this.colonies = IntLists.emptyList();
+            for (final int id : colonies)
+            {
+                addStaticClaim(id);
+            }
         }
 
         @Override
         public void reset(final LevelChunk chunk)
         {
-            colonies.clear();
+            colonies = IntLists.emptyList();
             owningColony = NO_COLONY_ID;
-            claimingBuildings.clear();
+            claimingBuildings = Int2ObjectMaps.emptyMap();
             chunk.setUnsaved(true);
         }
 
@@ -203,30 +244,21 @@ public interface IColonyTagCapability
                 }
             }
 
-            if (claimingBuildings.containsKey(colonyId))
-            {
-                claimingBuildings.get(colonyId).add(pos);
-            }
-            else
-            {
-                final Set<BlockPos> newList = new HashSet<>();
-                newList.add(pos);
-                claimingBuildings.put(colonyId, newList);
-            }
+            addBuildingClaim(colonyId, pos.asLong());
             chunk.setUnsaved(true);
         }
 
         @Override
         public void removeBuildingClaim(final int colonyId, final BlockPos pos, final LevelChunk chunk)
         {
-            if (!claimingBuildings.containsKey(colonyId))
+            final LongSet buildings = claimingBuildings.get(colonyId);
+            if (buildings == null)
             {
                 return;
             }
 
             chunk.setUnsaved(true);
-            final Set<BlockPos> buildings = claimingBuildings.get(colonyId);
-            buildings.remove(pos);
+            buildings.remove(pos.asLong());
 
             if (buildings.isEmpty())
             {
@@ -242,27 +274,27 @@ public interface IColonyTagCapability
                         }
                         else
                         {
-                            owningColony = colonies.iterator().next();
+                            owningColony = colonies.getInt(0);
                         }
                     }
                     else
                     {
-                        for (final Iterator<Map.Entry<Integer, Set<BlockPos>>> colonyIt = claimingBuildings.entrySet().iterator(); colonyIt.hasNext(); )
+                        for (final Iterator<Int2ObjectMap.Entry<LongSet>> colonyIt = claimingBuildings.int2ObjectEntrySet().iterator(); colonyIt.hasNext(); )
                         {
-                            final Map.Entry<Integer, Set<BlockPos>> colonyEntry = colonyIt.next();
-                            final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyEntry.getKey(), chunk.getLevel().dimension());
+                            final Int2ObjectMap.Entry<LongSet> colonyEntry = colonyIt.next();
+                            final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyEntry.getIntKey(), chunk.getLevel().dimension());
                             if (colony == null)
                             {
                                 continue;
                             }
 
-                            for (final Iterator<BlockPos> buildingIt = colonyEntry.getValue().iterator(); buildingIt.hasNext(); )
+                            for (final LongIterator buildingIt = colonyEntry.getValue().iterator(); buildingIt.hasNext(); )
                             {
-                                final BlockPos buildingPos = buildingIt.next();
+                                final BlockPos buildingPos = BlockPos.of(buildingIt.nextLong());
                                 if (colony.getBuildingManager().getBuilding(buildingPos) != null)
                                 {
                                     colony.addLoadedChunk(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z), chunk);
-                                    setOwningColony(colonyEntry.getKey(), chunk);
+                                    setOwningColony(colonyEntry.getIntKey(), chunk);
                                     return;
                                 }
                                 else
@@ -298,14 +330,55 @@ public interface IColonyTagCapability
         @Override
         public List<Integer> getStaticClaimColonies()
         {
-            return new ArrayList<>(colonies);
+            return IntLists.unmodifiable(colonies);
         }
 
         @NotNull
         @Override
         public Map<Integer, Set<BlockPos>> getAllClaimingBuildings()
         {
-            return claimingBuildings;
+            final Map<Integer, Set<BlockPos>> result = new HashMap<>();
+            for (final Int2ObjectMap.Entry<LongSet> entry : claimingBuildings.int2ObjectEntrySet())
+            {
+                final Set<BlockPos> buildings = new HashSet<>();
+                for (final LongIterator it = entry.getValue().iterator(); it.hasNext(); )
+                {
+                    buildings.add(BlockPos.of(it.nextLong()));
+                }
+                result.put(entry.getIntKey(), buildings);
+            }
+            return result;
+        }
+
+        @NotNull
+        @Override
+        public List<BlockPos> getClaimingBuildings(final int colonyId)
+        {
+            final LongSet buildings = claimingBuildings.get(colonyId);
+            if (buildings == null)
+            {
+                return Collections.emptyList();
+            }
+
+            final List<BlockPos> result = new ArrayList<>(buildings.size());
+            for (final LongIterator it = buildings.iterator(); it.hasNext(); )
+            {
+                result.add(BlockPos.of(it.nextLong()));
+            }
+            return result;
+        }
+
+        @Override
+        public int getBuildingClaimColonyCount()
+        {
+            return claimingBuildings.size();
+        }
+
+        @Override
+        public int getBuildingClaimCount(final int colonyId)
+        {
+            final LongSet buildings = claimingBuildings.get(colonyId);
+            return buildings == null ? 0 : buildings.size();
         }
 
         @Override
@@ -316,13 +389,13 @@ public interface IColonyTagCapability
 
             // Fill colonies list
             NBTUtils.streamCompound(compound.getList(TAG_COLONIES, Tag.TAG_COMPOUND))
-              .map(c -> c.getInt(TAG_ID)).forEach(colonies::add);
+              .forEach(c -> addStaticClaim(c.getInt(TAG_ID)));
 
             // Fill claim buildings list
             NBTUtils.streamCompound(compound.getList(TAG_BUILDINGS_CLAIM, Tag.TAG_COMPOUND)).forEach(this::readClaims);
-            if (owningColony == NO_COLONY_ID && !getStaticClaimColonies().isEmpty())
+            if (owningColony == NO_COLONY_ID && !colonies.isEmpty())
             {
-                owningColony = getStaticClaimColonies().get(0);
+                owningColony = colonies.getInt(0);
             }
         }
 
@@ -335,19 +408,48 @@ public interface IColonyTagCapability
         {
             final int id = compound.getInt(TAG_ID);
             NBTUtils.streamCompound(compound.getList(TAG_BUILDINGS, Tag.TAG_COMPOUND)).forEach(
-              tag -> {
-                  final BlockPos pos = BlockPosUtil.read((tag), TAG_BUILDING);
-                  if (claimingBuildings.containsKey(id))
-                  {
-                      claimingBuildings.get(id).add(pos);
-                  }
-                  else
-                  {
-                      final Set<BlockPos> newList = new HashSet<>();
-                      newList.add(pos);
-                      claimingBuildings.put(id, newList);
-                  }
-              });
+              tag -> addBuildingClaim(id, BlockPosUtil.read((tag), TAG_BUILDING).asLong()));
+        }
+
+        /**
+         * Add a static claim if not present yet, replacing the shared empty list on the first claim.
+         *
+         * @param id the colony id.
+         */
+        private void addStaticClaim(final int id)
+        {
+            if (colonies.contains(id))
+            {
+                return;
+            }
+
+            if (colonies.isEmpty())
+            {
+                colonies = new IntArrayList(1);
+            }
+            colonies.add(id);
+        }
+
+        /**
+         * Add a building claim, replacing the shared empty map on the first claim.
+         *
+         * @param colonyId the colony id.
+         * @param pos      the packed building position.
+         */
+        private void addBuildingClaim(final int colonyId, final long pos)
+        {
+            if (claimingBuildings.isEmpty())
+            {
+                claimingBuildings = new Int2ObjectArrayMap<>(1);
+            }
+
+            LongSet buildings = claimingBuildings.get(colonyId);
+            if (buildings == null)
+            {
+                buildings = new LongArraySet(1);
+                claimingBuildings.put(colonyId, buildings);
+            }
+            buildings.add(pos);
         }
     }
 
@@ -211,6 +211,14 @@ public interface IColonyView extends IColony
     @Nullable
     IMessage handleColonyViewCitizensMessage(int id, FriendlyByteBuf buf);
 
+    /**
+     * Update a known citizen of the ColonyView with the changed groups of its data. A citizen not known yet is only created when all groups are contained.
+     *
+     * @param id  ID of the citizen.
+     * @param buf Network data, starting with the bit mask of the contained groups.
+     */
+    void handleColonyViewCitizenDeltaMessage(int id, FriendlyByteBuf buf);
+
     /**
      * Handles visitor view messages
      * @param refresh if all need to be refreshed.
@@ -261,6 +269,14 @@ public interface IColonyView extends IColony
      */
     void handleColonyViewResearchManagerUpdate(CompoundTag compoundTag);
 
+    /**
+     * Handle a request system sync, a snapshot replaces the request system, a delta updates it and asks for a snapshot if a delta got missed.
+     *
+     * @param buf      the data.
+     * @param snapshot whether the data is a snapshot.
+     */
+    void handleColonyViewRequestManagerMessage(@NotNull FriendlyByteBuf buf, boolean snapshot);
+
     /**
      * Update all field instances in the colony view.
      *
@@ -1,7 +1,9 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.entity.citizen.happiness.IHappinessModifier;
+import com.minecolonies.api.util.IHasSaveDirty;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.Level;
@@ -13,7 +15,7 @@ import java.util.List;
 /**
  * The interface of the citizen manager.
  */
-public interface ICitizenManager extends IEntityManager
+public interface ICitizenManager extends IEntityManager, IHasSaveDirty
 {
 
     /**
@@ -76,10 +78,49 @@ public interface ICitizenManager extends IEntityManager
     /**
      * Get all citizens.
      *
-     * @return a copy of the list of citizens.
+     * @return an unmodifiable snapshot of the citizens, only replaced when citizens are added or removed.
      */
     List<ICitizenData> getCitizens();
 
+    /**
+     * Get the citizens with a job of the given type.
+     *
+     * @param type the job type, subclasses match as well.
+     * @param <J>  the job type.
+     * @return an unmodifiable list of the citizens.
+     */
+    <J extends IJob<?>> List<ICitizenData> getCitizensWithJob(@NotNull final Class<J> type);
+
+    /**
+     * Get the citizens working in a building.
+     *
+     * @param buildingPos the position of the building.
+     * @return an unmodifiable list of the citizens.
+     */
+    List<ICitizenData> getCitizensWorkingAt(@NotNull final BlockPos buildingPos);
+
+    /**
+     * Get the citizens living in a building.
+     *
+     * @param buildingPos the position of the building, null for the citizens without home.
+     * @return an unmodifiable list of the citizens.
+     */
+    List<ICitizenData> getCitizensLivingIn(@Nullable final BlockPos buildingPos);
+
+    /**
+     * Get the number of children in the colony.
+     *
+     * @return the count.
+     */
+    int getChildCount();
+
+    /**
+     * Called when the job, home or age of a citizen changed, to update the lookups of citizens.
+     *
+     * @param citizen the citizen.
+     */
+    void onCitizenAssignmentChanged(final ICitizenData citizen);
+
     /**
      * Get max citizens of the colony.
      *
@@ -127,6 +168,27 @@ public interface ICitizenManager extends IEntityManager
      */
     void checkCitizensForHappiness();
 
+    /**
+     * Called when a value of a citizen changed that the colony wide happiness factors depend on: job, home, age, sickness, saturation or entity.
+     *
+     * @param citizen the citizen.
+     */
+    void onHappinessFactorChanged(final ICitizenData citizen);
+
+    /**
+     * Get the colony wide social happiness factor.
+     *
+     * @return the factor.
+     */
+    double getSocialFactor();
+
+    /**
+     * Get the colony wide security happiness factor.
+     *
+     * @return the factor.
+     */
+    double getGuardFactor();
+
     /**
      * Tick the citizen data of all active citizens.
      */
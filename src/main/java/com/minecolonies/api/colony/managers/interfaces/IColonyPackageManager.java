@@ -56,6 +56,18 @@ public interface IColonyPackageManager
      */
     void sendWorkOrderPackets();
 
+    /**
+     * Sends packages to update the request system, deltas to synced subscribers and snapshots to new ones.
+     */
+    void sendRequestManagerPackets();
+
+    /**
+     * Send the subscriber a request system snapshot with the next update, e.g. when it missed a delta.
+     *
+     * @param subscriber the subscriber.
+     */
+    void requestRequestManagerSnapshot(@NotNull ServerPlayer subscriber);
+
     /**
      * Mark the package manager dirty.
      */
@@ -3,11 +3,14 @@ package com.minecolonies.api.colony.managers.interfaces;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IMysticalSite;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.fields.IField;
+import com.minecolonies.api.colony.fields.registry.FieldRegistries;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
+import com.minecolonies.api.util.IHasSaveDirty;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
@@ -28,7 +31,7 @@ import java.util.function.Predicate;
  * Interface for the managers for registered structures.
  * Buildings, Fields, Decorations, etc.
  */
-public interface IRegisteredStructureManager
+public interface IRegisteredStructureManager extends IHasSaveDirty
 {
     /**
      * Read the buildings from NBT.
@@ -95,6 +98,60 @@ public interface IRegisteredStructureManager
     @Nullable
     IBuilding getFirstBuildingMatching(final Predicate<IBuilding> predicate);
 
+    /**
+     * Get the first building of a type matching the conditions.
+     *
+     * @param type      the building class or interface.
+     * @param predicate the predicate matching the building.
+     * @param <B>       the type of building.
+     * @return the building or null.
+     */
+    @Nullable
+    <B extends IBuilding> B getFirstBuildingMatching(final Class<B> type, final Predicate<? super B> predicate);
+
+    /**
+     * Get all buildings of the colony of a certain type.
+     *
+     * @param type the building class or interface.
+     * @param <B>  the type of building.
+     * @return an unmodifiable list of the buildings.
+     */
+    @NotNull
+    <B extends IBuilding> List<B> getBuildingsOfType(final Class<B> type);
+
+    /**
+     * Get the building of a type closest to a position which matches the conditions.
+     *
+     * @param pos       the position.
+     * @param type      the building class or interface.
+     * @param predicate the predicate matching the building.
+     * @param <B>       the type of building.
+     * @return the building or null.
+     */
+    @Nullable
+    <B extends IBuilding> B getClosestBuilding(final BlockPos pos, final Class<B> type, final Predicate<? super B> predicate);
+
+    /**
+     * Get the buildings of a type within a horizontal range of a position.
+     *
+     * @param pos   the position.
+     * @param range the range in blocks.
+     * @param type  the building class or interface.
+     * @param <B>   the type of building.
+     * @return the buildings.
+     */
+    @NotNull
+    <B extends IBuilding> List<B> getBuildingsInRange(final BlockPos pos, final int range, final Class<B> type);
+
+    /**
+     * Get all buildings of the colony which have a module of a certain type.
+     *
+     * @param module the module class or interface.
+     * @return an unmodifiable list of the buildings.
+     */
+    @NotNull
+    List<IBuilding> getBuildingsWithModule(final Class<? extends IBuildingModule> module);
+
     /**
      * Register a new leisure site.
      *
@@ -225,6 +282,15 @@ public interface IRegisteredStructureManager
      */
     BlockPos getRandomBuilding(Predicate<IBuilding> filterPredicate);
 
+    /**
+     * Returns a random building in the colony with a module of a certain type, matching the filter predicate.
+     *
+     * @param module          the module class or interface.
+     * @param filterPredicate the filter to apply.
+     * @return the random building. Returns null if no building matching the predicate was found.
+     */
+    BlockPos getRandomBuildingWithModule(Class<? extends IBuildingModule> module, Predicate<IBuilding> filterPredicate);
+
     /**
      * Finds whether there is a guard building close to the given building
      *
@@ -316,6 +382,23 @@ public interface IRegisteredStructureManager
      */
     BlockPos getRandomLeisureSite();
 
+    /**
+     * Get all the fields of a type.
+     *
+     * @param type the field type.
+     * @return an unmodifiable list of the fields.
+     */
+    @NotNull List<IField> getFields(FieldRegistries.FieldEntry type);
+
+    /**
+     * Get the field of a type on the given location.
+     *
+     * @param type     the field type.
+     * @param position the position of the field.
+     * @return the field, if any.
+     */
+    Optional<IField> getField(FieldRegistries.FieldEntry type, BlockPos position);
+
     /**
      * Get all the fields
      *
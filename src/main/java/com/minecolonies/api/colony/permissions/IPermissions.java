@@ -196,4 +196,9 @@ public interface IPermissions
     void removeRank(Rank rank);
 
     Set<ColonyPlayer> getFilteredPlayers(Predicate<Rank> p);
+
+    /**
+     * Mark the permissions as changed, used after editing a rank directly.
+     */
+    void markDirty();
 }
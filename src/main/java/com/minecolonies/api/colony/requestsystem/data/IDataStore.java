@@ -20,4 +20,21 @@ public interface IDataStore
      * @param id The new Id.
      */
     void setId(IToken<?> id);
+
+    /**
+     * Check if the store changed since it got last synced to the clients.
+     *
+     * @return true if so.
+     */
+    boolean isDirty();
+
+    /**
+     * Marks the store as changed, to sync it to the clients. Has to be called by everything changing the contents of the store.
+     */
+    void markDirty();
+
+    /**
+     * Clears the changed flag after syncing the store.
+     */
+    void clearDirty();
 }
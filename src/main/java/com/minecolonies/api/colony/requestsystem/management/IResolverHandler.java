@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.requestsystem.management;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -8,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -92,6 +94,17 @@ public interface IResolverHandler
      */
     IRequestResolver<? extends IRequestable> getResolver(IToken<?> token);
 
+    /**
+     * Get the resolvers that may handle a request of the given types, sorted by descending priority and then by the order of the types.
+     * <p>
+     * The array is cached until a resolver registers or unregisters and must not be modified.
+     * </p>
+     *
+     * @param requestTypes The types of the request, see {@link IRequest#getSuperClasses()}.
+     * @return The sorted resolvers without duplicates.
+     */
+    IRequestResolver<?>[] getResolversForTypes(Set<TypeToken<?>> requestTypes);
+
     void removeResolverInternal(IRequestResolver<?> resolver);
 
     /**
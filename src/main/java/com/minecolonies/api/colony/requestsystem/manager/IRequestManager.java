@@ -13,6 +13,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.player.IPlayerRequestR
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.tileentities.ITickable;
+import com.minecolonies.api.util.IHasSaveDirty;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
@@ -26,7 +27,7 @@ import java.util.function.Predicate;
 /**
  * Interface used to describe classes that function as managers for requests inside a colony. Extends INBTSerializable to allow for easy reading and writing from NBT.
  */
-public interface IRequestManager extends INBTSerializable<CompoundTag>, ITickable
+public interface IRequestManager extends INBTSerializable<CompoundTag>, ITickable, IHasSaveDirty
 {
 
     /**
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.IHasSaveDirty;
 import net.minecraft.core.NonNullList;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
@@ -27,7 +28,7 @@ import java.util.Set;
  *
  * @param <R> The type of request, eg ItemStack, FluidStack etc.
  */
-public interface IRequest<R extends IRequestable>
+public interface IRequest<R extends IRequestable> extends IHasSaveDirty
 {
     /**
      * Method to get the assigning strategy for this request.
@@ -303,4 +304,22 @@ public interface IRequest<R extends IRequestable>
      * Reset the deliveries of the request.
      */
     void resetDeliveries();
+
+    /**
+     * Check if the request changed since it got last synced to the clients.
+     *
+     * @return true if so.
+     */
+    boolean isDirty();
+
+    /**
+     * Marks the request as changed, to sync it to the clients. The setters of the request call this themselves, code changing the requestable of the request in place has
+     * to call it.
+     */
+    void markDirty();
+
+    /**
+     * Clears the changed flag after syncing the request.
+     */
+    void clearDirty();
 }
@@ -126,6 +126,19 @@ public interface IWorkManager
      */
     List<IWorkOrder> getOrderedList(@NotNull Predicate<IWorkOrder> predicate, final BlockPos builder);
 
+    /**
+     * Get the work orders claimed by a building.
+     *
+     * @param building the position of the building.
+     * @return the claimed work orders, empty if none.
+     */
+    List<IWorkOrder> getWorkOrdersClaimedBy(BlockPos building);
+
+    /**
+     * Assigns the unclaimed work orders to the idle builders of the colony, by priority, each to the closest builder able to do it. Runs at most once per game tick.
+     */
+    void assignBuilders();
+
     /**
      * Checks if changes has been made.
      *
@@ -1,5 +1,6 @@
 package com.minecolonies.api.quests;
 
+import com.minecolonies.api.util.IHasSaveDirty;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
@@ -13,7 +14,7 @@ import java.util.Map;
 /**
  * Interface of the Quest manager of each colony.
  */
-public interface IQuestManager extends INBTSerializable<CompoundTag>
+public interface IQuestManager extends INBTSerializable<CompoundTag>, IHasSaveDirty
 {
     /**
      * All quests that exist.
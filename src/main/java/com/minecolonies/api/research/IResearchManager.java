@@ -1,6 +1,7 @@
 package com.minecolonies.api.research;
 
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.util.IHasSaveDirty;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -12,7 +13,7 @@ import java.util.Set;
 /**
  * Research manager of the colony holding the tree and effects.
  */
-public interface IResearchManager
+public interface IResearchManager extends IHasSaveDirty
 {
     /**
      * Reads all stats from nbt.
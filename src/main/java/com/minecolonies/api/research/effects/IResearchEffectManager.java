@@ -27,6 +27,15 @@ public interface IResearchEffectManager
      */
      double getEffectStrength(final ResourceLocation id);
 
+    /**
+     * Get the research effect strength by the handle of the effect id, see {@link ResearchEffectHandles},
+     * or zero, if no matching effect is present.
+     *
+     * @param handle the handle of the effect id.
+     * @return the strength of the effect, 1 by default for researches effects which do not have values configured, or zero if it isn't present.
+     */
+    double getEffectStrength(final int handle);
+
     /**
      * Apply the effect to the research effects class.
      *
@@ -0,0 +1,75 @@
+package com.minecolonies.api.research.effects;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense integer handles for research effect ids. Each id gets the next free handle the first time it is seen and keeps it for the lifetime of the game, so effect strengths
+ * can be kept in arrays and hot code can hold the handle instead of looking up the id every time.
+ */
+public final class ResearchEffectHandles
+{
+    /**
+     * Handle returned by {@link #findHandle(ResourceLocation)} for ids without one.
+     */
+    public static final int NO_HANDLE = -1;
+
+    /**
+     * The handle of each id seen so far.
+     */
+    private static final Map<ResourceLocation, Integer> handles = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ResearchEffectHandles()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the handle of a research effect id, assigning the next free one if the id is new.
+     *
+     * @param id the effect id.
+     * @return the handle.
+     */
+    public static int getHandle(@NotNull final ResourceLocation id)
+    {
+        final Integer handle = handles.get(id);
+        if (handle != null)
+        {
+            return handle;
+        }
+
+        synchronized (handles)
+        {
+            return handles.computeIfAbsent(id, key -> handles.size());
+        }
+    }
+
+    /**
+     * Get the handle of a research effect id without assigning one.
+     *
+     * @param id the effect id.
+     * @return the handle or {@link #NO_HANDLE} if the id has none yet.
+     */
+    public static int findHandle(@NotNull final ResourceLocation id)
+    {
+        return handles.getOrDefault(id, NO_HANDLE);
+    }
+
+    /**
+     * Get the number of handles assigned so far.
+     *
+     * @return the count.
+     */
+    public static int getHandleCount()
+    {
+        return handles.size();
+    }
+}
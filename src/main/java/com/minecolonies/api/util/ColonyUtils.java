@@ -82,6 +82,41 @@ public final class ColonyUtils
         return cap == null ? new HashMap<>() : cap.getAllClaimingBuildings();
     }
 
+    /**
+     * Get the buildings of a colony claiming the chunk.
+     * @param chunk    the chunk they are at.
+     * @param colonyId the colony id.
+     * @return the positions of the buildings.
+     */
+    public static List<BlockPos> getClaimingBuildings(final LevelChunk chunk, final int colonyId)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        return cap == null ? Collections.emptyList() : cap.getClaimingBuildings(colonyId);
+    }
+
+    /**
+     * Get the number of colonies with building claims on the chunk.
+     * @param chunk the chunk they are at.
+     * @return the number of colonies.
+     */
+    public static int getBuildingClaimColonyCount(final LevelChunk chunk)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        return cap == null ? 0 : cap.getBuildingClaimColonyCount();
+    }
+
+    /**
+     * Get the number of buildings of a colony claiming the chunk.
+     * @param chunk    the chunk they are at.
+     * @param colonyId the colony id.
+     * @return the number of buildings.
+     */
+    public static int getBuildingClaimCount(final LevelChunk chunk, final int colonyId)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        return cap == null ? 0 : cap.getBuildingClaimCount(colonyId);
+    }
+
     /**
      * Get all static claims from a chunk.
      * @param chunk the chunk to get it from.
@@ -0,0 +1,23 @@
+package com.minecolonies.api.util;
+
+/**
+ * Interface for colony parts that track changes since they were last written to disk, separate from the client sync dirty state.
+ */
+public interface IHasSaveDirty
+{
+    /**
+     * Mark the part as changed since the last save.
+     */
+    void markSaveDirty();
+
+    /**
+     * Check if the part changed since the last save.
+     * @return true if so.
+     */
+    boolean isSaveDirty();
+
+    /**
+     * Clear the save dirty setting, only called after the part got written.
+     */
+    void clearSaveDirty();
+}
@@ -272,4 +272,74 @@ public final class CitizenConstants
      * Disabled timer.
      */
     public static final int DISABLED = -1;
+
+    /**
+     * Citizen view group: name, gender, colony, parents and texture. Partial view updates carry the changed groups in the order of these indices.
+     */
+    public static final int VIEW_GROUP_IDENTITY = 0;
+
+    /**
+     * Citizen view group: entity, pause and age state, home, work building and job name.
+     */
+    public static final int VIEW_GROUP_STATE = 1;
+
+    /**
+     * Citizen view group: saturation and happiness.
+     */
+    public static final int VIEW_GROUP_NEEDS = 2;
+
+    /**
+     * Citizen view group: skills.
+     */
+    public static final int VIEW_GROUP_SKILLS = 3;
+
+    /**
+     * Citizen view group: inventory.
+     */
+    public static final int VIEW_GROUP_INVENTORY = 4;
+
+    /**
+     * Citizen view group: visible interactions.
+     */
+    public static final int VIEW_GROUP_INTERACTIONS = 5;
+
+    /**
+     * Citizen view group: happiness modifiers.
+     */
+    public static final int VIEW_GROUP_HAPPINESS = 6;
+
+    /**
+     * Citizen view group: status icon and position.
+     */
+    public static final int VIEW_GROUP_STATUS = 7;
+
+    /**
+     * Citizen view group: job view data.
+     */
+    public static final int VIEW_GROUP_JOB = 8;
+
+    /**
+     * Citizen view group: partner, siblings and children.
+     */
+    public static final int VIEW_GROUP_FAMILY = 9;
+
+    /**
+     * Citizen view group: available and participating quests.
+     */
+    public static final int VIEW_GROUP_QUESTS = 10;
+
+    /**
+     * Citizen view group: last position.
+     */
+    public static final int VIEW_GROUP_POSITION = 11;
+
+    /**
+     * Number of citizen view groups.
+     */
+    public static final int VIEW_GROUP_COUNT = 12;
+
+    /**
+     * Bit mask of all citizen view groups.
+     */
+    public static final int VIEW_GROUPS_ALL = (1 << VIEW_GROUP_COUNT) - 1;
 }
@@ -25,11 +25,13 @@ import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.quests.IQuestDeliveryObjective;
 import com.minecolonies.api.quests.IQuestInstance;
 import com.minecolonies.api.quests.IQuestManager;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.Network;
 import com.minecolonies.core.colony.buildings.modules.LivingBuildingModule;
+import com.minecolonies.core.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.core.colony.interactionhandling.QuestDeliveryInteraction;
 import com.minecolonies.core.colony.interactionhandling.QuestDialogueInteraction;
 import com.minecolonies.core.colony.interactionhandling.ServerCitizenInteraction;
@@ -38,6 +40,7 @@ import com.minecolonies.core.entity.citizen.EntityCitizen;
 import com.minecolonies.core.entity.citizen.citizenhandlers.*;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewCitizenViewMessage;
 import com.minecolonies.core.util.AttributeModifierUtils;
+import io.netty.buffer.Unpooled;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.*;
 import net.minecraft.network.FriendlyByteBuf;
@@ -75,6 +78,16 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 @SuppressWarnings({Suppression.BIG_CLASS, "PMD.ExcessiveClassLength"})
 public class CitizenData implements ICitizenData
 {
+    /**
+     * Handle of the {@code WALKING} research effect.
+     */
+    private static final int WALKING_EFFECT = ResearchEffectHandles.getHandle(WALKING);
+
+    /**
+     * Handle of the {@code MORE_AIR} research effect.
+     */
+    private static final int MORE_AIR_EFFECT = ResearchEffectHandles.getHandle(MORE_AIR);
+
     /**
      * The max health.
      */
@@ -181,6 +194,12 @@ public class CitizenData implements ICitizenData
      */
     private int dirty = Integer.MAX_VALUE;
 
+    /**
+     * Serialized view groups as last sent to the close subscribers, null before the first partial update and after every full view.
+     */
+    @Nullable
+    private byte[][] syncedViewGroups = null;
+
     /**
      * Its entitity.
      */
@@ -378,7 +397,9 @@ public class CitizenData implements ICitizenData
 
         if (citizen != null && citizen.isRemoved())
         {
+            // Removed entities are usually noticed here first, the sickness of the citizen stops counting with it
             entity.clear();
+            onHappinessFactorChanged();
             return Optional.empty();
         }
 
@@ -394,6 +415,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setVoiceProfile(final int profile)
     {
+        markSaveDirty();
         this.voiceProfile = profile;
     }
 
@@ -410,6 +432,30 @@ public class CitizenData implements ICitizenData
             entity = new WeakReference<>((AbstractEntityCitizen) citizen);
             citizen.setCivilianData(this);
         }
+        onHappinessFactorChanged();
+    }
+
+    /**
+     * Informs the colony about a changed job, home or age, which it looks citizens up by.
+     */
+    private void onAssignmentChanged()
+    {
+        if (colony.getCitizenManager() != null)
+        {
+            colony.getCitizenManager().onCitizenAssignmentChanged(this);
+        }
+        onHappinessFactorChanged();
+    }
+
+    /**
+     * Informs the colony about a change of a value its happiness factors count.
+     */
+    private void onHappinessFactorChanged()
+    {
+        if (colony.getCitizenManager() != null)
+        {
+            colony.getCitizenManager().onHappinessFactorChanged(this);
+        }
     }
 
     @Override
@@ -432,6 +478,18 @@ public class CitizenData implements ICitizenData
         {
             colony.getCitizenManager().markDirty();
         }
+        markSaveDirty();
+    }
+
+    /**
+     * Marks the citizen data as changed since the last save, also for changes not synced to the client.
+     */
+    private void markSaveDirty()
+    {
+        if (colony != null && colony.getCitizenManager() != null)
+        {
+            colony.getCitizenManager().markSaveDirty();
+        }
     }
 
     /**
@@ -670,6 +728,7 @@ public class CitizenData implements ICitizenData
      */
     public void generateName(@NotNull final Random rand, final String firstParentName, final String secondParentName, final CitizenNameFile nameFile)
     {
+        markSaveDirty();
         String nameA = firstParentName;
         String nameB = secondParentName;
 
@@ -809,6 +868,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setGender(final boolean isFemale)
     {
+        markSaveDirty();
         this.female = isFemale;
     }
 
@@ -858,6 +918,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void onRemoveBuilding(final IBuilding building)
     {
+        markSaveDirty();
         if (homeBuilding != null && homeBuilding.getID().equals(building.getID()))
         {
             setHomeBuilding(null);
@@ -886,6 +947,7 @@ public class CitizenData implements ICitizenData
 
         homeBuilding = building;
         markDirty(0);
+        onAssignmentChanged();
 
         if (getEntity().isPresent() && getEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
@@ -947,6 +1009,7 @@ public class CitizenData implements ICitizenData
         getEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
         markDirty(0);
+        onAssignmentChanged();
     }
 
     @Override
@@ -964,132 +1027,197 @@ public class CitizenData implements ICitizenData
     @Override
     public void serializeViewNetworkData(@NotNull final FriendlyByteBuf buf)
     {
-        buf.writeUtf(name);
-        buf.writeBoolean(female);
-
-        buf.writeInt(getEntity().map(AbstractEntityCitizen::getId).orElse(-1));
-
-        buf.writeBoolean(paused);
-
-        buf.writeBoolean(isChild);
-
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
+        for (int group = 0; group < VIEW_GROUP_COUNT; group++)
         {
-            buf.writeBlockPos(homeBuilding.getID());
+            serializeViewGroup(group, buf);
         }
+        // Receivers of a full view may hold newer groups than the delta baseline, so the next delta has to carry every group.
+        syncedViewGroups = null;
+    }
 
-        buf.writeBoolean(getWorkBuilding() != null);
-        if (getWorkBuilding() != null)
-        {
-            buf.writeBlockPos(getWorkBuilding().getID());
-        }
-
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness(getColony(), this));
-
-        buf.writeNbt(citizenSkillHandler.write());
-
-        buf.writeUtf((job != null) ? job.getJobRegistryEntry().getTranslationKey() : "");
-
-        buf.writeInt(colony.getID());
-
-        final CompoundTag compound = new CompoundTag();
-        inventory.write(compound);
-        buf.writeNbt(compound);
-        buf.writeBlockPos(lastPosition);
-
-        if (colony.getWorld() != null)
+    @Override
+    public int serializeViewNetworkDelta(@NotNull final FriendlyByteBuf buf)
+    {
+        final byte[][] groups = new byte[VIEW_GROUP_COUNT][];
+        final FriendlyByteBuf groupBuffer = new FriendlyByteBuf(Unpooled.buffer());
+        int changed = 0;
+        int fullSize = 0;
+        for (int group = 0; group < VIEW_GROUP_COUNT; group++)
         {
-            final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).toList();
+            groupBuffer.clear();
+            serializeViewGroup(group, groupBuffer);
+            groups[group] = new byte[groupBuffer.readableBytes()];
+            groupBuffer.readBytes(groups[group]);
+            fullSize += groups[group].length;
 
-            buf.writeInt(subInteractions.size());
-            for (final IInteractionResponseHandler interactionHandler : subInteractions)
+            if (syncedViewGroups == null || !Arrays.equals(groups[group], syncedViewGroups[group]))
             {
-                buf.writeNbt(interactionHandler.serializeNBT());
+                changed |= 1 << group;
             }
         }
-        else
+        groupBuffer.release();
+        syncedViewGroups = groups;
+
+        buf.writeInt(changed);
+        for (int group = 0; group < VIEW_GROUP_COUNT; group++)
         {
-            buf.writeInt(0);
+            if ((changed & (1 << group)) != 0)
+            {
+                buf.writeBytes(groups[group]);
+            }
         }
+        return fullSize;
+    }
 
-        final CompoundTag happinessCompound = new CompoundTag();
-        citizenHappinessHandler.write(happinessCompound, false);
-        buf.writeNbt(happinessCompound);
-
-        buf.writeInt(status != null ? status.getId() : -1);
+    /**
+     * Writes one group of the view data, read by {@link CitizenDataView} in the same order.
+     *
+     * @param group the group index.
+     * @param buf   the buffer to write to.
+     */
+    private void serializeViewGroup(final int group, @NotNull final FriendlyByteBuf buf)
+    {
+        switch (group)
+        {
+            case VIEW_GROUP_IDENTITY:
+                buf.writeUtf(name);
+                buf.writeBoolean(female);
+                buf.writeInt(colony.getID());
+                buf.writeUtf(parents.getA());
+                buf.writeUtf(parents.getB());
+                buf.writeBoolean(textureUUID != null);
+                if (textureUUID != null)
+                {
+                    buf.writeUUID(textureUUID);
+                }
+                break;
+            case VIEW_GROUP_STATE:
+                buf.writeInt(getEntity().map(AbstractEntityCitizen::getId).orElse(-1));
+                buf.writeBoolean(paused);
+                buf.writeBoolean(isChild);
 
-        buf.writeBoolean(statusPosition != null);
-        if (statusPosition != null)
-        {
-            buf.writeBlockPos(statusPosition);
-        }
+                buf.writeBoolean(homeBuilding != null);
+                if (homeBuilding != null)
+                {
+                    buf.writeBlockPos(homeBuilding.getID());
+                }
 
-        buf.writeBoolean(job != null);
-        if (job != null)
-        {
-            job.serializeToView(buf);
-        }
+                buf.writeBoolean(getWorkBuilding() != null);
+                if (getWorkBuilding() != null)
+                {
+                    buf.writeBlockPos(getWorkBuilding().getID());
+                }
 
-        if (colony.getCitizenManager().getCivilian(partner) == null)
-        {
-            partner = 0;
-        }
+                buf.writeUtf((job != null) ? job.getJobRegistryEntry().getTranslationKey() : "");
+                break;
+            case VIEW_GROUP_NEEDS:
+                buf.writeDouble(getSaturation());
+                buf.writeDouble(citizenHappinessHandler.getHappiness(getColony(), this));
+                break;
+            case VIEW_GROUP_SKILLS:
+                buf.writeNbt(citizenSkillHandler.write());
+                break;
+            case VIEW_GROUP_INVENTORY:
+                final CompoundTag compound = new CompoundTag();
+                inventory.write(compound);
+                buf.writeNbt(compound);
+                break;
+            case VIEW_GROUP_INTERACTIONS:
+                if (colony.getWorld() != null)
+                {
+                    final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).toList();
 
-        siblings.removeIf(s -> colony.getCitizenManager().getCivilian(s) == null);
-        children.removeIf(c -> colony.getCitizenManager().getCivilian(c) == null);
+                    buf.writeInt(subInteractions.size());
+                    for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                    {
+                        buf.writeNbt(interactionHandler.serializeNBT());
+                    }
+                }
+                else
+                {
+                    buf.writeInt(0);
+                }
+                break;
+            case VIEW_GROUP_HAPPINESS:
+                final CompoundTag happinessCompound = new CompoundTag();
+                citizenHappinessHandler.write(happinessCompound, false);
+                buf.writeNbt(happinessCompound);
+                break;
+            case VIEW_GROUP_STATUS:
+                buf.writeInt(status != null ? status.getId() : -1);
 
-        buf.writeInt(partner);
-        buf.writeInt(siblings.size());
-        for (int sibling : siblings)
-        {
-            buf.writeInt(sibling);
-        }
-        buf.writeInt(children.size());
-        for (int child : children)
-        {
-            buf.writeInt(child);
-        }
-        buf.writeUtf(parents.getA());
-        buf.writeUtf(parents.getB());
+                buf.writeBoolean(statusPosition != null);
+                if (statusPosition != null)
+                {
+                    buf.writeBlockPos(statusPosition);
+                }
+                break;
+            case VIEW_GROUP_JOB:
+                buf.writeBoolean(job != null);
+                if (job != null)
+                {
+                    job.serializeToView(buf);
+                }
+                break;
+            case VIEW_GROUP_FAMILY:
+                if (colony.getCitizenManager().getCivilian(partner) == null)
+                {
+                    partner = 0;
+                }
 
-        buf.writeInt(availableQuests.size());
-        for (final ResourceLocation av : availableQuests)
-        {
-            buf.writeResourceLocation(av);
-        }
+                siblings.removeIf(s -> colony.getCitizenManager().getCivilian(s) == null);
+                children.removeIf(c -> colony.getCitizenManager().getCivilian(c) == null);
 
-        buf.writeInt(participatingQuests.size());
-        for (final ResourceLocation av : participatingQuests)
-        {
-            buf.writeResourceLocation(av);
-        }
+                buf.writeInt(partner);
+                buf.writeInt(siblings.size());
+                for (int sibling : siblings)
+                {
+                    buf.writeInt(sibling);
+                }
+                buf.writeInt(children.size());
+                for (int child : children)
+                {
+                    buf.writeInt(child);
+                }
+                break;
+            case VIEW_GROUP_QUESTS:
+                buf.writeInt(availableQuests.size());
+                for (final ResourceLocation av : availableQuests)
+                {
+                    buf.writeResourceLocation(av);
+                }
 
-        if (textureUUID == null)
-        {
-            buf.writeBoolean(false);
-        }
-        else
-        {
-            buf.writeBoolean(true);
-            buf.writeUUID(textureUUID);
+                buf.writeInt(participatingQuests.size());
+                for (final ResourceLocation av : participatingQuests)
+                {
+                    buf.writeResourceLocation(av);
+                }
+                break;
+            case VIEW_GROUP_POSITION:
+                buf.writeBlockPos(lastPosition);
+                break;
+            default:
+                break;
         }
     }
 
     @Override
     public void increaseSaturation(final double extraSaturation)
     {
+        markSaveDirty();
         this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        onHappinessFactorChanged();
     }
 
     @Override
     public void decreaseSaturation(final double extraSaturation)
     {
+        markSaveDirty();
         if (colony != null && colony.isActive())
         {
             this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation * MineColonies.getConfig().getServer().foodModifier.get()));
             this.justAte = false;
+            onHappinessFactorChanged();
         }
     }
 
@@ -1103,6 +1231,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setLastPosition(final BlockPos lastPosition)
     {
+        markSaveDirty();
         this.lastPosition = lastPosition;
     }
 
@@ -1121,7 +1250,9 @@ public class CitizenData implements ICitizenData
     @Override
     public void setSaturation(final double saturation)
     {
+        markSaveDirty();
         this.saturation = saturation;
+        onHappinessFactorChanged();
     }
 
     @Override
@@ -1145,12 +1276,14 @@ public class CitizenData implements ICitizenData
     @Override
     public void setAsleep(final boolean asleep)
     {
+        markSaveDirty();
         isAsleep = asleep;
     }
 
     @Override
     public void setBedPos(final BlockPos bedPos)
     {
+        markSaveDirty();
         this.bedPos = bedPos;
     }
 
@@ -1187,6 +1320,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void scheduleRestart(final ServerPlayer player)
     {
+        markSaveDirty();
         originPlayerRestart = player;
         restartScheduled = true;
     }
@@ -1200,6 +1334,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void restartDone()
     {
+        markSaveDirty();
         restartScheduled = false;
         MessageUtils.format(MESSAGE_CITIZEN_RESTARTED, getName()).sendTo(originPlayerRestart);
     }
@@ -1209,6 +1344,7 @@ public class CitizenData implements ICitizenData
     {
         this.isChild = isChild;
         markDirty(0);
+        onAssignmentChanged();
 
         if (colony != null)
         {
@@ -1231,6 +1367,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setJustAte(final boolean justAte)
     {
+        markSaveDirty();
         this.justAte = justAte;
     }
 
@@ -1346,6 +1483,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void deserializeNBT(final CompoundTag nbtTagCompound)
     {
+        markSaveDirty();
         name = nbtTagCompound.getString(TAG_NAME);
         female = nbtTagCompound.getBoolean(TAG_FEMALE);
         paused = nbtTagCompound.getBoolean(TAG_PAUSED);
@@ -1636,6 +1774,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setIdleAtJob(final boolean idle)
     {
+        markSaveDirty();
         this.idle = idle;
     }
 
@@ -1648,6 +1787,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setSuffix(final String suffix)
     {
+        markSaveDirty();
         this.textureSuffix = suffix;
     }
 
@@ -1668,6 +1808,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void onRequestCancelled(@NotNull final IToken<?> token)
     {
+        markSaveDirty();
         if (isRequestAsync(token))
         {
             job.getAsyncRequests().remove(token);
@@ -1739,6 +1880,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void applyResearchEffects()
     {
+        markSaveDirty();
         if (getEntity().isPresent())
         {
             final AbstractEntityCitizen citizen = getEntity().get();
@@ -1748,7 +1890,7 @@ public class CitizenData implements ICitizenData
             citizen.getNavigation().getPathingOptions().setCanClimbAdvanced(((EntityCitizen) citizen).canClimbVines());
 
             final AttributeModifier speedModifier = new AttributeModifier(RESEARCH_BONUS_MULTIPLIER,
-              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING),
+              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING_EFFECT),
               AttributeModifier.Operation.MULTIPLY_TOTAL);
             AttributeModifierUtils.addModifier(citizen, speedModifier, Attributes.MOVEMENT_SPEED);
 
@@ -1758,7 +1900,7 @@ public class CitizenData implements ICitizenData
                 AttributeModifier.Operation.ADDITION);
             AttributeModifierUtils.addHealthModifier(citizen, healthModLevel);
 
-            if (getColony().getResearchManager().getResearchEffects().getEffectStrength(MORE_AIR) > 0)
+            if (getColony().getResearchManager().getResearchEffects().getEffectStrength(MORE_AIR_EFFECT) > 0)
             {
                 ((EntityCitizen) citizen).setMaxAir(600);
             }
@@ -1794,6 +1936,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setNextRespawnPosition(final BlockPos pos)
     {
+        markSaveDirty();
         nextRespawnPos = pos;
     }
 
@@ -1823,6 +1966,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void onResurrect()
     {
+        markSaveDirty();
         this.homeBuilding = null;
         setJob(null);
     }
@@ -1830,6 +1974,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setWorking(final boolean isWorking)
     {
+        markSaveDirty();
         if (isWorking && !this.isWorking)
         {
             if (job != null)
@@ -1874,24 +2019,28 @@ public class CitizenData implements ICitizenData
     @Override
     public void addSiblings(final Integer... siblings)
     {
+        markSaveDirty();
         Collections.addAll(this.siblings, siblings);
     }
 
     @Override
     public void addChildren(final Integer... children)
     {
+        markSaveDirty();
         Collections.addAll(this.children, children);
     }
 
     @Override
     public void setPartner(final int id)
     {
+        markSaveDirty();
         this.partner = id;
     }
 
     @Override
     public void onDeath(final Integer id)
     {
+        markSaveDirty();
         this.children.remove(id);
         this.siblings.remove(id);
         if (this.partner.equals(id))
@@ -1903,18 +2052,21 @@ public class CitizenData implements ICitizenData
     @Override
     public void setParents(final String firstParent, final String secondParent)
     {
+        markSaveDirty();
         this.parents = new Tuple<>(firstParent, secondParent);
     }
 
     @Override
     public void setIdleDays(final int days)
     {
+        markSaveDirty();
 
     }
 
     @Override
     public void assignQuest(final IQuestInstance quest)
     {
+        markSaveDirty();
         this.availableQuests.add(quest.getId());
     }
 
@@ -1936,12 +2088,14 @@ public class CitizenData implements ICitizenData
     @Override
     public void addQuestParticipation(final IQuestInstance quest)
     {
+        markSaveDirty();
         this.participatingQuests.add(quest.getId());
     }
 
     @Override
     public void onQuestDeletion(final ResourceLocation questId)
     {
+        markSaveDirty();
         this.availableQuests.remove(questId);
         this.participatingQuests.remove(questId);
     }
@@ -1955,6 +2109,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void onQuestCompletion(final ResourceLocation questId)
     {
+        markSaveDirty();
         if (this.availableQuests.contains(questId))
         {
             this.availableQuests.remove(questId);
@@ -1976,6 +2131,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void onInteractionClosed(final Component key, final ServerPlayer sender)
     {
+        markSaveDirty();
         final IInteractionResponseHandler chatOption = citizenChatOptions.get(key);
         if (chatOption != null)
         {
@@ -1996,6 +2152,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void setCustomTexture(final UUID texture)
     {
+        markSaveDirty();
         this.textureUUID = texture;
     }
 
@@ -2021,12 +2178,15 @@ public class CitizenData implements ICitizenData
 
         if (colony != null)
         {
-            final IBuilding tavern = colony.getBuildingManager().getFirstBuildingMatching(b -> b.getBuildingType() == ModBuildings.tavern.get());
-            if (tavern != null)
+            for (final IBuilding tavern : colony.getBuildingManager().getBuildingsWithModule(TavernBuildingModule.class))
             {
-                return tavern.getStandingPosition();
+                if (tavern.getBuildingType() == ModBuildings.tavern.get())
+                {
+                    return tavern.getStandingPosition();
+                }
             }
-            else if (colony.getBuildingManager().getTownHall() != null)
+
+            if (colony.getBuildingManager().getTownHall() != null)
             {
                 return colony.getBuildingManager().getTownHall().getPosition();
             }
@@ -34,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_OFFHAND_HELD_ITEM_SLOT;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_CITIZEN_UNEMPLOYED;
 
@@ -323,99 +324,141 @@ public class CitizenDataView implements ICitizenDataView
     @Override
     public void deserialize(@NotNull final FriendlyByteBuf buf)
     {
-        name = buf.readUtf(32767);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-        paused = buf.readBoolean();
-        isChild = buf.readBoolean();
-
-        homeBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
-        workBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
-
-        saturation = buf.readDouble();
-        happiness = buf.readDouble();
-
-        citizenSkillHandler.read(buf.readNbt());
-
-        job = buf.readUtf(32767);
-
-        colonyId = buf.readInt();
-
-        final CompoundTag compound = buf.readNbt();
-        inventory = new InventoryCitizen(this.name, true);
-        this.inventory.read(compound);
-        this.inventory.setHeldItem(InteractionHand.MAIN_HAND, compound.getInt(TAG_HELD_ITEM_SLOT));
-        this.inventory.setHeldItem(InteractionHand.OFF_HAND, compound.getInt(TAG_OFFHAND_HELD_ITEM_SLOT));
-
-        position = buf.readBlockPos();
-
-        citizenChatOptions.clear();
-        final int size = buf.readInt();
-        for (int i = 0; i < size; i++)
-        {
-            final CompoundTag compoundNBT = buf.readNbt();
-            final ServerCitizenInteraction handler =
-              (ServerCitizenInteraction) MinecoloniesAPIProxy.getInstance().getInteractionResponseHandlerDataManager().createFrom(this, compoundNBT);
-            citizenChatOptions.put(handler.getInquiry(), handler);
-        }
-
-        sortedInteractions = new ArrayList<>(citizenChatOptions.values());
-        sortedInteractions.sort(Comparator.comparingInt(e -> -e.getPriority().getPriority()));
-
-        citizenHappinessHandler.read(buf.readNbt(), false);
-
-        int statusindex = buf.readInt();
-        statusIcon = statusindex >= 0 ? VisibleCitizenStatus.getForId(statusindex) : null;
-        statusPosition = buf.readBoolean() ? buf.readBlockPos() : null;
-
-        if (buf.readBoolean())
-        {
-            final IColonyView colonyView = IColonyManager.getInstance().getColonyView(colonyId, Minecraft.getInstance().level.dimension());
-            jobView = IJobDataManager.getInstance().createViewFrom(colonyView, this, buf);
-        }
-        else
-        {
-            jobView = null;
-        }
-
-        children.clear();
-        siblings.clear();
-
-        partner = buf.readInt();
-        final int siblingsSize = buf.readInt();
-        for (int i = 0; i < siblingsSize; i++)
-        {
-            siblings.add(buf.readInt());
-        }
-
-        final int childrenSize = buf.readInt();
-        for (int i = 0; i < childrenSize; i++)
-        {
-            children.add(buf.readInt());
-        }
-
-        final String parentA = buf.readUtf();
-        final String parentB = buf.readUtf();
-        parents = new Tuple<>(parentA, parentB);
-
-        availableQuests.clear();
-        participatingQuests.clear();
-
-        final int avSize = buf.readInt();
-        for (int i = 0; i < avSize; i++)
+        for (int group = 0; group < VIEW_GROUP_COUNT; group++)
         {
-            availableQuests.add(buf.readResourceLocation());
+            deserializeGroup(group, buf);
         }
+    }
 
-        final int partSize = buf.readInt();
-        for (int i = 0; i < partSize; i++)
+    @Override
+    public void deserializeDelta(final int groups, @NotNull final FriendlyByteBuf buf)
+    {
+        for (int group = 0; group < VIEW_GROUP_COUNT; group++)
         {
-            participatingQuests.add(buf.readResourceLocation());
+            if ((groups & (1 << group)) != 0)
+            {
+                deserializeGroup(group, buf);
+            }
         }
+    }
 
-        if (buf.readBoolean())
+    /**
+     * Reads one group of the view data, written by {@link CitizenData} in the same order.
+     *
+     * @param group the group index.
+     * @param buf   the buffer to read from.
+     */
+    private void deserializeGroup(final int group, @NotNull final FriendlyByteBuf buf)
+    {
+        switch (group)
         {
-            textureUUID = buf.readUUID();
+            case VIEW_GROUP_IDENTITY:
+                name = buf.readUtf(32767);
+                female = buf.readBoolean();
+                colonyId = buf.readInt();
+                final String parentA = buf.readUtf();
+                final String parentB = buf.readUtf();
+                parents = new Tuple<>(parentA, parentB);
+                if (buf.readBoolean())
+                {
+                    textureUUID = buf.readUUID();
+                }
+                break;
+            case VIEW_GROUP_STATE:
+                entityId = buf.readInt();
+                paused = buf.readBoolean();
+                isChild = buf.readBoolean();
+
+                homeBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
+                workBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
+
+                job = buf.readUtf(32767);
+                break;
+            case VIEW_GROUP_NEEDS:
+                saturation = buf.readDouble();
+                happiness = buf.readDouble();
+                break;
+            case VIEW_GROUP_SKILLS:
+                citizenSkillHandler.read(buf.readNbt());
+                break;
+            case VIEW_GROUP_INVENTORY:
+                final CompoundTag compound = buf.readNbt();
+                inventory = new InventoryCitizen(this.name, true);
+                this.inventory.read(compound);
+                this.inventory.setHeldItem(InteractionHand.MAIN_HAND, compound.getInt(TAG_HELD_ITEM_SLOT));
+                this.inventory.setHeldItem(InteractionHand.OFF_HAND, compound.getInt(TAG_OFFHAND_HELD_ITEM_SLOT));
+                break;
+            case VIEW_GROUP_INTERACTIONS:
+                citizenChatOptions.clear();
+                final int size = buf.readInt();
+                for (int i = 0; i < size; i++)
+                {
+                    final CompoundTag compoundNBT = buf.readNbt();
+                    final ServerCitizenInteraction handler =
+                      (ServerCitizenInteraction) MinecoloniesAPIProxy.getInstance().getInteractionResponseHandlerDataManager().createFrom(this, compoundNBT);
+                    citizenChatOptions.put(handler.getInquiry(), handler);
+                }
+
+                sortedInteractions = new ArrayList<>(citizenChatOptions.values());
+                sortedInteractions.sort(Comparator.comparingInt(e -> -e.getPriority().getPriority()));
+                break;
+            case VIEW_GROUP_HAPPINESS:
+                citizenHappinessHandler.read(buf.readNbt(), false);
+                break;
+            case VIEW_GROUP_STATUS:
+                int statusindex = buf.readInt();
+                statusIcon = statusindex >= 0 ? VisibleCitizenStatus.getForId(statusindex) : null;
+                statusPosition = buf.readBoolean() ? buf.readBlockPos() : null;
+                break;
+            case VIEW_GROUP_JOB:
+                if (buf.readBoolean())
+                {
+                    final IColonyView colonyView = IColonyManager.getInstance().getColonyView(colonyId, Minecraft.getInstance().level.dimension());
+                    jobView = IJobDataManager.getInstance().createViewFrom(colonyView, this, buf);
+                }
+                else
+                {
+                    jobView = null;
+                }
+                break;
+            case VIEW_GROUP_FAMILY:
+                children.clear();
+                siblings.clear();
+
+                partner = buf.readInt();
+                final int siblingsSize = buf.readInt();
+                for (int i = 0; i < siblingsSize; i++)
+                {
+                    siblings.add(buf.readInt());
+                }
+
+                final int childrenSize = buf.readInt();
+                for (int i = 0; i < childrenSize; i++)
+                {
+                    children.add(buf.readInt());
+                }
+                break;
+            case VIEW_GROUP_QUESTS:
+                availableQuests.clear();
+                participatingQuests.clear();
+
+                final int avSize = buf.readInt();
+                for (int i = 0; i < avSize; i++)
+                {
+                    availableQuests.add(buf.readResourceLocation());
+                }
+
+                final int partSize = buf.readInt();
+                for (int i = 0; i < partSize; i++)
+                {
+                    participatingQuests.add(buf.readResourceLocation());
+                }
+                break;
+            case VIEW_GROUP_POSITION:
+                position = buf.readBlockPos();
+                break;
+            default:
+                break;
         }
     }
 
@@ -30,6 +30,7 @@ import com.minecolonies.core.Network;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import com.minecolonies.core.colony.buildings.modules.SettingsModule;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
+import com.minecolonies.core.colony.buildings.workerbuildings.WarehouseItemIndex;
 import com.minecolonies.core.colony.events.raid.RaidManager;
 import com.minecolonies.core.colony.managers.*;
 import com.minecolonies.core.colony.permissions.ColonyPermissionEventHandler;
@@ -59,7 +60,6 @@ import net.minecraft.world.level.block.entity.BannerPattern;
 import net.minecraft.world.level.block.entity.BannerPatterns;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.NotNull;
@@ -69,6 +69,7 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static com.minecolonies.api.colony.ColonyState.*;
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
@@ -132,6 +133,11 @@ public class Colony implements IColony
      */
     private final WorkManager workManager = new WorkManager(this);
 
+    /**
+     * Index of the items stored in the warehouses.
+     */
+    private final WarehouseItemIndex warehouseItemIndex = new WarehouseItemIndex(this);
+
     /**
      * Building manager of the colony.
      */
@@ -249,6 +255,36 @@ public class Colony implements IColony
      */
     private CompoundTag colonyTag;
 
+    /**
+     * Last written permissions, reused while they did not change since.
+     */
+    private CompoundTag permissionsTag;
+
+    /**
+     * Last written building manager, reused while it did not change since.
+     */
+    private CompoundTag buildingManagerTag;
+
+    /**
+     * Last written citizen manager, reused while it did not change since.
+     */
+    private CompoundTag citizenManagerTag;
+
+    /**
+     * Last written quest manager, reused while it did not change since.
+     */
+    private CompoundTag questManagerTag;
+
+    /**
+     * Last written research manager, reused while it did not change since.
+     */
+    private CompoundTag researchManagerTag;
+
+    /**
+     * Last written request manager, reused while it did not change since.
+     */
+    private CompoundTag requestManagerTag;
+
     /**
      * List of players visiting the colony.
      */
@@ -837,6 +873,7 @@ public class Colony implements IColony
      */
     public CompoundTag write(@NotNull final CompoundTag compound)
     {
+        final long start = System.nanoTime();
         compound.putInt(DATA_VERSION_TAG, DATA_VERSION);
 
         //  Core attributes
@@ -852,17 +889,40 @@ public class Colony implements IColony
         compound.putInt(TAG_CHILD_TIME, additionalChildTime);
 
         // Permissions
-        permissions.savePermissions(compound);
+        long partStart = System.nanoTime();
+        permissionsTag = writePart(permissions, permissionsTag, () ->
+        {
+            final CompoundTag permissionsCompound = new CompoundTag();
+            permissions.savePermissions(permissionsCompound);
+            return permissionsCompound;
+        });
+        compound.merge(permissionsTag);
+        partStart = ColonyPersistenceStats.onPart("permissions", partStart);
 
-        final CompoundTag buildingCompound = new CompoundTag();
-        buildingManager.write(buildingCompound);
-        compound.put(TAG_BUILDING_MANAGER, buildingCompound);
+        // Building modules persist state without marking their building dirty, so only reuse buildings while the whole colony is unchanged.
+        if (isDirty)
+        {
+            buildingManager.markSaveDirty();
+        }
+        buildingManagerTag = writePart(buildingManager, buildingManagerTag, () ->
+        {
+            final CompoundTag buildingCompound = new CompoundTag();
+            buildingManager.write(buildingCompound);
+            return buildingCompound;
+        });
+        compound.put(TAG_BUILDING_MANAGER, buildingManagerTag);
+        partStart = ColonyPersistenceStats.onPart("buildings", partStart);
 
-        final CompoundTag citizenCompound = new CompoundTag();
-        citizenManager.write(citizenCompound);
-        compound.put(TAG_CITIZEN_MANAGER, citizenCompound);
+        citizenManagerTag = writePart(citizenManager, citizenManagerTag, () ->
+        {
+            final CompoundTag citizenCompound = new CompoundTag();
+            citizenManager.write(citizenCompound);
+            return citizenCompound;
+        });
+        compound.put(TAG_CITIZEN_MANAGER, citizenManagerTag);
 
         visitorManager.write(compound);
+        partStart = ColonyPersistenceStats.onPart("citizens", partStart);
 
         final CompoundTag graveCompound = new CompoundTag();
         graveManager.write(graveCompound);
@@ -875,14 +935,22 @@ public class Colony implements IColony
 
         eventManager.writeToNBT(compound);
         statisticManager.writeToNBT(compound);
+        partStart = ColonyPersistenceStats.onPart("graves, work and events", partStart);
 
-        compound.put(TAG_QUEST_MANAGER, questManager.serializeNBT());
+        questManagerTag = writePart(questManager, questManagerTag, questManager::serializeNBT);
+        compound.put(TAG_QUEST_MANAGER, questManagerTag);
         compound.put(NbtTagConstants.TAG_EVENT_DESC_MANAGER, eventDescManager.serializeNBT());
         raidManager.write(compound);
+        partStart = ColonyPersistenceStats.onPart("quests and raids", partStart);
 
-        @NotNull final CompoundTag researchManagerCompound = new CompoundTag();
-        researchManager.writeToNBT(researchManagerCompound);
-        compound.put(TAG_RESEARCH, researchManagerCompound);
+        researchManagerTag = writePart(researchManager, researchManagerTag, () ->
+        {
+            @NotNull final CompoundTag researchManagerCompound = new CompoundTag();
+            researchManager.writeToNBT(researchManagerCompound);
+            return researchManagerCompound;
+        });
+        compound.put(TAG_RESEARCH, researchManagerTag);
+        partStart = ColonyPersistenceStats.onPart("research", partStart);
 
         // Waypoints
         @NotNull final ListTag wayPointTagList = new ListTag();
@@ -914,7 +982,12 @@ public class Colony implements IColony
         compound.put(TAG_FREE_POSITIONS, freePositionsTagList);
 
         compound.putInt(TAG_ABANDONED, packageManager.getLastContactInHours());
-        compound.put(TAG_REQUESTMANAGER, getRequestManager().serializeNBT());
+        partStart = ColonyPersistenceStats.onPart("other", partStart);
+
+        requestManagerTag = writePart(getRequestManager(), requestManagerTag, getRequestManager()::serializeNBT);
+        compound.put(TAG_REQUESTMANAGER, requestManagerTag);
+        partStart = ColonyPersistenceStats.onPart("requests", partStart);
+
         compound.putString(TAG_PACK, pack);
         compound.putBoolean(TAG_AUTO_DELETE, canColonyBeAutoDeleted);
         compound.putInt(TAG_TEAM_COLOR, colonyTeamColor.ordinal());
@@ -927,13 +1000,51 @@ public class Colony implements IColony
         final CompoundTag settings = new CompoundTag();
         settingsModule.serializeNBT(settings);
         compound.put(BuildingModules.TOWNHALL_SETTINGS.key, settings);
+        ColonyPersistenceStats.onPart("other", partStart);
 
         this.colonyTag = compound;
 
         isDirty = false;
+        ColonyPersistenceStats.onWrite(start);
         return compound;
     }
 
+    /**
+     * Get the tag of a colony part, only writing it again when the part changed since it was last written.
+     * The returned tag is shared between writes, so callers that modify the written colony tag have to copy it first.
+     *
+     * @param part   the part of the colony.
+     * @param cached the tag the part was last written to, null if not written yet.
+     * @param writer writes the part to a new tag.
+     * @return the tag of the part.
+     */
+    private static CompoundTag writePart(final IHasSaveDirty part, @Nullable final CompoundTag cached, final Supplier<CompoundTag> writer)
+    {
+        if (cached != null && !part.isSaveDirty())
+        {
+            return cached;
+        }
+
+        final CompoundTag tag = writer.get();
+        part.clearSaveDirty();
+        return tag;
+    }
+
+    /**
+     * Check if any of the cached colony parts changed since the colony was last written.
+     *
+     * @return true if so.
+     */
+    private boolean hasUnsavedParts()
+    {
+        return permissions.isSaveDirty()
+                 || buildingManager.isSaveDirty()
+                 || citizenManager.isSaveDirty()
+                 || questManager.isSaveDirty()
+                 || researchManager.isSaveDirty()
+                 || getRequestManager().isSaveDirty();
+    }
+
     /**
      * Returns the dimension ID.
      *
@@ -967,12 +1078,11 @@ public class Colony implements IColony
         if (w.dimension() == dimensionId)
         {
             this.world = w;
-            // Register a new event handler
+            // Events reach the handler through the ColonyPermissionEventDispatcher while the world is loaded
             if (eventHandler == null)
             {
                 eventHandler = new ColonyPermissionEventHandler(this);
                 questManager.onWorldLoad();
-                MinecraftForge.EVENT_BUS.register(eventHandler);
             }
             setColonyColor(this.colonyTeamColor);
         }
@@ -995,10 +1105,6 @@ public class Colony implements IColony
             return;
         }
 
-        if (eventHandler != null)
-        {
-            MinecraftForge.EVENT_BUS.unregister(eventHandler);
-        }
         world = null;
     }
 
@@ -1019,6 +1125,17 @@ public class Colony implements IColony
         return workManager;
     }
 
+    /**
+     * Get the index of the items stored in the warehouses of the colony.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public WarehouseItemIndex getWarehouseItemIndex()
+    {
+        return warehouseItemIndex;
+    }
+
     /**
      * Get a copy of the freePositions list.
      *
@@ -1618,7 +1735,7 @@ public class Colony implements IColony
     {
         try
         {
-            if (this.colonyTag == null || this.isDirty)
+            if (this.colonyTag == null || this.isDirty || hasUnsavedParts())
             {
                 this.write(new CompoundTag());
             }
@@ -1785,15 +1902,7 @@ public class Colony implements IColony
     @Override
     public void updateHasChilds()
     {
-        for (ICitizenData data : this.getCitizenManager().getCitizens())
-        {
-            if (data.isChild())
-            {
-                this.hasChilds = true;
-                return;
-            }
-        }
-        this.hasChilds = false;
+        this.hasChilds = getCitizenManager().getChildCount() > 0;
     }
 
     @Override
@@ -79,6 +79,11 @@ public final class ColonyManager implements IColonyManager
      */
     private boolean capLoaded = false;
 
+    /**
+     * Colonies by the id of their owner, refreshed when an entry turns out outdated.
+     */
+    private final Map<UUID, IColony> coloniesByOwner = new HashMap<>();
+
     /**
      * Client side sound manager.
      */
@@ -307,11 +312,14 @@ public final class ColonyManager implements IColonyManager
     public boolean isFarEnoughFromColonies(@NotNull final Level w, @NotNull final BlockPos pos)
     {
         final int blockRange = Math.max(MineColonies.getConfig().getServer().minColonyDistance.get(), getConfig().getServer().initialColonySize.get()) << 4;
-        final IColony closest = getClosestColony(w, pos);
-
-        if (closest != null && BlockPosUtil.getDistance(pos, closest.getCenter()) < blockRange)
+        // The grid only narrows the colonies down in two dimensions, the distance rule itself includes the height
+        final long blockRangeSq = (long) blockRange * blockRange;
+        for (final IColony colony : getColoniesInRange(w, pos, blockRange))
         {
-            return false;
+            if (BlockPosUtil.getDistanceSquared(pos, colony.getCenter()) < blockRangeSq)
+            {
+                return false;
+            }
         }
 
         return ChunkDataHelper.canClaimChunksInRange(w,
@@ -466,23 +474,26 @@ public final class ColonyManager implements IColonyManager
             return getColonyByWorld(owningColony, w);
         }
 
-        @Nullable IColony closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        for (@NotNull final IColony c : getColonies(w))
+        final IColonyManagerCapability cap = w.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
+        if (cap == null)
         {
-            if (c.getDimension() == w.dimension())
-            {
-                final long dist = c.getDistanceSquared(pos);
-                if (dist < closestDist)
-                {
-                    closestColony = c;
-                    closestDist = dist;
-                }
-            }
+            Log.getLogger().warn(MISSING_WORLD_CAP_MESSAGE);
+            return null;
         }
+        return cap.getClosestColony(pos);
+    }
 
-        return closestColony;
+    @Override
+    @NotNull
+    public List<IColony> getColoniesInRange(@NotNull final Level w, @NotNull final BlockPos pos, final int range)
+    {
+        final IColonyManagerCapability cap = w.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
+        if (cap == null)
+        {
+            Log.getLogger().warn(MISSING_WORLD_CAP_MESSAGE);
+            return Collections.emptyList();
+        }
+        return cap.getColoniesInRange(pos, range);
     }
 
     @Override
@@ -531,15 +542,19 @@ public final class ColonyManager implements IColonyManager
             return null;
         }
 
-        for (final IColony colony : getAllColonies())
+        // Ownership can change without notice, so cached entries are checked before use
+        final IColony cached = coloniesByOwner.get(owner);
+        if (cached != null && owner.equals(cached.getPermissions().getOwner()) && getColonyByDimension(cached.getID(), cached.getDimension()) == cached)
         {
-            if (colony.getPermissions().getOwner().equals(owner))
-            {
-                return colony;
-            }
+            return cached;
         }
 
-        return null;
+        coloniesByOwner.clear();
+        for (final IColony colony : getAllColonies())
+        {
+            coloniesByOwner.putIfAbsent(colony.getPermissions().getOwner(), colony);
+        }
+        return coloniesByOwner.get(owner);
     }
 
     @Override
@@ -760,6 +775,17 @@ public final class ColonyManager implements IColonyManager
         view.handleColonyViewCitizensMessage(citizenId, buf);
     }
 
+    @Override
+    public void handleColonyViewCitizenDeltaMessage(final int colonyId, final int citizenId, final FriendlyByteBuf buf, final ResourceKey<Level> dim)
+    {
+        final IColonyView view = getColonyView(colonyId, dim);
+        if (view == null)
+        {
+            return;
+        }
+        view.handleColonyViewCitizenDeltaMessage(citizenId, buf);
+    }
+
     @Override
     public void handleColonyViewWorkOrderMessage(final int colonyId, final FriendlyByteBuf buf, final ResourceKey<Level> dim)
     {
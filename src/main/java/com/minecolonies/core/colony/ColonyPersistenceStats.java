@@ -0,0 +1,97 @@
+package com.minecolonies.core.colony;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Time spent writing colonies to NBT over all colonies, split up by the part of the colony written.
+ */
+public final class ColonyPersistenceStats
+{
+    /**
+     * Time the counting started at.
+     */
+    private static long startMillis = System.currentTimeMillis();
+
+    /**
+     * Number of colony writes.
+     */
+    private static long writes;
+
+    /**
+     * Nanoseconds spent on all colony writes.
+     */
+    private static long totalNanos;
+
+    /**
+     * Nanoseconds spent per part, in the order the parts are written.
+     */
+    private static final Map<String, Long> partNanos = new LinkedHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyPersistenceStats()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Count the time spent on a part of a colony write.
+     *
+     * @param part  the name of the part.
+     * @param start the {@link System#nanoTime()} the part started at.
+     * @return the current {@link System#nanoTime()}, to start the next part with.
+     */
+    public static synchronized long onPart(final String part, final long start)
+    {
+        final long now = System.nanoTime();
+        partNanos.merge(part, now - start, Long::sum);
+        return now;
+    }
+
+    /**
+     * Count a finished colony write.
+     *
+     * @param start the {@link System#nanoTime()} the write started at.
+     */
+    public static synchronized void onWrite(final long start)
+    {
+        writes++;
+        totalNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Restart the counting.
+     */
+    public static synchronized void reset()
+    {
+        startMillis = System.currentTimeMillis();
+        writes = 0;
+        totalNanos = 0;
+        partNanos.clear();
+    }
+
+    /**
+     * Get a summary of the counters.
+     *
+     * @return the summary text.
+     */
+    public static synchronized String getSummary()
+    {
+        final double seconds = Math.max(1, System.currentTimeMillis() - startMillis) / 1000.0;
+        final StringBuilder summary = new StringBuilder(String.format("Over %.0fs: %d colony writes, %.2fms total, %.2fms per write",
+          seconds,
+          writes,
+          totalNanos / 1_000_000.0,
+          writes == 0 ? 0 : totalNanos / 1_000_000.0 / writes));
+
+        for (final Map.Entry<String, Long> part : partNanos.entrySet())
+        {
+            summary.append(String.format("\n %s: %.2fms (%.1f%%)", part.getKey(), part.getValue() / 1_000_000.0, totalNanos == 0 ? 0 : 100.0 * part.getValue() / totalNanos));
+        }
+        return summary.toString();
+    }
+}
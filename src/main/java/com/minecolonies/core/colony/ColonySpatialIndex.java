@@ -0,0 +1,203 @@
+package com.minecolonies.core.colony;
+
+import com.minecolonies.api.colony.IColony;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grid of the colony centers of one dimension, to find close colonies without checking every colony. The centers never move, so colonies are only added and removed.
+ */
+public class ColonySpatialIndex
+{
+    /**
+     * Shift from block coordinates to grid cells, cells are 256 blocks wide.
+     */
+    private static final int CELL_SHIFT = 8;
+
+    /**
+     * Width of a grid cell in blocks.
+     */
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * The colonies by grid cell.
+     */
+    private final Long2ObjectOpenHashMap<List<IColony>> cells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The number of indexed colonies.
+     */
+    private int size = 0;
+
+    /**
+     * Add a colony to the index.
+     *
+     * @param colony the colony.
+     */
+    public void add(@NotNull final IColony colony)
+    {
+        cells.computeIfAbsent(getCell(colony.getCenter()), key -> new ArrayList<>()).add(colony);
+        size++;
+    }
+
+    /**
+     * Remove a colony from the index.
+     *
+     * @param colony the colony.
+     */
+    public void remove(@NotNull final IColony colony)
+    {
+        final long cell = getCell(colony.getCenter());
+        final List<IColony> colonies = cells.get(cell);
+        if (colonies != null && colonies.remove(colony))
+        {
+            size--;
+            if (colonies.isEmpty())
+            {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    /**
+     * Get the colony with the center closest to a position, in two dimensions.
+     *
+     * @param pos the position.
+     * @return the colony or null if there are none.
+     */
+    @Nullable
+    public IColony getClosest(@NotNull final BlockPos pos)
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+
+        IColony closest = null;
+        long closestDist = Long.MAX_VALUE;
+        int visitedCells = 0;
+        for (int ring = 0; ; ring++)
+        {
+            // Everything outside of this ring is at least this far away
+            final long ringDist = (long) (ring - 1) * CELL_SIZE;
+            if (closest != null && ring > 0 && ringDist * ringDist >= closestDist)
+            {
+                return closest;
+            }
+
+            // Sparse colonies far away: checking them one by one is cheaper than the empty cells
+            if (visitedCells > size + cells.size())
+            {
+                return getClosestLinear(pos);
+            }
+
+            for (int x = cellX - ring; x <= cellX + ring; x++)
+            {
+                for (int z = cellZ - ring; z <= cellZ + ring; z++)
+                {
+                    if (Math.abs(x - cellX) != ring && Math.abs(z - cellZ) != ring)
+                    {
+                        continue;
+                    }
+
+                    visitedCells++;
+                    final List<IColony> colonies = cells.get(ChunkPos.asLong(x, z));
+                    if (colonies == null)
+                    {
+                        continue;
+                    }
+
+                    for (final IColony colony : colonies)
+                    {
+                        final long dist = colony.getDistanceSquared(pos);
+                        if (dist < closestDist)
+                        {
+                            closest = colony;
+                            closestDist = dist;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the colonies with their center within a range of a position, in two dimensions.
+     *
+     * @param pos   the position.
+     * @param range the range in blocks.
+     * @return the colonies.
+     */
+    @NotNull
+    public List<IColony> getInRange(@NotNull final BlockPos pos, final int range)
+    {
+        final List<IColony> result = new ArrayList<>();
+        final long rangeSq = (long) range * range;
+        for (int x = (pos.getX() - range) >> CELL_SHIFT; x <= (pos.getX() + range) >> CELL_SHIFT; x++)
+        {
+            for (int z = (pos.getZ() - range) >> CELL_SHIFT; z <= (pos.getZ() + range) >> CELL_SHIFT; z++)
+            {
+                final List<IColony> colonies = cells.get(ChunkPos.asLong(x, z));
+                if (colonies == null)
+                {
+                    continue;
+                }
+
+                for (final IColony colony : colonies)
+                {
+                    if (colony.getDistanceSquared(pos) <= rangeSq)
+                    {
+                        result.add(colony);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the closest colony by checking all of them.
+     *
+     * @param pos the position.
+     * @return the colony or null if there are none.
+     */
+    @Nullable
+    private IColony getClosestLinear(@NotNull final BlockPos pos)
+    {
+        IColony closest = null;
+        long closestDist = Long.MAX_VALUE;
+        for (final List<IColony> colonies : cells.values())
+        {
+            for (final IColony colony : colonies)
+            {
+                final long dist = colony.getDistanceSquared(pos);
+                if (dist < closestDist)
+                {
+                    closest = colony;
+                    closestDist = dist;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Get the grid cell of a position.
+     *
+     * @param pos the position.
+     * @return the cell key.
+     */
+    private static long getCell(@NotNull final BlockPos pos)
+    {
+        return ChunkPos.asLong(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+    }
+}
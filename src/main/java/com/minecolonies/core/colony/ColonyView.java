@@ -37,6 +37,8 @@ import com.minecolonies.core.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.core.datalistener.CitizenNameListener;
 import com.minecolonies.core.network.messages.PermissionsMessage;
 import com.minecolonies.core.network.messages.server.colony.ColonyFlagChangeMessage;
+import com.minecolonies.core.network.messages.server.colony.CitizenViewResyncMessage;
+import com.minecolonies.core.network.messages.server.colony.RequestManagerResyncMessage;
 import com.minecolonies.core.network.messages.server.colony.TownHallRenameMessage;
 import com.minecolonies.core.quests.QuestManager;
 import net.minecraft.ChatFormatting;
@@ -64,6 +66,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.function.Predicate;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUPS_ALL;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_BANNER_PATTERNS;
 
 /**
@@ -72,11 +75,6 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_BANNER_PATT
 @SuppressWarnings("PMD.ExcessiveClassLength")
 public final class ColonyView implements IColonyView
 {
-    /**
-     * Max allowed CompoundTag in bytes
-     */
-    private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
-
     //  General Attributes
     private final int                            id;
     private final Map<Integer, IWorkOrderView>   workOrders  = new HashMap<>();
@@ -245,6 +243,16 @@ public final class ColonyView implements IColonyView
      */
     private int day;
 
+    /**
+     * Whether a request system snapshot got requested after a missed delta.
+     */
+    private boolean awaitingRequestSnapshot = false;
+
+    /**
+     * Citizens whose full view was requested again after a delta could not be applied.
+     */
+    private final Set<Integer> awaitingCitizenResync = new HashSet<>();
+
     /**
      * Base constructor for a colony.
      *
@@ -320,33 +328,7 @@ public final class ColonyView implements IColonyView
         {
             buf.writeUtf(nameFileIndex);
         }
-        //  Citizens are sent as a separate packet
-
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
-        {
-            final int preIndex = buf.writerIndex();
-            try
-            {
-                buf.writeBoolean(true);
-                colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
-                final int postSize = buf.writerIndex();
-                if ((postSize - preIndex) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
-                {
-                    Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
-                }
-            }
-            catch (Exception e)
-            {
-                buf.writerIndex(preIndex);
-                Log.getLogger().warn("Error during request manager serialization for:" + colony.getID(), e);
-                colony.getRequestManager().reset();
-                buf.writeBoolean(false);
-            }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
+        //  Citizens and the request system are sent as separate packets
 
         buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
         for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
@@ -825,15 +807,6 @@ public final class ColonyView implements IColonyView
             nameFileIds.add(buf.readUtf(32767));
         }
 
-        if (buf.readBoolean())
-        {
-            if (this.requestManager == null)
-            {
-                this.requestManager = new StandardRequestManager(this);
-            }
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
-        }
-
         final int barbSpawnListSize = buf.readInt();
         for (int i = 0; i < barbSpawnListSize; i++)
         {
@@ -963,11 +936,55 @@ public final class ColonyView implements IColonyView
         if (citizen != null)
         {
             citizens.put(citizen.getId(), citizen);
+            awaitingCitizenResync.remove(citizen.getId());
         }
 
         return null;
     }
 
+    @Override
+    public void handleColonyViewCitizenDeltaMessage(final int id, final FriendlyByteBuf buf)
+    {
+        final int groups = buf.readInt();
+        final ICitizenDataView citizen = citizens.get(id);
+        if (citizen == null)
+        {
+            if (groups == VIEW_GROUPS_ALL)
+            {
+                handleColonyViewCitizensMessage(id, buf);
+            }
+            else
+            {
+                requestCitizenResync(id);
+            }
+            return;
+        }
+
+        try
+        {
+            citizen.deserializeDelta(groups, buf);
+        }
+        catch (final RuntimeException ex)
+        {
+            Log.getLogger().error(String.format("A CitizenData.View for #%d has thrown an exception during a partial update, requesting its full state.", id), ex);
+            citizens.remove(id);
+            requestCitizenResync(id);
+        }
+    }
+
+    /**
+     * Ask the server for the full view of a citizen, the deltas following a missed one cannot be applied.
+     *
+     * @param id the citizen id.
+     */
+    private void requestCitizenResync(final int id)
+    {
+        if (awaitingCitizenResync.add(id))
+        {
+            Network.getNetwork().sendToServer(new CitizenViewResyncMessage(this, id));
+        }
+    }
+
     @Override
     public void handleColonyViewVisitorMessage(final FriendlyByteBuf visitorBuf, final boolean refresh)
     {
@@ -1007,6 +1024,7 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewRemoveCitizenMessage(final int citizen)
     {
         citizens.remove(citizen);
+        awaitingCitizenResync.remove(citizen);
         return null;
     }
 
@@ -1082,6 +1100,45 @@ public final class ColonyView implements IColonyView
         this.researchManager.readFromNBT(compoundTag);
     }
 
+    @Override
+    public void handleColonyViewRequestManagerMessage(@NotNull final FriendlyByteBuf buf, final boolean snapshot)
+    {
+        if (snapshot)
+        {
+            if (this.requestManager == null)
+            {
+                this.requestManager = new StandardRequestManager(this);
+            }
+            ((StandardRequestManager) this.requestManager).getSyncTracker().readSnapshot(StandardFactoryController.getInstance(), buf);
+            awaitingRequestSnapshot = false;
+            return;
+        }
+
+        if (awaitingRequestSnapshot)
+        {
+            return;
+        }
+
+        boolean applied = false;
+        if (this.requestManager instanceof StandardRequestManager standardRequestManager)
+        {
+            try
+            {
+                applied = standardRequestManager.getSyncTracker().readDelta(StandardFactoryController.getInstance(), buf);
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Error applying request manager delta for:" + getID(), e);
+            }
+        }
+
+        if (!applied)
+        {
+            awaitingRequestSnapshot = true;
+            Network.getNetwork().sendToServer(new RequestManagerResyncMessage(this));
+        }
+    }
+
     @Override
     public void handleColonyFieldViewUpdateMessage(final Set<IField> fields)
     {
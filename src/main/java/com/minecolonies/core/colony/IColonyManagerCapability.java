@@ -71,6 +71,25 @@ public interface IColonyManagerCapability
      */
     int getTopID();
 
+    /**
+     * Get the colony with the center closest to a position.
+     *
+     * @param pos the position.
+     * @return the colony or null if there are none.
+     */
+    @Nullable
+    IColony getClosestColony(@NotNull final BlockPos pos);
+
+    /**
+     * Get the colonies with their center within a range of a position.
+     *
+     * @param pos   the position.
+     * @param range the range in blocks.
+     * @return the colonies.
+     */
+    @NotNull
+    List<IColony> getColoniesInRange(@NotNull final BlockPos pos, final int range);
+
     /**
      * The implementation of the colonyTagCapability.
      */
@@ -82,15 +101,31 @@ public interface IColonyManagerCapability
         @NotNull
         private final ColonyList<IColony> colonies = new ColonyList<>();
 
+        /**
+         * The colonies by position.
+         */
+        @NotNull
+        private final ColonySpatialIndex spatialIndex = new ColonySpatialIndex();
+
         @Override
         public IColony createColony(@NotNull final Level w, @NotNull final BlockPos pos)
         {
-            return colonies.create(w, pos);
+            final IColony colony = colonies.create(w, pos);
+            if (colony != null)
+            {
+                spatialIndex.add(colony);
+            }
+            return colony;
         }
 
         @Override
         public void deleteColony(final int id)
         {
+            final IColony colony = colonies.get(id);
+            if (colony != null)
+            {
+                spatialIndex.remove(colony);
+            }
             colonies.remove(id);
         }
 
@@ -109,7 +144,12 @@ public interface IColonyManagerCapability
         @Override
         public void addColony(final IColony colony)
         {
+            final IColony existing = colonies.get(colony.getID());
             colonies.add(colony);
+            if (existing == null && colonies.get(colony.getID()) == colony)
+            {
+                spatialIndex.add(colony);
+            }
         }
 
         @Override
@@ -117,6 +157,19 @@ public interface IColonyManagerCapability
         {
             return colonies.getTopID();
         }
+
+        @Override
+        public IColony getClosestColony(@NotNull final BlockPos pos)
+        {
+            return spatialIndex.getClosest(pos);
+        }
+
+        @NotNull
+        @Override
+        public List<IColony> getColoniesInRange(@NotNull final BlockPos pos, final int range)
+        {
+            return spatialIndex.getInRange(pos, range);
+        }
     }
 
     /**
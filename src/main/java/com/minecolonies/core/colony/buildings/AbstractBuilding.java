@@ -1491,6 +1491,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
             getOpenRequestsByCitizen().put(citizenId, new ArrayList<>());
         }
         getOpenRequestsByCitizen().get(citizenId).add(requestToken);
+        getDataStore().markDirty();
     }
 
     @Override
@@ -1660,6 +1661,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
                 {
                     getCompletedRequestsByCitizen().remove(data.getId());
                 }
+                getDataStore().markDirty();
             }
         }
 
@@ -1703,6 +1705,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         {
             getCompletedRequestsByCitizen().remove(data.getId());
         }
+        getDataStore().markDirty();
 
         colony.getRequestManager().updateRequestState(token, RequestState.RECEIVED);
         markDirty();
@@ -1732,6 +1735,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         getOpenRequestsByCitizen().remove(data.getId());
 
         getCompletedRequestsByCitizen().remove(data.getId());
+        getDataStore().markDirty();
 
         markDirty();
     }
@@ -2026,6 +2030,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         {
             getCompletedRequestsByCitizen().computeIfAbsent(citizenThatRequested, ArrayList::new).add(request.getId());
         }
+        getDataStore().markDirty();
         else
         {
             colony.getRequestManager().updateRequestState(request.getId(), RequestState.RECEIVED);
@@ -2057,6 +2062,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
                 getOpenRequestsByRequestableType().remove(TypeToken.of(request.getRequest().getClass()));
             }
         }
+        getDataStore().markDirty();
 
         //Check if the citizen did not die.
         if (colony.getCitizenManager().getCivilian(citizenThatRequested) != null)
@@ -22,6 +22,7 @@ import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import com.minecolonies.core.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.core.colony.requestsystem.locations.StaticLocation;
 import com.minecolonies.core.entity.ai.workers.guard.AbstractEntityAIGuard;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.Pathfinding;
 import com.minecolonies.core.entity.pathfinding.pathjobs.PathJobRandomPos;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
@@ -441,7 +442,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuilding implements
             }
             else if (colony.getWorld().random.nextBoolean())
             {
-                final PathJobRandomPos job = new PathJobRandomPos(colony.getWorld(), lastPatrolPoint, 20, 40, null);
+                final PathJobRandomPos job = new PathJobRandomPos(colony.getWorld(), lastPatrolPoint, 20, 40, null, PathJobPriority.COMBAT);
                 this.pathResult = job.getResult();
                 Pathfinding.enqueue(job);
             }
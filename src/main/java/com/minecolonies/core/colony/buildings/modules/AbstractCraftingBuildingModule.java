@@ -41,6 +41,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Tuple;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
@@ -111,6 +112,17 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
      */
     private boolean recipesDirty = true;
 
+    /**
+     * Storages of the enabled recipes in recipe order, null if they have to be looked up again.
+     */
+    @Nullable
+    private List<IRecipeStorage> enabledRecipeStorages = null;
+
+    /**
+     * Storages of the enabled recipes by the items they can produce, in recipe order. Only valid together with {@link #enabledRecipeStorages}.
+     */
+    private final Map<Item, List<IRecipeStorage>> recipesByOutput = new HashMap<>();
+
     /**
      * Create a new module.
      * @param jobEntry the entry of the job.
@@ -250,6 +262,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 }
             }
         }
+        invalidateRecipeIndex();
     }
 
     @Override
@@ -571,6 +584,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     {
         recipes.clear();
         recipesDirty = true;
+        invalidateRecipeIndex();
     }
 
     @Override
@@ -642,50 +656,76 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
-        return getFirstRecipe(itemStack -> !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true));
+        if (stack.isEmpty())
+        {
+            return null;
+        }
+        return getFirstRecipe(getRecipesForOutput(stack.getItem()), itemStack -> !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true));
     }
 
     @Override
     @Nullable
     public IRecipeStorage getFirstRecipe(final Predicate<ItemStack> stackPredicate)
+    {
+        return getFirstRecipe(getEnabledRecipeStorages(), stackPredicate);
+    }
+
+    /**
+     * Get the first of the given recipes that produces a matching output, or the one with the most stock in the warehouses in {@link CrafterRecipeSetting#MAX_STOCK} mode.
+     *
+     * @param storages       the candidate recipes, in recipe order.
+     * @param stackPredicate the predicate to check the outputs against.
+     * @return the recipe or null.
+     */
+    @Nullable
+    private IRecipeStorage getFirstRecipe(final List<IRecipeStorage> storages, final Predicate<ItemStack> stackPredicate)
     {
         IRecipeStorage foundRecipe = null;
-        final HashMap<IRecipeStorage, Integer> candidates = new HashMap<>();
+        List<IRecipeStorage> candidates = null;
+
         //Scan through and collect all possible recipes that could fulfill this, taking special note of the first one
-        for (final IToken<?> token : recipes)
+        for (final IRecipeStorage storage : storages)
         {
-            if (disabledRecipes.contains(token))
-            {
-                continue;
-            }
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || InventoryUtils.getFirstMatch(storage.getAlternateOutputs(), stackPredicate) != null))
+            if (stackPredicate.test(storage.getPrimaryOutput()) || InventoryUtils.getFirstMatch(storage.getAlternateOutputs(), stackPredicate) != null)
             {
                 if (storage.getRecipeType() instanceof MultiOutputRecipe && storage.getClassicForMultiOutput(stackPredicate) == null)
                 {
                     continue;
                 }
 
-                if(foundRecipe == null)
+                if (foundRecipe == null)
                 {
                     foundRecipe = storage;
                 }
-                candidates.put(storage, 0);
+                else
+                {
+                    if (candidates == null)
+                    {
+                        candidates = new ArrayList<>();
+                        candidates.add(foundRecipe);
+                    }
+                    candidates.add(storage);
+                }
             }
         }
 
         //If we have more than one possible recipe, let's choose the one with the most stock in the warehouses
-        if(candidates.size() > 1 && building.hasModule(ISettingsModule.class) && building.getSetting(RECIPE_MODE).getValue().equals(CrafterRecipeSetting.MAX_STOCK))
+        if (candidates != null && building.hasModule(ISettingsModule.class) && building.getSetting(RECIPE_MODE).getValue().equals(CrafterRecipeSetting.MAX_STOCK))
         {
-            for(Map.Entry<IRecipeStorage, Integer> foo : candidates.entrySet())
+            int maxCount = -1;
+            for (final IRecipeStorage candidate : candidates)
             {
-                final ItemStorage checkItem = foo.getKey().getCleanedInput().stream().max(Comparator.comparingInt(ItemStorage::getAmount)).get();
-                candidates.put(foo.getKey(), getWarehouseCount(checkItem));
+                final ItemStorage checkItem = candidate.getCleanedInput().stream().max(Comparator.comparingInt(ItemStorage::getAmount)).get();
+                final int count = getWarehouseCount(checkItem);
+                if (count > maxCount)
+                {
+                    maxCount = count;
+                    foundRecipe = candidate;
+                }
             }
-            foundRecipe = candidates.entrySet().stream().min(Map.Entry.comparingByValue(Comparator.reverseOrder())).get().getKey();
         }
 
-        if(foundRecipe != null && foundRecipe.getRecipeType() instanceof MultiOutputRecipe)
+        if (foundRecipe != null && foundRecipe.getRecipeType() instanceof MultiOutputRecipe)
         {
             IToken<?> token = IColonyManager.getInstance().getRecipeManager().checkOrAddRecipe(foundRecipe.getClassicForMultiOutput(stackPredicate));
             foundRecipe = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
@@ -694,6 +734,91 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         return foundRecipe;
     }
 
+    /**
+     * Get the storages of all enabled recipes in recipe order, looking them up again after the recipes changed.
+     *
+     * @return the list of storages.
+     */
+    private List<IRecipeStorage> getEnabledRecipeStorages()
+    {
+        if (enabledRecipeStorages != null)
+        {
+            return enabledRecipeStorages;
+        }
+
+        final List<IRecipeStorage> storages = new ArrayList<>();
+        recipesByOutput.clear();
+        boolean complete = true;
+        for (final IToken<?> token : recipes)
+        {
+            if (disabledRecipes.contains(token))
+            {
+                continue;
+            }
+
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            if (storage == null)
+            {
+                complete = false;
+                continue;
+            }
+
+            storages.add(storage);
+            indexOutput(storage, storage.getPrimaryOutput());
+            for (final ItemStack alternate : storage.getAlternateOutputs())
+            {
+                indexOutput(storage, alternate);
+            }
+        }
+
+        // Recipes that are not registered yet are looked up again on the next call.
+        if (complete)
+        {
+            enabledRecipeStorages = storages;
+        }
+        return storages;
+    }
+
+    /**
+     * Get the storages of the enabled recipes that can produce the given item, in recipe order.
+     *
+     * @param item the output item.
+     * @return the list of storages, possibly empty.
+     */
+    private List<IRecipeStorage> getRecipesForOutput(final Item item)
+    {
+        getEnabledRecipeStorages();
+        return recipesByOutput.getOrDefault(item, Collections.emptyList());
+    }
+
+    /**
+     * Add a recipe to the output index.
+     *
+     * @param storage the recipe.
+     * @param output  one of its outputs.
+     */
+    private void indexOutput(final IRecipeStorage storage, final ItemStack output)
+    {
+        if (output.isEmpty())
+        {
+            return;
+        }
+
+        final List<IRecipeStorage> storages = recipesByOutput.computeIfAbsent(output.getItem(), item -> new ArrayList<>());
+        if (storages.isEmpty() || storages.get(storages.size() - 1) != storage)
+        {
+            storages.add(storage);
+        }
+    }
+
+    /**
+     * Drop the looked up recipe storages after the recipes or their enabled state changed.
+     */
+    protected void invalidateRecipeIndex()
+    {
+        enabledRecipeStorages = null;
+    }
+
     @Override
     public boolean holdsRecipe(final IToken<?> token)
     {
@@ -746,15 +871,9 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public IRecipeStorage getFirstFulfillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
     {
-        for (final IToken<?> token : recipes)
+        for (final IRecipeStorage storage : getEnabledRecipeStorages())
         {
-            if (disabledRecipes.contains(token))
-            {
-                continue;
-            }
-
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            if (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i)))
             {
                 final Set<IItemHandler> handlers = new HashSet<>();
                 for (final ICitizenData workerEntity : building.getAllAssignedCitizen())
@@ -850,6 +969,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
+            invalidateRecipeIndex();
             markDirty();
         }
     }
@@ -868,6 +988,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        invalidateRecipeIndex();
     }
 
     @Override
@@ -884,6 +1005,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             {
                 recipes.add(token);
             }
+            invalidateRecipeIndex();
         }
     }
 
@@ -891,6 +1013,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     public void switchOrder(final int i, final int j, final boolean fullMove)
     {
         recipesDirty = true;
+        invalidateRecipeIndex();
         if (fullMove)
         {
             if (i > j)
@@ -929,6 +1052,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         {
             disabledRecipes.add(key);
         }
+        invalidateRecipeIndex();
         markDirty();
     }
 
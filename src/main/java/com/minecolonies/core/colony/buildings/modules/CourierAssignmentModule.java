@@ -28,9 +28,9 @@ public class CourierAssignmentModule extends AbstractAssignedCitizenModule imple
         // If we have no active worker, grab one from the Colony
         if (!isFull() && BuildingUtils.canAutoHire(building, getHiringMode(), getJobEntry()))
         {
-            for (final ICitizenData data : colony.getCitizenManager().getCitizens())
+            for (final ICitizenData data : colony.getCitizenManager().getCitizensWithJob(JobDeliveryman.class))
             {
-                if (data.getJob() instanceof JobDeliveryman && !hasAssignedCitizen(data) && ((JobDeliveryman) data.getJob()).findWareHouse() == null)
+                if (data.getJob() instanceof JobDeliveryman deliveryman && !hasAssignedCitizen(data) && deliveryman.findWareHouse() == null)
                 {
                     assignCitizen(data);
                 }
@@ -69,7 +69,7 @@ public class LivingBuildingModule extends AbstractAssignedCitizenModule implemen
         if (!isFull() && ((this.getHiringMode() == HiringMode.DEFAULT && !building.getColony().isManualHousing()) || getHiringMode() == HiringMode.AUTO))
         {
             // 'Capture' as many citizens into this house as possible
-            for (@NotNull final ICitizenData citizen : building.getColony().getCitizenManager().getCitizens())
+            for (@NotNull final ICitizenData citizen : building.getColony().getCitizenManager().getCitizensLivingIn(null))
             {
                 if (isFull())
                 {
@@ -54,7 +54,7 @@ public class QuarryModule extends AbstractAssignedCitizenModule implements IAssi
         // If we have no active worker, grab one from the Colony
         if (!isFull() && BuildingUtils.canAutoHire(building, getHiringMode(), getJobEntry()))
         {
-            for (final ICitizenData data : colony.getCitizenManager().getCitizens())
+            for (final ICitizenData data : colony.getCitizenManager().getCitizensWithJob(JobQuarrier.class))
             {
                 if (data.getJob() instanceof JobQuarrier quarrier && !hasAssignedCitizen(data) && quarrier.findQuarry() == null)
                 {
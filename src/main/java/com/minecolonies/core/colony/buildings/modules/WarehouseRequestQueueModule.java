@@ -4,6 +4,8 @@ import com.minecolonies.api.colony.buildings.modules.AbstractBuildingModule;
 import com.minecolonies.api.colony.buildings.modules.IPersistentModule;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -26,6 +28,11 @@ public class WarehouseRequestQueueModule extends AbstractBuildingModule implemen
     @NotNull
     private final List<IToken<?>> requestList = new ArrayList<>();
 
+    /**
+     * Game time each request was queued at, not persisted, only used for the dispatch stats.
+     */
+    private final Object2LongMap<IToken<?>> queuedTimes = new Object2LongOpenHashMap<>();
+
     @Override
     public void deserializeNBT(final CompoundTag compound)
     {
@@ -68,9 +75,23 @@ public class WarehouseRequestQueueModule extends AbstractBuildingModule implemen
     public void addRequest(IToken<?> requestToken)
     {
         requestList.add(requestToken);
+        if (building != null)
+        {
+            queuedTimes.put(requestToken, building.getColony().getWorld().getGameTime());
+        }
         markDirty();
     }
 
+    /**
+     * Take the game time a request was queued at, once it left the queue.
+     * @param requestToken the request.
+     * @return the game time, or -1 if unknown, e.g. when it was queued before the last load.
+     */
+    public long takeQueuedTime(final IToken<?> requestToken)
+    {
+        return queuedTimes.containsKey(requestToken) ? queuedTimes.removeLong(requestToken) : -1;
+    }
+
     /**
      * Get a mutable version of the request list.
      * @return the mutable request list.
@@ -147,25 +147,14 @@ public class BuildingBuilder extends AbstractBuildingStructureBuilder
             return;
         }
 
-        final List<IWorkOrder> list = getColony().getWorkManager().getOrderedList(wo -> wo.canBeMadeBy(citizen.getJob()), getPosition());
-        list.sort((a, b) -> {
-            if (a.getWorkOrderType() == WorkOrderType.REMOVE)
-            {
-                return -1;
-            }
-            if (b.getWorkOrderType() == WorkOrderType.REMOVE)
+        for (final IWorkOrder order : getColony().getWorkManager().getWorkOrdersClaimedBy(getPosition()))
+        {
+            if (order.canBeMadeBy(citizen.getJob()))
             {
-                return 1;
+                citizen.getJob(JobBuilder.class).setWorkOrder(order);
+                order.setClaimedBy(citizen);
+                return;
             }
-            return 0;
-        });
-
-        final IWorkOrder order = list.stream().filter(w -> w.getClaimedBy() != null && w.getClaimedBy().equals(getPosition())).findFirst().orElse(null);
-        if (order != null)
-        {
-            citizen.getJob(JobBuilder.class).setWorkOrder(order);
-            order.setClaimedBy(citizen);
-            return;
         }
 
         if (getManualMode())
@@ -173,41 +162,8 @@ public class BuildingBuilder extends AbstractBuildingStructureBuilder
             return;
         }
 
-        for (final IWorkOrder wo : list)
-        {
-            double distanceToBuilder = Double.MAX_VALUE;
-
-            if (wo instanceof WorkOrderBuilding && wo.getWorkOrderType() != WorkOrderType.REMOVE && !wo.canBuild(citizen))
-            {
-                continue;
-            }
-
-            for (@NotNull final ICitizenData otherBuilder : getColony().getCitizenManager().getCitizens())
-            {
-                final JobBuilder job = otherBuilder.getJob(JobBuilder.class);
-
-                if (job == null || otherBuilder.getWorkBuilding() == null || citizen.getId() == otherBuilder.getId())
-                {
-                    continue;
-                }
-
-                if (!job.hasWorkOrder() && wo instanceof WorkOrderBuilding && wo.canBuild(otherBuilder))
-                {
-                    final double distance = otherBuilder.getWorkBuilding().getID().distSqr(wo.getLocation());
-                    if (distance < distanceToBuilder)
-                    {
-                        distanceToBuilder = distance;
-                    }
-                }
-            }
-
-            if (citizen.getWorkBuilding().getID().distSqr(wo.getLocation()) < distanceToBuilder)
-            {
-                citizen.getJob(JobBuilder.class).setWorkOrder(wo);
-                wo.setClaimedBy(citizen);
-                return;
-            }
-        }
+        // Orders are matched to all idle builders of the colony at once, closest builder first
+        getColony().getWorkManager().assignBuilders();
     }
 
     /**
@@ -12,6 +12,7 @@ import com.minecolonies.api.crafting.*;
 import com.minecolonies.api.equipment.ModEquipmentTypes;
 import com.minecolonies.api.util.CraftingUtils;
 import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.OptionalPredicate;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
@@ -142,6 +143,18 @@ public class BuildingDyer extends AbstractBuilding
             return recipes;
         }
 
+        @Override
+        public IRecipeStorage getFirstRecipe(final ItemStack stack)
+        {
+            final IRecipeStorage recipe = super.getFirstRecipe(stack);
+            if (recipe == null && stack.is(Items.WHITE_WOOL))
+            {
+                // The indexed lookup only knows learned recipes, white wool can also be made from colored wool.
+                return getFirstRecipe(itemStack -> !itemStack.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true));
+            }
+            return recipe;
+        }
+
         @Override
         public IRecipeStorage getFirstRecipe(Predicate<ItemStack> stackPredicate)
         {
@@ -178,7 +178,7 @@ public class BuildingFarmer extends AbstractBuilding
         @Override
         public @NotNull List<IField> getFields()
         {
-            return building.getColony().getBuildingManager().getFields(field -> field.getFieldType().equals(FieldRegistries.farmField.get())).stream().toList();
+            return building.getColony().getBuildingManager().getFields(FieldRegistries.farmField.get());
         }
 
         @Override
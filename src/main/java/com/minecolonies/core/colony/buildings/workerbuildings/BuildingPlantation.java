@@ -111,7 +111,7 @@ public class BuildingPlantation extends AbstractBuilding
         }
         else
         {
-            final Optional<IField> existingField = colony.getBuildingManager().getField(field -> field.equals(plantationField));
+            final Optional<IField> existingField = colony.getBuildingManager().getField(plantationField.getFieldType(), plantationField.getPosition());
             if (existingField.isPresent() && existingField.get() instanceof PlantationField existingPlantationField)
             {
                 existingPlantationField.setWorkingPositions(workingPositions);
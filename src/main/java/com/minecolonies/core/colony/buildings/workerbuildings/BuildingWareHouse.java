@@ -12,6 +12,7 @@ import com.minecolonies.api.tileentities.*;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.core.blocks.BlockMinecoloniesRack;
 import com.minecolonies.core.client.gui.WindowHutMinPlaceholder;
+import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
 import com.minecolonies.core.colony.buildings.modules.CourierAssignmentModule;
 import com.minecolonies.core.colony.buildings.modules.WarehouseModule;
@@ -132,6 +133,10 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
             }
         }
         super.registerBlockPosition(block, pos, world);
+        if (getColony() instanceof Colony colony)
+        {
+            colony.getWarehouseItemIndex().markDirty();
+        }
     }
 
     @Override
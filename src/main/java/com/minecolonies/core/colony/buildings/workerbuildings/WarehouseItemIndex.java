@@ -0,0 +1,415 @@
+package com.minecolonies.core.colony.buildings.workerbuildings;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.tileentities.TileEntityRack;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Colony wide index of the items stored in the loaded warehouse racks, with the count per rack. The racks keep it current on each content change, so warehouse queries
+ * only visit the entries of the matching items instead of every rack of every warehouse.
+ */
+public class WarehouseItemIndex
+{
+    /**
+     * The colony of the index.
+     */
+    private final IColony colony;
+
+    /**
+     * Stored variants by item, predicates are tested once per variant.
+     */
+    private final Map<Item, List<IndexEntry>> entriesByItem = new HashMap<>();
+
+    /**
+     * Indexed content by rack position, to apply content changes as difference.
+     */
+    private final Map<BlockPos, Object2IntMap<ItemStorage>> contentByRack = new HashMap<>();
+
+    /**
+     * Warehouse position by rack position.
+     */
+    private final Map<BlockPos, BlockPos> warehouseByRack = new HashMap<>();
+
+    /**
+     * Whether the index has to be rebuilt from the racks before the next query.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Create a new index.
+     *
+     * @param colony the colony.
+     */
+    public WarehouseItemIndex(final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Marks the index for a rebuild, e.g. when warehouses or their racks got added or removed.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Updates the content of a warehouse rack.
+     *
+     * @param rackPos the position of the rack.
+     * @param content the new content of the rack.
+     */
+    public void updateRack(@NotNull final BlockPos rackPos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        if (dirty)
+        {
+            // The rebuild reads the current content anyway
+            return;
+        }
+
+        BlockPos warehouse = warehouseByRack.get(rackPos);
+        if (warehouse == null)
+        {
+            warehouse = findWarehouse(rackPos);
+            if (warehouse == null)
+            {
+                return;
+            }
+        }
+
+        removeContent(rackPos);
+        addContent(rackPos, warehouse, content);
+    }
+
+    /**
+     * Removes an unloaded or destroyed rack.
+     *
+     * @param rackPos the position of the rack.
+     */
+    public void removeRack(@NotNull final BlockPos rackPos)
+    {
+        if (!dirty)
+        {
+            removeContent(rackPos);
+        }
+    }
+
+    /**
+     * Counts the stored items equal to the given storage, respecting its ignore damage and nbt settings.
+     *
+     * @param storage   the storage to count.
+     * @param warehouse the warehouse to count in, null for all warehouses.
+     * @return the count.
+     */
+    public int getCount(@NotNull final ItemStorage storage, @Nullable final BlockPos warehouse)
+    {
+        rebuildIfDirty();
+        int count = 0;
+        for (final IndexEntry entry : entriesByItem.getOrDefault(storage.getItem(), Collections.emptyList()))
+        {
+            if (entry.storage.equals(storage))
+            {
+                count += entry.getCount(warehouse);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the stored items in the given tag that match the predicate.
+     *
+     * @param tag       the tag, only its items are visited.
+     * @param predicate the predicate.
+     * @param warehouse the warehouse to count in, null for all warehouses.
+     * @return the count.
+     */
+    public int getCount(@NotNull final TagKey<Item> tag, @NotNull final Predicate<ItemStack> predicate, @Nullable final BlockPos warehouse)
+    {
+        rebuildIfDirty();
+        int count = 0;
+        for (final Holder<Item> item : BuiltInRegistries.ITEM.getTagOrEmpty(tag))
+        {
+            for (final IndexEntry entry : entriesByItem.getOrDefault(item.value(), Collections.emptyList()))
+            {
+                if (predicate.test(entry.storage.getItemStack()))
+                {
+                    count += entry.getCount(warehouse);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the stored items matching the predicate.
+     *
+     * @param predicate the predicate.
+     * @param warehouse the warehouse to count in, null for all warehouses.
+     * @return the count.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate, @Nullable final BlockPos warehouse)
+    {
+        rebuildIfDirty();
+        int count = 0;
+        for (final List<IndexEntry> entries : entriesByItem.values())
+        {
+            for (final IndexEntry entry : entries)
+            {
+                if (predicate.test(entry.storage.getItemStack()))
+                {
+                    count += entry.getCount(warehouse);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the racks of the warehouse holding items matching the predicate.
+     *
+     * @param predicate the predicate.
+     * @param warehouse the warehouse.
+     * @return the rack positions.
+     */
+    public Set<BlockPos> getRacks(@NotNull final Predicate<ItemStack> predicate, @NotNull final BlockPos warehouse)
+    {
+        rebuildIfDirty();
+        final Set<BlockPos> racks = new HashSet<>();
+        for (final List<IndexEntry> entries : entriesByItem.values())
+        {
+            for (final IndexEntry entry : entries)
+            {
+                if (entry.getCount(warehouse) > 0 && predicate.test(entry.storage.getItemStack()))
+                {
+                    for (final BlockPos rack : entry.countByRack.keySet())
+                    {
+                        if (warehouse.equals(warehouseByRack.get(rack)))
+                        {
+                            racks.add(rack);
+                        }
+                    }
+                }
+            }
+        }
+        return racks;
+    }
+
+    /**
+     * Reads all loaded warehouse racks again if the index is dirty.
+     */
+    private void rebuildIfDirty()
+    {
+        if (!dirty)
+        {
+            return;
+        }
+
+        dirty = false;
+        entriesByItem.clear();
+        contentByRack.clear();
+        warehouseByRack.clear();
+
+        final Level world = colony.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+
+        for (final IWareHouse wareHouse : colony.getBuildingManager().getWareHouses())
+        {
+            for (final BlockPos pos : wareHouse.getContainers())
+            {
+                if (WorldUtil.isBlockLoaded(world, pos) && world.getBlockEntity(pos) instanceof TileEntityRack rack)
+                {
+                    addContent(pos, wareHouse.getPosition(), rack.getAllContent());
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the warehouse a rack belongs to.
+     *
+     * @param rackPos the rack position.
+     * @return the warehouse position or null.
+     */
+    @Nullable
+    private BlockPos findWarehouse(final BlockPos rackPos)
+    {
+        for (final IWareHouse wareHouse : colony.getBuildingManager().getWareHouses())
+        {
+            if (wareHouse.hasContainerPosition(rackPos))
+            {
+                return wareHouse.getPosition();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the content of a rack.
+     *
+     * @param rackPos   the rack position.
+     * @param warehouse the warehouse of the rack.
+     * @param content   the content.
+     */
+    private void addContent(final BlockPos rackPos, final BlockPos warehouse, final Map<ItemStorage, Integer> content)
+    {
+        final Object2IntMap<ItemStorage> snapshot = new Object2IntOpenHashMap<>(content);
+        contentByRack.put(rackPos, snapshot);
+        warehouseByRack.put(rackPos, warehouse);
+
+        for (final Object2IntMap.Entry<ItemStorage> stored : snapshot.object2IntEntrySet())
+        {
+            final List<IndexEntry> entries = entriesByItem.computeIfAbsent(stored.getKey().getItem(), item -> new ArrayList<>());
+            IndexEntry entry = null;
+            for (final IndexEntry existing : entries)
+            {
+                if (existing.storage.equals(stored.getKey()))
+                {
+                    entry = existing;
+                    break;
+                }
+            }
+
+            if (entry == null)
+            {
+                entry = new IndexEntry(stored.getKey());
+                entries.add(entry);
+            }
+            entry.add(rackPos, warehouse, stored.getIntValue());
+        }
+    }
+
+    /**
+     * Removes the indexed content of a rack.
+     *
+     * @param rackPos the rack position.
+     */
+    private void removeContent(final BlockPos rackPos)
+    {
+        final Object2IntMap<ItemStorage> snapshot = contentByRack.remove(rackPos);
+        final BlockPos warehouse = warehouseByRack.remove(rackPos);
+        if (snapshot == null)
+        {
+            return;
+        }
+
+        for (final Object2IntMap.Entry<ItemStorage> stored : snapshot.object2IntEntrySet())
+        {
+            final List<IndexEntry> entries = entriesByItem.get(stored.getKey().getItem());
+            if (entries == null)
+            {
+                continue;
+            }
+
+            for (final Iterator<IndexEntry> iterator = entries.iterator(); iterator.hasNext(); )
+            {
+                final IndexEntry entry = iterator.next();
+                if (entry.storage.equals(stored.getKey()))
+                {
+                    if (entry.remove(rackPos, warehouse))
+                    {
+                        iterator.remove();
+                    }
+                    break;
+                }
+            }
+
+            if (entries.isEmpty())
+            {
+                entriesByItem.remove(stored.getKey().getItem());
+            }
+        }
+    }
+
+    /**
+     * Counts of one stored variant.
+     */
+    private static class IndexEntry
+    {
+        /**
+         * The stored variant.
+         */
+        private final ItemStorage storage;
+
+        /**
+         * Count by rack position.
+         */
+        private final Object2IntOpenHashMap<BlockPos> countByRack = new Object2IntOpenHashMap<>();
+
+        /**
+         * Count by warehouse position.
+         */
+        private final Object2IntOpenHashMap<BlockPos> countByWarehouse = new Object2IntOpenHashMap<>();
+
+        /**
+         * Count in all warehouses.
+         */
+        private int total = 0;
+
+        private IndexEntry(final ItemStorage storage)
+        {
+            this.storage = storage;
+        }
+
+        /**
+         * Add the count of a rack.
+         *
+         * @param rackPos   the rack.
+         * @param warehouse its warehouse.
+         * @param count     the count.
+         */
+        private void add(final BlockPos rackPos, final BlockPos warehouse, final int count)
+        {
+            countByRack.addTo(rackPos, count);
+            countByWarehouse.addTo(warehouse, count);
+            total += count;
+        }
+
+        /**
+         * Remove the count of a rack.
+         *
+         * @param rackPos   the rack.
+         * @param warehouse its warehouse.
+         * @return true if the entry is empty now.
+         */
+        private boolean remove(final BlockPos rackPos, final BlockPos warehouse)
+        {
+            final int count = countByRack.removeInt(rackPos);
+            if (countByWarehouse.addTo(warehouse, -count) == count)
+            {
+                countByWarehouse.removeInt(warehouse);
+            }
+            total -= count;
+            return countByRack.isEmpty();
+        }
+
+        /**
+         * Get the count.
+         *
+         * @param warehouse the warehouse, null for all.
+         * @return the count.
+         */
+        private int getCount(@Nullable final BlockPos warehouse)
+        {
+            return warehouse == null ? total : countByWarehouse.getInt(warehouse);
+        }
+    }
+}
@@ -466,15 +466,20 @@ public class RaidManager implements IRaiderManager
     @Override
     public BlockPos calculateSpawnLocation()
     {
-        BlockPos locationSum = new BlockPos(0, 0, 0);
+        long sumX = 0;
+        long sumY = 0;
+        long sumZ = 0;
         int amount = 0;
 
         for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
         {
-            if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), building.getPosition()))
+            final BlockPos pos = building.getPosition();
+            if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), pos))
             {
                 amount++;
-                locationSum = locationSum.offset(building.getPosition());
+                sumX += pos.getX();
+                sumY += pos.getY();
+                sumZ += pos.getZ();
             }
         }
 
@@ -485,7 +490,7 @@ public class RaidManager implements IRaiderManager
         }
 
         // Calculate center on loaded buildings, to find a nice distance for raiders
-        final BlockPos calcCenter = new BlockPos(locationSum.getX() / amount, locationSum.getY() / amount, locationSum.getZ() / amount);
+        final BlockPos calcCenter = new BlockPos((int) (sumX / amount), (int) (sumY / amount), (int) (sumZ / amount));
 
         // Get a random point on a circle around the colony,far out for the direction
         final int degree = colony.getWorld().random.nextInt(360);
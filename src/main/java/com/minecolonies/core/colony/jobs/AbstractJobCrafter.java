@@ -192,6 +192,7 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         while (request == null)
         {
             getTaskQueueFromDataStore().remove(getTaskQueueFromDataStore().peekFirst());
+            getDataStore().markDirty();
             request = (IRequest<R>) getColony().getRequestManager().getRequestForToken(getTaskQueueFromDataStore().peekFirst());
         }
 
@@ -206,6 +207,7 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
     public void addRequest(@NotNull final IToken<?> token)
     {
         getTaskQueueFromDataStore().add(token);
+        getDataStore().markDirty();
     }
 
     /**
@@ -235,16 +237,19 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         if (getTaskQueueFromDataStore().contains(token))
         {
             getTaskQueueFromDataStore().remove(token);
+            getDataStore().markDirty();
         }
         else if (getAssignedTasksFromDataStore().contains(token))
         {
             getAssignedTasksFromDataStore().remove(token);
+            getDataStore().markDirty();
         }
     }
 
     public void onTaskBeingScheduled(@NotNull final IToken<?> token)
     {
         getAssignedTasksFromDataStore().add(token);
+        getDataStore().markDirty();
     }
 
     public void onTaskBeingResolved(@NotNull final IToken<?> token)
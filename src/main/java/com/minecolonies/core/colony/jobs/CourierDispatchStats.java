@@ -0,0 +1,94 @@
+package com.minecolonies.core.colony.jobs;
+
+/**
+ * Statistics of couriers taking requests from the warehouse queue, over all colonies.
+ */
+public final class CourierDispatchStats
+{
+    /**
+     * Time the counting started at.
+     */
+    private static long startMillis = System.currentTimeMillis();
+
+    /**
+     * Number of times a courier took requests from the queue.
+     */
+    private static long dispatches;
+
+    /**
+     * Number of requests taken from the queue.
+     */
+    private static long requests;
+
+    /**
+     * Number of requests with a known queue time.
+     */
+    private static long timedRequests;
+
+    /**
+     * Ticks the timed requests waited in the queue.
+     */
+    private static long waitTicks;
+
+    /**
+     * Blocks of the planned routes, from the courier to the first stop and on to the second.
+     */
+    private static double routeDistance;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private CourierDispatchStats()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Count a courier taking a batch of requests from the queue.
+     *
+     * @param batchSize the number of requests taken.
+     * @param timed     the number of those with a known queue time.
+     * @param waited    the ticks those waited in the queue.
+     * @param distance  the planned route length in blocks for the batch.
+     */
+    public static synchronized void onDispatch(final int batchSize, final int timed, final long waited, final double distance)
+    {
+        dispatches++;
+        requests += batchSize;
+        timedRequests += timed;
+        waitTicks += waited;
+        routeDistance += distance;
+    }
+
+    /**
+     * Restart the counting.
+     */
+    public static synchronized void reset()
+    {
+        startMillis = System.currentTimeMillis();
+        dispatches = 0;
+        requests = 0;
+        timedRequests = 0;
+        waitTicks = 0;
+        routeDistance = 0;
+    }
+
+    /**
+     * Get a summary of the counters.
+     *
+     * @return the summary text.
+     */
+    public static synchronized String getSummary()
+    {
+        final double seconds = Math.max(1, System.currentTimeMillis() - startMillis) / 1000.0;
+        return String.format("Over %.0fs: %d dispatches, %d requests, %.2f requests per dispatch\n average queue wait: %.1f ticks\n route distance per request: %.1f blocks",
+          seconds,
+          dispatches,
+          requests,
+          dispatches == 0 ? 0 : (double) requests / dispatches,
+          timedRequests == 0 ? 0 : (double) waitTicks / timedRequests,
+          requests == 0 ? 0 : routeDistance / requests);
+    }
+}
@@ -208,7 +208,13 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                 return null;
             }
 
+            // Only take what the courier carries in one trip, the rest stays queued for the next idle courier.
+            final int capacity = getDeliveryCapacity();
             final List<IToken<?>> reqsToRemove = new ArrayList<>();
+            final List<IToken<?>> takenReqs = new ArrayList<>();
+            // The deliveries taken so far, compared directly instead of looking up the task queue for every queued request.
+            final List<Delivery> takenDeliveries = new ArrayList<>();
+            IRequest<?> firstRequest = null;
             int extendedReqs = 0;
             for (final IToken<?> reqId : module.getMutableRequestList())
             {
@@ -216,6 +222,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                 if (localRequest == null)
                 {
                     reqsToRemove.add(reqId);
+                    module.takeQueuedTime(reqId);
                     continue;
                 }
 
@@ -223,16 +230,26 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                 {
                     addRequest(reqId, 0);
                     request = reqId;
-                    reqsToRemove.add(reqId);
+                    firstRequest = localRequest;
                 }
-                else if (localRequest instanceof StandardRequests.DeliveryRequest && hasSameDestinationDelivery(localRequest))
+                else if (localRequest instanceof StandardRequests.DeliveryRequest && hasSameSourceAndDest(takenDeliveries, (Delivery) localRequest.getRequest()))
                 {
                     addRequest(reqId, 0);
                     extendedReqs++;
-                    reqsToRemove.add(reqId);
+                }
+                else
+                {
+                    continue;
                 }
 
-                if (extendedReqs > 5)
+                if (localRequest.getRequest() instanceof Delivery)
+                {
+                    takenDeliveries.add((Delivery) localRequest.getRequest());
+                }
+                takenReqs.add(reqId);
+                reqsToRemove.add(reqId);
+
+                if (extendedReqs > 5 || takenReqs.size() >= capacity)
                 {
                     break;
                 }
@@ -247,11 +264,28 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                 return null;
             }
 
+            onDispatch(module, firstRequest, takenReqs);
+
         }
 
         return (IRequest<IDeliverymanRequestable>) getColony().getRequestManager().getRequestForToken(request);
     }
 
+    /**
+     * Get the number of deliveries the courier carries in one trip.
+     *
+     * @return the number of deliveries.
+     */
+    public int getDeliveryCapacity()
+    {
+        final IBuilding workBuilding = getCitizen().getWorkBuilding();
+        if (workBuilding == null)
+        {
+            return 1;
+        }
+        return 1 + getCitizen().getCitizenSkillHandler().getLevel(workBuilding.getModule(BuildingModules.COURIER_WORK).getSecondarySkill()) / 5;
+    }
+
     /**
      * Method used to add a request to the queue
      *
@@ -278,10 +312,12 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             else
             {
                 request.getRequest().incrementPriorityDueToAging();
+                request.markDirty();
             }
         }
 
         getTaskQueueFromDataStore().add(Math.max(0, insertionIndex + offset), token);
+        getDataStore().markDirty();
     }
 
     /**
@@ -305,6 +341,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             if (!getTaskQueueFromDataStore().isEmpty() && current == getTaskQueueFromDataStore().getFirst())
             {
                 getTaskQueueFromDataStore().removeFirst();
+                getDataStore().markDirty();
             }
             return;
         }
@@ -353,6 +390,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             }
         }
 
+        getDataStore().markDirty();
         getCitizen().getWorkBuilding().markDirty();
     }
 
@@ -366,6 +404,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         if (getTaskQueueFromDataStore().contains(token))
         {
             getTaskQueueFromDataStore().remove(token);
+            getDataStore().markDirty();
         }
 
         if (getCitizen().getWorkBuilding() != null)
@@ -399,6 +438,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             }
             getTaskQueueFromDataStore().remove(t);
         }
+        getDataStore().markDirty();
     }
 
     @Override
@@ -442,6 +482,60 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         return false;
     }
 
+    /**
+     * Check if a delivery has the same source and destination as any of the given deliveries.
+     *
+     * @param deliveries the deliveries to compare with.
+     * @param delivery   the delivery to check.
+     * @return true if so.
+     */
+    private boolean hasSameSourceAndDest(final List<Delivery> deliveries, final Delivery delivery)
+    {
+        for (final Delivery current : deliveries)
+        {
+            if (haveTasksSameSourceAndDest(current, delivery))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count the requests taken from the warehouse queue for the dispatch stats.
+     *
+     * @param module       the warehouse queue.
+     * @param firstRequest the first request taken, the others share its route.
+     * @param takenReqs    all requests taken.
+     */
+    private void onDispatch(final WarehouseRequestQueueModule module, final IRequest<?> firstRequest, final List<IToken<?>> takenReqs)
+    {
+        final long gameTime = getColony().getWorld().getGameTime();
+        int timedReqs = 0;
+        long waitTicks = 0;
+        for (final IToken<?> reqId : takenReqs)
+        {
+            final long queuedTime = module.takeQueuedTime(reqId);
+            if (queuedTime >= 0)
+            {
+                timedReqs++;
+                waitTicks += gameTime - queuedTime;
+            }
+        }
+
+        double distance = 0;
+        final BlockPos source = getSource(firstRequest);
+        final BlockPos target = getTarget(firstRequest);
+        if (source != null && target != null)
+        {
+            // Pickups are reversed, the courier walks to the target first and brings the items back to the source.
+            final BlockPos firstStop = firstRequest.getRequest() instanceof Pickup ? target : source;
+            distance = BlockPosUtil.getDistance(getCitizen().getLastPosition(), firstStop) + BlockPosUtil.getDistance(source, target);
+        }
+
+        CourierDispatchStats.onDispatch(takenReqs.size(), timedReqs, waitTicks, distance);
+    }
+
     /**
      * Check if two deliveries have the same source and destination.
      *
@@ -708,6 +802,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     public void addConcurrentDelivery(final IToken<?> requestToken)
     {
         getDataStore().getOngoingDeliveries().add(requestToken);
+        getDataStore().markDirty();
     }
 
     /**
@@ -717,5 +812,6 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     public void removeConcurrentDelivery(final IToken<?> requestToken)
     {
         getDataStore().getOngoingDeliveries().remove(requestToken);
+        getDataStore().markDirty();
     }
 }
@@ -0,0 +1,193 @@
+package com.minecolonies.core.colony.managers;
+
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The buildings of one type of a colony, with a grid over their positions for closest and range lookups. Never changed after creation, the structure manager
+ * replaces it when buildings are added or removed.
+ */
+public class BuildingTypeIndex
+{
+    /**
+     * Shift from block coordinates to grid cells, cells are 64 blocks wide.
+     */
+    private static final int CELL_SHIFT = 6;
+
+    /**
+     * Width of a grid cell in blocks.
+     */
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * The buildings of the type.
+     */
+    private final ImmutableList<IBuilding> buildings;
+
+    /**
+     * The buildings by grid cell.
+     */
+    private final Long2ObjectOpenHashMap<List<IBuilding>> cells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Create the index of a set of buildings.
+     *
+     * @param buildings the buildings of the type.
+     */
+    public BuildingTypeIndex(@NotNull final ImmutableList<IBuilding> buildings)
+    {
+        this.buildings = buildings;
+        for (final IBuilding building : buildings)
+        {
+            final BlockPos pos = building.getPosition();
+            cells.computeIfAbsent(ChunkPos.asLong(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT), key -> new ArrayList<>()).add(building);
+        }
+    }
+
+    /**
+     * Get all buildings of the type.
+     *
+     * @return an unmodifiable list of the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getBuildings()
+    {
+        return buildings;
+    }
+
+    /**
+     * Get the matching building closest to a position.
+     *
+     * @param pos    the position.
+     * @param filter the condition the building has to match.
+     * @return the building, or null if none matches.
+     */
+    @Nullable
+    public IBuilding getClosest(@NotNull final BlockPos pos, @NotNull final Predicate<IBuilding> filter)
+    {
+        if (buildings.isEmpty())
+        {
+            return null;
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+
+        IBuilding closest = null;
+        double closestDist = Double.MAX_VALUE;
+        int visitedCells = 0;
+        for (int ring = 0; ; ring++)
+        {
+            // Everything outside of this ring is at least this far away
+            final double ringDist = (double) (ring - 1) * CELL_SIZE;
+            if (closest != null && ring > 0 && ringDist * ringDist >= closestDist)
+            {
+                return closest;
+            }
+
+            // Few buildings spread far apart: checking them one by one is cheaper than the empty cells
+            if (visitedCells > buildings.size() + cells.size())
+            {
+                return getClosestLinear(pos, filter);
+            }
+
+            for (int x = cellX - ring; x <= cellX + ring; x++)
+            {
+                for (int z = cellZ - ring; z <= cellZ + ring; z++)
+                {
+                    if (Math.abs(x - cellX) != ring && Math.abs(z - cellZ) != ring)
+                    {
+                        continue;
+                    }
+
+                    visitedCells++;
+                    final List<IBuilding> cellBuildings = cells.get(ChunkPos.asLong(x, z));
+                    if (cellBuildings == null)
+                    {
+                        continue;
+                    }
+
+                    for (final IBuilding building : cellBuildings)
+                    {
+                        final double dist = building.getPosition().distSqr(pos);
+                        if (dist < closestDist && filter.test(building))
+                        {
+                            closest = building;
+                            closestDist = dist;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the matching buildings within a horizontal range of a position.
+     *
+     * @param pos    the position.
+     * @param range  the range in blocks.
+     * @param filter the condition the buildings have to match.
+     * @return the buildings.
+     */
+    @NotNull
+    public List<IBuilding> getInRange(@NotNull final BlockPos pos, final int range, @NotNull final Predicate<IBuilding> filter)
+    {
+        final List<IBuilding> result = new ArrayList<>();
+        final long rangeSq = (long) range * range;
+        for (int x = (pos.getX() - range) >> CELL_SHIFT; x <= (pos.getX() + range) >> CELL_SHIFT; x++)
+        {
+            for (int z = (pos.getZ() - range) >> CELL_SHIFT; z <= (pos.getZ() + range) >> CELL_SHIFT; z++)
+            {
+                final List<IBuilding> cellBuildings = cells.get(ChunkPos.asLong(x, z));
+                if (cellBuildings == null)
+                {
+                    continue;
+                }
+
+                for (final IBuilding building : cellBuildings)
+                {
+                    final long xDiff = building.getPosition().getX() - pos.getX();
+                    final long zDiff = building.getPosition().getZ() - pos.getZ();
+                    if (xDiff * xDiff + zDiff * zDiff <= rangeSq && filter.test(building))
+                    {
+                        result.add(building);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the closest matching building by checking all of them.
+     *
+     * @param pos    the position.
+     * @param filter the condition the building has to match.
+     * @return the building, or null if none matches.
+     */
+    @Nullable
+    private IBuilding getClosestLinear(@NotNull final BlockPos pos, @NotNull final Predicate<IBuilding> filter)
+    {
+        IBuilding closest = null;
+        double closestDist = Double.MAX_VALUE;
+        for (final IBuilding building : buildings)
+        {
+            final double dist = building.getPosition().distSqr(pos);
+            if (dist < closestDist && filter.test(building))
+            {
+                closest = building;
+                closestDist = dist;
+            }
+        }
+        return closest;
+    }
+}
@@ -0,0 +1,190 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.core.colony.jobs.AbstractJobGuard;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Colony wide counts the social and security happiness factors are calculated from. Each citizen is counted with a set of flags, a change of one citizen only replaces its
+ * own flags, so the factors are read without visiting all citizens.
+ * <p>
+ * The citizen data reports job, home, age, sickness, saturation and entity changes, including entities found removed. The counts are redone once a day with the daily
+ * happiness check as a safety net.
+ */
+public class CitizenHappinessAggregate
+{
+    /**
+     * Adult without job.
+     */
+    private static final int UNEMPLOYED = 1;
+
+    /**
+     * Citizen without home.
+     */
+    private static final int HOMELESS = 1 << 1;
+
+    /**
+     * Sick citizen with entity.
+     */
+    private static final int SICK = 1 << 2;
+
+    /**
+     * Citizen with a saturation of one or less.
+     */
+    private static final int HUNGRY = 1 << 3;
+
+    /**
+     * Citizen with a guard job.
+     */
+    private static final int GUARD = 1 << 4;
+
+    /**
+     * Counted flags by citizen id.
+     */
+    private final Int2IntOpenHashMap flagsByCitizen = new Int2IntOpenHashMap();
+
+    /**
+     * Number of citizens with each flag, by bit index.
+     */
+    private final int[] counts = new int[5];
+
+    /**
+     * Updates the counts of a citizen.
+     *
+     * @param citizen the citizen.
+     */
+    public void update(@NotNull final ICitizenData citizen)
+    {
+        final int flags = getFlags(citizen);
+        if (flagsByCitizen.containsKey(citizen.getId()))
+        {
+            count(flagsByCitizen.get(citizen.getId()), -1);
+        }
+        flagsByCitizen.put(citizen.getId(), flags);
+        count(flags, 1);
+    }
+
+    /**
+     * Removes a citizen from the counts.
+     *
+     * @param citizenId the id of the citizen.
+     */
+    public void remove(final int citizenId)
+    {
+        if (flagsByCitizen.containsKey(citizenId))
+        {
+            count(flagsByCitizen.remove(citizenId), -1);
+        }
+    }
+
+    /**
+     * Counts all citizens again.
+     *
+     * @param citizens the citizens of the colony.
+     */
+    public void recount(@NotNull final Collection<ICitizenData> citizens)
+    {
+        flagsByCitizen.clear();
+        for (int i = 0; i < counts.length; i++)
+        {
+            counts[i] = 0;
+        }
+
+        // Reading the entity may report a removed one, which updates the citizen already
+        for (final ICitizenData citizen : citizens)
+        {
+            update(citizen);
+        }
+    }
+
+    /**
+     * Get the social happiness factor: the share of citizens without job, home, sickness or hunger, each problem counted separately.
+     *
+     * @return the factor.
+     */
+    public double getSocialFactor()
+    {
+        final double total = flagsByCitizen.size();
+        final double problems = counts[bit(UNEMPLOYED)] + counts[bit(HOMELESS)] + counts[bit(SICK)] + counts[bit(HUNGRY)];
+        return (total - problems) / total;
+    }
+
+    /**
+     * Get the security happiness factor: the ratio of guards to the other citizens.
+     *
+     * @return the factor.
+     */
+    public double getGuardFactor()
+    {
+        final double guards = 1 + counts[bit(GUARD)];
+        final double workers = 1 + flagsByCitizen.size() - counts[bit(GUARD)];
+        return Math.min(guards / (workers * 2 / 3), 2);
+    }
+
+    /**
+     * Get the flags a citizen currently counts with.
+     *
+     * @param citizen the citizen.
+     * @return the flags.
+     */
+    private static int getFlags(final ICitizenData citizen)
+    {
+        int flags = 0;
+        if (!citizen.isChild() && citizen.getJob() == null)
+        {
+            flags |= UNEMPLOYED;
+        }
+
+        if (citizen.getHomeBuilding() == null)
+        {
+            flags |= HOMELESS;
+        }
+
+        if (citizen.getEntity().isPresent() && citizen.getCitizenDiseaseHandler().isSick())
+        {
+            flags |= SICK;
+        }
+
+        if (citizen.getSaturation() <= 1)
+        {
+            flags |= HUNGRY;
+        }
+
+        if (citizen.getJob() instanceof AbstractJobGuard)
+        {
+            flags |= GUARD;
+        }
+        return flags;
+    }
+
+    /**
+     * Adds to the counts of the set flags.
+     *
+     * @param flags the flags.
+     * @param delta the amount to add.
+     */
+    private void count(final int flags, final int delta)
+    {
+        for (int i = 0; i < counts.length; i++)
+        {
+            if ((flags & (1 << i)) != 0)
+            {
+                counts[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Get the bit index of a flag.
+     *
+     * @param flag the flag.
+     * @return the index.
+     */
+    private static int bit(final int flag)
+    {
+        return Integer.numberOfTrailingZeros(flag);
+    }
+}
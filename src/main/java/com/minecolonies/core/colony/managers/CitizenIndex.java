@@ -0,0 +1,132 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.jobs.IJob;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Lookup of the citizens of a colony by job class, work building and home building. Built from the citizens at one point in time and replaced as a whole when a citizen
+ * changes, so the returned lists stay valid while the caller changes assignments.
+ */
+public class CitizenIndex
+{
+    /**
+     * Citizens by the exact class of their job.
+     */
+    private final Map<Class<?>, List<ICitizenData>> byJobClass = new HashMap<>();
+
+    /**
+     * Citizens with a job of the queried type, including subclasses, filled on demand.
+     */
+    private final Map<Class<?>, List<ICitizenData>> byJobType = new HashMap<>();
+
+    /**
+     * Citizens by the position of their work building.
+     */
+    private final Map<BlockPos, List<ICitizenData>> byWorkBuilding = new HashMap<>();
+
+    /**
+     * Citizens by the position of their home, the homeless under null.
+     */
+    private final Map<BlockPos, List<ICitizenData>> byHome = new HashMap<>();
+
+    /**
+     * The number of children.
+     */
+    private final int childCount;
+
+    /**
+     * Build the index.
+     *
+     * @param citizens the citizens.
+     */
+    public CitizenIndex(@NotNull final Collection<ICitizenData> citizens)
+    {
+        int children = 0;
+        for (final ICitizenData citizen : citizens)
+        {
+            if (citizen.isChild())
+            {
+                children++;
+            }
+
+            final IJob<?> job = citizen.getJob();
+            if (job != null)
+            {
+                byJobClass.computeIfAbsent(job.getClass(), key -> new ArrayList<>()).add(citizen);
+                if (job.getWorkBuilding() != null)
+                {
+                    byWorkBuilding.computeIfAbsent(job.getWorkBuilding().getID(), key -> new ArrayList<>()).add(citizen);
+                }
+            }
+
+            byHome.computeIfAbsent(citizen.getHomeBuilding() == null ? null : citizen.getHomeBuilding().getID(), key -> new ArrayList<>()).add(citizen);
+        }
+        this.childCount = children;
+
+        byJobClass.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        byWorkBuilding.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        byHome.replaceAll((key, list) -> Collections.unmodifiableList(list));
+    }
+
+    /**
+     * Get the citizens with a job of the given type.
+     *
+     * @param type the job type, subclasses match as well.
+     * @return the unmodifiable list of citizens.
+     */
+    public List<ICitizenData> getCitizensWithJob(@NotNull final Class<?> type)
+    {
+        List<ICitizenData> result = byJobType.get(type);
+        if (result == null)
+        {
+            final List<ICitizenData> matching = new ArrayList<>();
+            for (final Map.Entry<Class<?>, List<ICitizenData>> entry : byJobClass.entrySet())
+            {
+                if (type.isAssignableFrom(entry.getKey()))
+                {
+                    matching.addAll(entry.getValue());
+                }
+            }
+            result = Collections.unmodifiableList(matching);
+            byJobType.put(type, result);
+        }
+        return result;
+    }
+
+    /**
+     * Get the citizens working in a building.
+     *
+     * @param buildingPos the position of the building.
+     * @return the unmodifiable list of citizens.
+     */
+    public List<ICitizenData> getCitizensWorkingAt(@NotNull final BlockPos buildingPos)
+    {
+        return byWorkBuilding.getOrDefault(buildingPos, Collections.emptyList());
+    }
+
+    /**
+     * Get the citizens living in a building.
+     *
+     * @param buildingPos the position of the building, null for the homeless citizens.
+     * @return the unmodifiable list of citizens.
+     */
+    public List<ICitizenData> getCitizensLivingIn(@Nullable final BlockPos buildingPos)
+    {
+        return byHome.getOrDefault(buildingPos, Collections.emptyList());
+    }
+
+    /**
+     * Get the number of children.
+     *
+     * @return the count.
+     */
+    public int getChildCount()
+    {
+        return childCount;
+    }
+}
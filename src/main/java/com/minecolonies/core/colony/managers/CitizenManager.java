@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.HiringMode;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.citizens.event.CitizenAddedEvent;
+import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractCivilianEntity;
@@ -67,6 +68,11 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean isCitizensDirty = false;
 
+    /**
+     * Variable to determine if the citizens changed since the last save.
+     */
+    private boolean isSaveDirty = true;
+
     /**
      * The highest citizen id.
      */
@@ -102,6 +108,23 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean areCitizensSleeping;
 
+    /**
+     * Counts for the colony wide happiness factors.
+     */
+    private final CitizenHappinessAggregate happinessAggregate = new CitizenHappinessAggregate();
+
+    /**
+     * Unmodifiable snapshot of the citizens, null if citizens got added or removed since.
+     */
+    @Nullable
+    private List<ICitizenData> citizenSnapshot = null;
+
+    /**
+     * Lookup of the citizens by job and building, null if an assignment changed since.
+     */
+    @Nullable
+    private CitizenIndex citizenIndex = null;
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -171,9 +194,11 @@ public class CitizenManager implements ICitizenManager
         citizens.putAll(NBTUtils.streamCompound(compound.getList(TAG_CITIZENS, Tag.TAG_COMPOUND))
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(ICitizenData::getId, Function.identity())));
+        onCitizensChanged();
 
         // Update child state after loading citizen data
         colony.updateHasChilds();
+        happinessAggregate.recount(citizens.values());
     }
 
     /**
@@ -201,20 +226,36 @@ public class CitizenManager implements ICitizenManager
       @NotNull final Set<ServerPlayer> closeSubscribers,
       @NotNull final Set<ServerPlayer> newSubscribers)
     {
-        if (isCitizensDirty || !newSubscribers.isEmpty())
+        if (!newSubscribers.isEmpty())
         {
-            final Set<ServerPlayer> players = new HashSet<>();
-            if (isCitizensDirty)
+            for (@NotNull final ICitizenData citizen : citizens.values())
             {
-                players.addAll(closeSubscribers);
+                final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
+                newSubscribers.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                CitizenViewSyncStats.onFull(message.getSize(), newSubscribers.size());
             }
-            players.addAll(newSubscribers);
+        }
+
+        if (isCitizensDirty)
+        {
+            // New subscribers got the full data above, the others only need what changed
+            final Set<ServerPlayer> players = new HashSet<>(closeSubscribers);
+            players.removeAll(newSubscribers);
+            if (players.isEmpty())
+            {
+                return;
+            }
+
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
-                if (citizen.isDirty() || !newSubscribers.isEmpty())
+                if (citizen.isDirty())
                 {
-                    final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    final ColonyViewCitizenViewMessage message = ColonyViewCitizenViewMessage.delta(colony, citizen);
+                    if (message.hasChanges())
+                    {
+                        players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                        CitizenViewSyncStats.onDelta(message.getSize(), message.getFullSize(), players.size());
+                    }
                 }
             }
         }
@@ -335,6 +376,8 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCivilian();
         citizens.put(citizenData.getId(), citizenData);
+        onCitizensChanged();
+        happinessAggregate.update(citizenData);
 
         return citizenData;
     }
@@ -361,6 +404,8 @@ public class CitizenManager implements ICitizenManager
         final ICitizenData citizenData = deserializeCitizen(compoundNBT);
         citizenData.onResurrect();
         citizens.put(citizenData.getId(), citizenData);
+        onCitizensChanged();
+        happinessAggregate.update(citizenData);
         spawnOrCreateCitizen(citizenData, world, spawnPos);
 
         try
@@ -384,6 +429,8 @@ public class CitizenManager implements ICitizenManager
 
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        happinessAggregate.remove(citizen.getId());
+        onCitizensChanged();
 
         for (@NotNull final IBuilding building : colony.getBuildingManager().getBuildings().values())
         {
@@ -478,6 +525,25 @@ public class CitizenManager implements ICitizenManager
     {
         colony.markDirty();
         isCitizensDirty = true;
+        isSaveDirty = true;
+    }
+
+    @Override
+    public void markSaveDirty()
+    {
+        isSaveDirty = true;
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        return isSaveDirty;
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        isSaveDirty = false;
     }
 
     @Override
@@ -496,7 +562,68 @@ public class CitizenManager implements ICitizenManager
     @Override
     public List<ICitizenData> getCitizens()
     {
-        return new ArrayList<>(citizens.values());
+        if (citizenSnapshot == null)
+        {
+            citizenSnapshot = List.copyOf(citizens.values());
+        }
+        return citizenSnapshot;
+    }
+
+    @Override
+    public <J extends IJob<?>> List<ICitizenData> getCitizensWithJob(@NotNull final Class<J> type)
+    {
+        return getCitizenIndex().getCitizensWithJob(type);
+    }
+
+    @Override
+    public List<ICitizenData> getCitizensWorkingAt(@NotNull final BlockPos buildingPos)
+    {
+        return getCitizenIndex().getCitizensWorkingAt(buildingPos);
+    }
+
+    @Override
+    public List<ICitizenData> getCitizensLivingIn(@Nullable final BlockPos buildingPos)
+    {
+        return getCitizenIndex().getCitizensLivingIn(buildingPos);
+    }
+
+    @Override
+    public int getChildCount()
+    {
+        return getCitizenIndex().getChildCount();
+    }
+
+    @Override
+    public void onCitizenAssignmentChanged(final ICitizenData citizen)
+    {
+        if (citizens.get(citizen.getId()) == citizen)
+        {
+            citizenIndex = null;
+        }
+    }
+
+    /**
+     * Get the lookup of the citizens, built again after changes.
+     *
+     * @return the index.
+     */
+    private CitizenIndex getCitizenIndex()
+    {
+        if (citizenIndex == null)
+        {
+            citizenIndex = new CitizenIndex(citizens.values());
+        }
+        return citizenIndex;
+    }
+
+    /**
+     * Drops the snapshot and lookup of the citizens after citizens got added or removed.
+     */
+    private void onCitizensChanged()
+    {
+        citizenSnapshot = null;
+        citizenIndex = null;
+        isSaveDirty = true;
     }
 
     @Override
@@ -555,6 +682,7 @@ public class CitizenManager implements ICitizenManager
         {
             citizenData.getCitizenHappinessHandler().addModifier(modifier);
         }
+        isSaveDirty = true;
     }
 
     @Override
@@ -564,6 +692,31 @@ public class CitizenManager implements ICitizenManager
         {
             citizenData.getCitizenHappinessHandler().processDailyHappiness(citizenData);
         }
+        // Safety net for changes which bypass the citizen data, as this visits all citizens once a day anyway
+        happinessAggregate.recount(citizens.values());
+        isSaveDirty = true;
+    }
+
+    @Override
+    public void onHappinessFactorChanged(final ICitizenData citizen)
+    {
+        // Citizens being loaded or created are counted once registered
+        if (citizens.get(citizen.getId()) == citizen)
+        {
+            happinessAggregate.update(citizen);
+        }
+    }
+
+    @Override
+    public double getSocialFactor()
+    {
+        return happinessAggregate.getSocialFactor();
+    }
+
+    @Override
+    public double getGuardFactor()
+    {
+        return happinessAggregate.getGuardFactor();
     }
 
     @Override
@@ -571,6 +724,11 @@ public class CitizenManager implements ICitizenManager
     {
         for (ICitizenData iCitizenData : this.getCitizens())
         {
+            // Loaded citizens keep changing position, saturation and inventory while they live.
+            if (iCitizenData.getEntity().isPresent())
+            {
+                isSaveDirty = true;
+            }
             iCitizenData.update(tickRate);
         }
         return false;
@@ -660,6 +818,7 @@ public class CitizenManager implements ICitizenManager
             }
             citizen.onDeath(data.getId());
         }
+        isSaveDirty = true;
     }
 
     @Override
@@ -711,12 +870,15 @@ public class CitizenManager implements ICitizenManager
                 }
             }
         }
+        isSaveDirty = true;
     }
 
     @Override
     public void afterBuildingLoad()
     {
         calculateMaxCitizens();
+        // Jobs resolve their building now
+        citizenIndex = null;
 
         for(final ICitizenData data: citizens.values())
         {
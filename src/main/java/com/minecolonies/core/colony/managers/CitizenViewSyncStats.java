@@ -0,0 +1,105 @@
+package com.minecolonies.core.colony.managers;
+
+/**
+ * Counters of the citizen view sync over all colonies, comparing the sent bytes with what full updates would have cost.
+ */
+public final class CitizenViewSyncStats
+{
+    /**
+     * Time the counting started at.
+     */
+    private static long startMillis = System.currentTimeMillis();
+
+    /**
+     * Number of full messages sent, counted per receiving player.
+     */
+    private static long fullMessages;
+
+    /**
+     * Bytes of citizen data sent in full messages.
+     */
+    private static long fullBytes;
+
+    /**
+     * Number of delta messages sent, counted per receiving player.
+     */
+    private static long deltaMessages;
+
+    /**
+     * Bytes of citizen data sent in delta messages.
+     */
+    private static long deltaBytes;
+
+    /**
+     * Bytes full messages would have needed instead of the deltas.
+     */
+    private static long replacedBytes;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private CitizenViewSyncStats()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Count a full message.
+     *
+     * @param size       the size of the citizen data.
+     * @param recipients the number of players receiving it.
+     */
+    public static synchronized void onFull(final int size, final int recipients)
+    {
+        fullMessages += recipients;
+        fullBytes += (long) size * recipients;
+    }
+
+    /**
+     * Count a delta message.
+     *
+     * @param size       the size of the changed citizen data.
+     * @param fullSize   the size of the full citizen data.
+     * @param recipients the number of players receiving it.
+     */
+    public static synchronized void onDelta(final int size, final int fullSize, final int recipients)
+    {
+        deltaMessages += recipients;
+        deltaBytes += (long) size * recipients;
+        replacedBytes += (long) fullSize * recipients;
+    }
+
+    /**
+     * Restart the counting.
+     */
+    public static synchronized void reset()
+    {
+        startMillis = System.currentTimeMillis();
+        fullMessages = 0;
+        fullBytes = 0;
+        deltaMessages = 0;
+        deltaBytes = 0;
+        replacedBytes = 0;
+    }
+
+    /**
+     * Get a summary of the counters.
+     *
+     * @return the summary text.
+     */
+    public static synchronized String getSummary()
+    {
+        final double seconds = Math.max(1, System.currentTimeMillis() - startMillis) / 1000.0;
+        final long sent = fullBytes + deltaBytes;
+        final long withoutDeltas = fullBytes + replacedBytes;
+        return String.format("Over %.0fs: %d full and %d delta messages, %.0f bytes/s sent, %.0f bytes/s with full updates only (%.1f%% saved)",
+          seconds,
+          fullMessages,
+          deltaMessages,
+          sent / seconds,
+          withoutDeltas / seconds,
+          withoutDeltas == 0 ? 0 : 100.0 * (withoutDeltas - sent) / withoutDeltas);
+    }
+}
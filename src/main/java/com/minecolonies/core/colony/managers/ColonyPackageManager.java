@@ -1,6 +1,7 @@
 package com.minecolonies.core.colony.managers;
 
 import com.minecolonies.api.colony.managers.interfaces.IColonyPackageManager;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.util.ColonyUtils;
@@ -10,8 +11,11 @@ import com.minecolonies.core.Network;
 import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.ColonyView;
 import com.minecolonies.core.colony.permissions.Permissions;
+import com.minecolonies.core.colony.requestsystem.management.manager.RequestSyncTracker;
+import com.minecolonies.core.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.core.network.messages.PermissionsMessage;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewMessage;
+import com.minecolonies.core.network.messages.client.colony.ColonyViewRequestManagerMessage;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewWorkOrderMessage;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
@@ -28,6 +32,11 @@ import static com.minecolonies.api.util.constant.Constants.TICKS_HOUR;
 
 public class ColonyPackageManager implements IColonyPackageManager
 {
+    /**
+     * Size of a request system snapshot above which a warning is logged.
+     */
+    private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
+
     /**
      * List of players close to the colony receiving updates. Populated by chunk entry events
      */
@@ -44,6 +53,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private Set<ServerPlayer> newSubscribers = new HashSet<>();
 
+    /**
+     * Subscribers which need a request system snapshot, as they missed a delta.
+     */
+    private final Set<ServerPlayer> requestSnapshotSubscribers = new HashSet<>();
+
     /**
      * Variables taking care of updating the views.
      */
@@ -179,6 +193,9 @@ public class ColonyPackageManager implements IColonyPackageManager
             //WorkOrders
             sendWorkOrderPackets();
 
+            //Request system
+            sendRequestManagerPackets();
+
             colony.getCitizenManager().sendPackets(closeSubscribers, newSubscribers);
             colony.getVisitorManager().sendPackets(closeSubscribers, newSubscribers);
             colony.getBuildingManager().sendPackets(closeSubscribers, newSubscribers);
@@ -218,7 +235,89 @@ public class ColonyPackageManager implements IColonyPackageManager
                 Network.getNetwork().sendToPlayer(message, player);
             }
         }
-        colony.getRequestManager().setDirty(false);
+    }
+
+    @Override
+    public void sendRequestManagerPackets()
+    {
+        if (!(colony.getRequestManager() instanceof StandardRequestManager requestManager))
+        {
+            return;
+        }
+
+        final RequestSyncTracker tracker = requestManager.getSyncTracker();
+        final Set<ServerPlayer> snapshotPlayers = new HashSet<>(newSubscribers);
+        for (final ServerPlayer player : requestSnapshotSubscribers)
+        {
+            if (closeSubscribers.contains(player))
+            {
+                snapshotPlayers.add(player);
+            }
+        }
+        requestSnapshotSubscribers.clear();
+
+        if (tracker.isSnapshotRequired())
+        {
+            snapshotPlayers.addAll(closeSubscribers);
+        }
+        else if (requestManager.isDirty())
+        {
+            final Set<ServerPlayer> deltaPlayers = new HashSet<>(closeSubscribers);
+            deltaPlayers.removeAll(snapshotPlayers);
+            if (!deltaPlayers.isEmpty())
+            {
+                final FriendlyByteBuf deltaBuffer = new FriendlyByteBuf(Unpooled.buffer());
+                try
+                {
+                    tracker.writeDelta(StandardFactoryController.getInstance(), deltaBuffer);
+                    final ColonyViewRequestManagerMessage message = new ColonyViewRequestManagerMessage(colony, deltaBuffer, false);
+                    deltaPlayers.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                }
+                catch (final Exception e)
+                {
+                    Log.getLogger().warn("Error during request manager delta serialization for:" + colony.getID(), e);
+                    requestManager.reset();
+                    snapshotPlayers.addAll(closeSubscribers);
+                }
+                finally
+                {
+                    deltaBuffer.release();
+                }
+            }
+        }
+
+        if (!snapshotPlayers.isEmpty())
+        {
+            final FriendlyByteBuf snapshotBuffer = new FriendlyByteBuf(Unpooled.buffer());
+            try
+            {
+                tracker.writeSnapshot(StandardFactoryController.getInstance(), snapshotBuffer);
+                if (snapshotBuffer.writerIndex() >= REQUEST_MANAGER_MAX_SIZE)
+                {
+                    Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+                }
+
+                final ColonyViewRequestManagerMessage message = new ColonyViewRequestManagerMessage(colony, snapshotBuffer, true);
+                snapshotPlayers.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+            }
+            catch (final Exception e)
+            {
+                Log.getLogger().warn("Error during request manager serialization for:" + colony.getID(), e);
+                requestManager.reset();
+            }
+            finally
+            {
+                snapshotBuffer.release();
+            }
+        }
+
+        requestManager.setDirty(false);
+    }
+
+    @Override
+    public void requestRequestManagerSnapshot(@NotNull final ServerPlayer subscriber)
+    {
+        requestSnapshotSubscribers.add(subscriber);
     }
 
     @Override
@@ -284,6 +383,7 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         newSubscribers.remove(player);
         closeSubscribers.remove(player);
+        requestSnapshotSubscribers.remove(player);
     }
 
     /**
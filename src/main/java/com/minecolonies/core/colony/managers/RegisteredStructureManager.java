@@ -5,10 +5,12 @@ import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.*;
+import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
 import com.minecolonies.api.colony.buildings.registry.IBuildingDataManager;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.fields.IField;
+import com.minecolonies.api.colony.fields.registry.FieldRegistries;
 import com.minecolonies.api.colony.managers.interfaces.IRegisteredStructureManager;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
@@ -19,9 +21,9 @@ import com.minecolonies.core.blocks.huts.BlockHutTavern;
 import com.minecolonies.core.blocks.huts.BlockHutTownHall;
 import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.BuildingMysticalSite;
-import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import com.minecolonies.core.colony.buildings.modules.FieldsModule;
 import com.minecolonies.core.colony.buildings.modules.LivingBuildingModule;
+import com.minecolonies.core.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingBarracks;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingLibrary;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
@@ -39,6 +41,7 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.LevelChunk;
@@ -63,6 +66,21 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @NotNull
     private ImmutableMap<BlockPos, IBuilding> buildings = ImmutableMap.of();
 
+    /**
+     * Buildings of the colony by the class or interface they were looked up with, filled lazily and replaced when buildings are added or removed.
+     */
+    private volatile Map<Class<?>, BuildingTypeIndex> buildingsByType = new ConcurrentHashMap<>();
+
+    /**
+     * Buildings of the colony by the module class they were looked up with, filled lazily and replaced when buildings are added or removed.
+     */
+    private volatile Map<Class<?>, List<IBuilding>> buildingsByModule = new ConcurrentHashMap<>();
+
+    /**
+     * Fields of the colony by their type, filled lazily and replaced when fields are added or removed.
+     */
+    private volatile Map<FieldRegistries.FieldEntry, List<IField>> fieldsByType = new ConcurrentHashMap<>();
+
     /**
      * List of fields of the colony.
      */
@@ -99,6 +117,11 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
      */
     private boolean isFieldsDirty = false;
 
+    /**
+     * Variable to check if the buildings or fields changed since the last save.
+     */
+    private boolean isSaveDirty = true;
+
     /**
      * The colony of the manager.
      */
@@ -125,7 +148,10 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public void read(@NotNull final CompoundTag compound)
     {
+        isSaveDirty = true;
         buildings = ImmutableMap.of();
+        buildingsByType = new ConcurrentHashMap<>();
+        buildingsByModule = new ConcurrentHashMap<>();
         maxChunkX = colony.getCenter().getX() >> 4;
         minChunkX = colony.getCenter().getX() >> 4;
         maxChunkZ = colony.getCenter().getZ() >> 4;
@@ -288,6 +314,25 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void markBuildingsDirty()
     {
         isBuildingsDirty = true;
+        isSaveDirty = true;
+    }
+
+    @Override
+    public void markSaveDirty()
+    {
+        isSaveDirty = true;
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        return isSaveDirty;
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        isSaveDirty = false;
     }
 
     @Override
@@ -359,7 +404,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         final int randomDist = RANDOM.nextInt(4);
         if (randomDist < 1)
         {
-            building = getFirstBuildingMatching(b -> b instanceof BuildingTownHall && b.getBuildingLevel() >= 3);
+            building = getFirstBuildingMatching(BuildingTownHall.class, b -> b.getBuildingLevel() >= 3);
             if (building != null)
             {
                 return building.getPosition();
@@ -370,7 +415,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         {
             if (!isRaining && RANDOM.nextBoolean())
             {
-                building = getFirstBuildingMatching(b -> b instanceof BuildingMysticalSite && b.getBuildingLevel() >= 1);
+                building = getFirstBuildingMatching(BuildingMysticalSite.class, b -> b.getBuildingLevel() >= 1);
                 if (building != null)
                 {
                     return building.getPosition();
@@ -378,7 +423,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
             else
             {
-                building = getFirstBuildingMatching(b -> b instanceof BuildingLibrary && b.getBuildingLevel() >= 1);
+                building = getFirstBuildingMatching(BuildingLibrary.class, b -> b.getBuildingLevel() >= 1);
                 if (building != null)
                 {
                     return building.getPosition();
@@ -388,10 +433,12 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
 
         if (randomDist < 3)
         {
-            building = getFirstBuildingMatching(b -> b.hasModule(BuildingModules.TAVERN_VISITOR) && b.getBuildingLevel() >= 1);
-            if (building != null)
+            for (final IBuilding tavern : getBuildingsWithModule(TavernBuildingModule.class))
             {
-                return building.getPosition();
+                if (tavern.getBuildingLevel() >= 1)
+                {
+                    return tavern.getPosition();
+                }
             }
         }
 
@@ -417,6 +464,96 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         return null;
     }
 
+    @Nullable
+    @Override
+    public <B extends IBuilding> B getFirstBuildingMatching(final Class<B> type, final Predicate<? super B> predicate)
+    {
+        for (final B building : getBuildingsOfType(type))
+        {
+            if (predicate.test(building))
+            {
+                return building;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B extends IBuilding> List<B> getBuildingsOfType(final Class<B> type)
+    {
+        return (List<B>) getTypeIndex(type).getBuildings();
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B extends IBuilding> B getClosestBuilding(final BlockPos pos, final Class<B> type, final Predicate<? super B> predicate)
+    {
+        return (B) getTypeIndex(type).getClosest(pos, building -> predicate.test((B) building));
+    }
+
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B extends IBuilding> List<B> getBuildingsInRange(final BlockPos pos, final int range, final Class<B> type)
+    {
+        return (List<B>) getTypeIndex(type).getInRange(pos, range, building -> true);
+    }
+
+    @NotNull
+    @Override
+    public List<IBuilding> getBuildingsWithModule(final Class<? extends IBuildingModule> module)
+    {
+        return buildingsByModule.computeIfAbsent(module, key ->
+        {
+            final ImmutableList.Builder<IBuilding> builder = ImmutableList.builder();
+            for (final IBuilding building : buildings.values())
+            {
+                if (building.hasModule(module))
+                {
+                    builder.add(building);
+                }
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * Get the index of the buildings of a type, creating it on first use.
+     *
+     * @param type the building class or interface.
+     * @return the index.
+     */
+    private BuildingTypeIndex getTypeIndex(final Class<?> type)
+    {
+        return buildingsByType.computeIfAbsent(type, key ->
+        {
+            final ImmutableList.Builder<IBuilding> builder = ImmutableList.builder();
+            for (final IBuilding building : buildings.values())
+            {
+                if (key.isInstance(building))
+                {
+                    builder.add(building);
+                }
+            }
+            return new BuildingTypeIndex(builder.build());
+        });
+    }
+
+    /**
+     * Check if the chunk of a building is loaded, from the loaded chunks the colony tracks through chunk load and unload events. Buildings always lie in chunks
+     * claimed by their colony.
+     *
+     * @param building the building.
+     * @return true if so.
+     */
+    private boolean isBuildingLoaded(final IBuilding building)
+    {
+        return colony.getLoadedChunks().contains(ChunkPos.asLong(building.getPosition().getX() >> 4, building.getPosition().getZ() >> 4));
+    }
+
     @Override
     public void addLeisureSite(final BlockPos pos)
     {
@@ -466,26 +603,23 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public boolean keepChunkColonyLoaded(final LevelChunk chunk)
     {
-        final Set<BlockPos> capList = ColonyUtils.getAllClaimingBuildings(chunk).get(colony.getID());
-        return capList != null && capList.size() >= MineColonies.getConfig().getServer().colonyLoadStrictness.get();
+        final int claims = ColonyUtils.getBuildingClaimCount(chunk, colony.getID());
+        return claims > 0 && claims >= MineColonies.getConfig().getServer().colonyLoadStrictness.get();
     }
 
     @Override
     public IBuilding getHouseWithSpareBed()
     {
-        for (final IBuilding building : buildings.values())
+        for (final IBuilding building : getBuildingsWithModule(LivingBuildingModule.class))
         {
-            if (building.hasModule(LivingBuildingModule.class))
+            final LivingBuildingModule module = building.getFirstModuleOccurance(LivingBuildingModule.class);
+            if (HiringMode.LOCKED.equals(module.getHiringMode()))
             {
-                final LivingBuildingModule module = building.getFirstModuleOccurance(LivingBuildingModule.class);
-                if (HiringMode.LOCKED.equals(module.getHiringMode()))
-                {
-                    continue;
-                }
-                if (module.getAssignedCitizen().size() < module.getModuleMax())
-                {
-                    return building;
-                }
+                continue;
+            }
+            if (module.getAssignedCitizen().size() < module.getModuleMax())
+            {
+                return building;
             }
         }
         return null;
@@ -624,6 +758,9 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
 
             buildings = builder.build();
+            buildingsByType = new ConcurrentHashMap<>();
+            buildingsByModule = new ConcurrentHashMap<>();
+            isSaveDirty = true;
 
             for (final ServerPlayer player : subscribers)
             {
@@ -643,6 +780,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         else if (building instanceof BuildingWareHouse)
         {
             wareHouses.remove(building);
+            colony.getWarehouseItemIndex().markDirty();
         }
         else if (building instanceof BuildingMysticalSite)
         {
@@ -671,28 +809,33 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public BlockPos getBestBuilding(final BlockPos citizen, final Class<? extends IBuilding> clazz)
     {
-        double distance = Double.MAX_VALUE;
-        BlockPos goodCook = null;
-        for (final IBuilding building : buildings.values())
-        {
-            if (clazz.isInstance(building) && building.getBuildingLevel() > 0 && WorldUtil.isBlockLoaded(colony.getWorld(), building.getPosition()))
-            {
-                final double localDistance = building.getPosition().distSqr(citizen);
-                if (localDistance < distance)
-                {
-                    distance = localDistance;
-                    goodCook = building.getPosition();
-                }
-            }
-        }
-        return goodCook;
+        final IBuilding building = getClosestBuilding(citizen, clazz, b -> b.getBuildingLevel() > 0 && isBuildingLoaded(b));
+        return building == null ? null : building.getPosition();
     }
 
     @Override
     public BlockPos getRandomBuilding(Predicate<IBuilding> filterPredicate)
+    {
+        return getRandomBuilding(buildings.values(), filterPredicate);
+    }
+
+    @Override
+    public BlockPos getRandomBuildingWithModule(final Class<? extends IBuildingModule> module, final Predicate<IBuilding> filterPredicate)
+    {
+        return getRandomBuilding(getBuildingsWithModule(module), filterPredicate);
+    }
+
+    /**
+     * Pick a random building out of the given ones, matching the filter predicate.
+     *
+     * @param candidates      the buildings to pick from.
+     * @param filterPredicate the filter to apply.
+     * @return the position of the building, null if none matches.
+     */
+    private static BlockPos getRandomBuilding(final Collection<IBuilding> candidates, final Predicate<IBuilding> filterPredicate)
     {
         final List<IBuilding> allowedBuildings = new ArrayList<>();
-        for (final IBuilding building : buildings.values())
+        for (final IBuilding building : candidates)
         {
             if (filterPredicate.test(building))
             {
@@ -722,18 +865,29 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             return true;
         }
 
-        for (final IBuilding colonyBuilding : getBuildings().values())
+        return isGuardedBy(getBuildingsOfType(IGuardBuilding.class), building) || isGuardedBy(getBuildingsOfType(BuildingBarracks.class), building);
+    }
+
+    /**
+     * Check if a building lies in the claimed area of one of the given guard buildings.
+     *
+     * @param guardBuildings the guard buildings.
+     * @param building       the building to check.
+     * @return true if so.
+     */
+    private static boolean isGuardedBy(final List<? extends IBuilding> guardBuildings, final IBuilding building)
+    {
+        for (final IBuilding guardBuilding : guardBuildings)
         {
-            if (colonyBuilding.getBuildingLevel() > 0 && (colonyBuilding instanceof IGuardBuilding || colonyBuilding instanceof BuildingBarracks))
+            if (guardBuilding.getBuildingLevel() > 0)
             {
-                final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
+                final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), guardBuilding.getClaimRadius(guardBuilding.getBuildingLevel()));
                 if (guardedRegion.isInside(building.getPosition()))
                 {
                     return true;
                 }
             }
         }
-
         return false;
     }
 
@@ -742,7 +896,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         final int claimRadius = guardBuilding.getClaimRadius(Math.max(guardBuilding.getBuildingLevel(), newLevel));
         final BoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(guardBuilding.getPosition(), claimRadius);
-        for (final IBuilding building : getBuildings().values())
+        // The chunk aligned region reaches at most (claimRadius + 1) chunks away from the guard building along each axis
+        for (final IBuilding building : getBuildingsInRange(guardBuilding.getPosition(), (claimRadius + 1) * 16 * 2, IBuilding.class))
         {
             if (guardedRegion.isInside(building.getPosition()))
             {
@@ -767,6 +922,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void removeWareHouse(final IWareHouse wareHouse)
     {
         wareHouses.remove(wareHouse);
+        colony.getWarehouseItemIndex().markDirty();
     }
 
     @Override
@@ -788,6 +944,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void markFieldsDirty()
     {
         isFieldsDirty = true;
+        isSaveDirty = true;
     }
 
     /**
@@ -798,6 +955,8 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings = new ImmutableMap.Builder<BlockPos, IBuilding>().putAll(buildings).put(building.getID(), building).build();
+        buildingsByType = new ConcurrentHashMap<>();
+        buildingsByModule = new ConcurrentHashMap<>();
 
         building.markDirty();
 
@@ -810,6 +969,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         if (building instanceof BuildingWareHouse)
         {
             wareHouses.add((IWareHouse) building);
+            colony.getWarehouseItemIndex().markDirty();
         }
         else if (building instanceof BuildingMysticalSite)
         {
@@ -881,13 +1041,10 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         }
         else if (block instanceof BlockHutTavern)
         {
-            for (final IBuilding building : buildings.values())
+            for (final IBuilding building : getBuildingsWithModule(TavernBuildingModule.class))
             {
-                if (building.hasModule(BuildingModules.TAVERN_VISITOR))
-                {
-                    MessageUtils.format(WARNING_DUPLICATE_TAVERN, building.getPosition().toShortString()).sendTo(player);
-                    return false;
-                }
+                MessageUtils.format(WARNING_DUPLICATE_TAVERN, building.getPosition().toShortString()).sendTo(player);
+                return false;
             }
         }
 
@@ -905,6 +1062,27 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         }
     }
 
+    @Override
+    public @NotNull List<IField> getFields(final FieldRegistries.FieldEntry type)
+    {
+        return fieldsByType.computeIfAbsent(type, key -> fields.stream()
+                                                           .filter(field -> field.getFieldType().equals(key))
+                                                           .toList());
+    }
+
+    @Override
+    public Optional<IField> getField(final FieldRegistries.FieldEntry type, final BlockPos position)
+    {
+        for (final IField field : getFields(type))
+        {
+            if (field.getPosition().equals(position))
+            {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
     @Override
     public @NotNull List<IField> getFields(Predicate<IField> matcher)
     {
@@ -926,6 +1104,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         if (fields.add(field))
         {
+            fieldsByType = new ConcurrentHashMap<>();
             markFieldsDirty();
             return true;
         }
@@ -945,6 +1124,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         for (IField field : fieldsToRemove)
         {
             fields.remove(field);
+            fieldsByType = new ConcurrentHashMap<>();
             markFieldsDirty();
         }
     }
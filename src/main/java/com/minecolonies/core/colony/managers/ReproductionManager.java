@@ -131,7 +131,7 @@ public class ReproductionManager implements IReproductionManager
                     }
                     else
                     {
-                        final BlockPos altPos = colony.getBuildingManager().getRandomBuilding(b -> b.hasModule(LivingBuildingModule.class) && !b.getPosition().equals(newHome.getPosition()) && BlockPosUtil.getDistance2D(b.getPosition(), newHome.getPosition()) < 50);
+                        final BlockPos altPos = colony.getBuildingManager().getRandomBuildingWithModule(LivingBuildingModule.class, b -> !b.getPosition().equals(newHome.getPosition()) && BlockPosUtil.getDistance2D(b.getPosition(), newHome.getPosition()) < 50);
                         if (altPos != null)
                         {
                             final IBuilding building = colony.getBuildingManager().getBuilding(altPos);
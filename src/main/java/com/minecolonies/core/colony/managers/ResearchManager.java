@@ -63,10 +63,16 @@ public class ResearchManager implements IResearchManager
      */
     private boolean dirty;
 
+    /**
+     * Whether the research changed since the last save.
+     */
+    private boolean saveDirty = true;
+
     @Override
     public void readFromNBT(@NotNull final CompoundTag compound)
     {
         tree.readFromNBT(compound, effects);
+        saveDirty = true;
     }
 
     @Override
@@ -98,6 +104,7 @@ public class ResearchManager implements IResearchManager
     public final void markDirty()
     {
         dirty = true;
+        saveDirty = true;
     }
 
     @Override
@@ -112,6 +119,24 @@ public class ResearchManager implements IResearchManager
         dirty = false;
     }
 
+    @Override
+    public void markSaveDirty()
+    {
+        saveDirty = true;
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        return saveDirty;
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        saveDirty = false;
+    }
+
     public ResearchManager(IColony colony)
     {
         this.colony = colony;
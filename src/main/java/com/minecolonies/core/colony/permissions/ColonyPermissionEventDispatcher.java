@@ -0,0 +1,559 @@
+package com.minecolonies.core.colony.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.permissions.Explosions;
+import com.minecolonies.api.util.ColonyUtils;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.entity.citizen.EntityCitizen;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ExplosionEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.NO_COLONY_ID;
+
+/**
+ * Single listener for the permission relevant events of all colonies. Finds the colony owning the position of an event through the chunk claim data and passes the event
+ * on to the {@link ColonyPermissionEventHandler} of that colony only, instead of every colony checking every event on its own.
+ * <p>
+ * Counts the events and the time spent on them by event type. The dispatcher is registered on both sides, so every handler returns before counting when the event
+ * is fired on the client, which keeps the statistics on the server thread only and lets them go without synchronization.
+ */
+public final class ColonyPermissionEventDispatcher
+{
+    /**
+     * Statistics by event type.
+     */
+    private static final EventStats[] STATS = new EventStats[EventType.values().length];
+
+    static
+    {
+        for (final EventType type : EventType.values())
+        {
+            STATS[type.ordinal()] = new EventStats();
+        }
+    }
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private ColonyPermissionEventDispatcher()
+    {
+    }
+
+    /**
+     * BlockEvent.EntityPlaceEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.EntityPlaceEvent event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        ColonyPermissionEventHandler handler = null;
+        if (event.getEntity() instanceof Player player)
+        {
+            handler = getHandler(player.getCommandSenderWorld(), event.getPos());
+            if (handler != null)
+            {
+                handler.on(event);
+            }
+        }
+        record(EventType.PLACE, start, handler != null);
+    }
+
+    /**
+     * BlockEvent.BreakEvent dispatcher. Huts go to the colony of their building, which has to be destroyed even outside of the claimed chunks.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.BreakEvent event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler;
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final IBuilding building = IColonyManager.getInstance().getBuilding(event.getPlayer().getCommandSenderWorld(), event.getPos());
+            handler = building == null ? null : getHandler(building.getColony());
+        }
+        else
+        {
+            handler = getHandler(event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event.getPos());
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.BREAK, start, handler != null);
+    }
+
+    /**
+     * ExplosionEvent.Detonate dispatcher, passes the event on to each colony owning a chunk of an affected block or entity.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Detonate event)
+    {
+        if (event.getLevel().isClientSide() || MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_EVERYTHING)
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final Level level = event.getLevel();
+        final LongSet visitedChunks = new LongOpenHashSet();
+        final IntSet colonies = new IntOpenHashSet();
+        for (final BlockPos pos : event.getAffectedBlocks())
+        {
+            if (visitedChunks.add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)))
+            {
+                colonies.add(ColonyUtils.getOwningColony(level.getChunkAt(pos)));
+            }
+        }
+
+        for (final Entity entity : event.getAffectedEntities())
+        {
+            final BlockPos pos = entity.blockPosition();
+            if (entity.getCommandSenderWorld() == level && visitedChunks.add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)))
+            {
+                colonies.add(ColonyUtils.getOwningColony(level.getChunkAt(pos)));
+            }
+        }
+
+        boolean routed = false;
+        for (final int colonyId : colonies)
+        {
+            final ColonyPermissionEventHandler handler = getHandler(level, colonyId);
+            if (handler != null)
+            {
+                handler.on(event);
+                routed = true;
+            }
+        }
+        record(EventType.EXPLOSION_DETONATE, start, routed);
+    }
+
+    /**
+     * ExplosionEvent.Start dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Start event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getLevel(), BlockPos.containing(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.EXPLOSION_START, start, handler != null);
+    }
+
+    /**
+     * PlayerInteractEvent dispatcher, the entity interactions are dispatched separately.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent event)
+    {
+        if (event.getLevel().isClientSide() || event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific)
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getLevel(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.INTERACT, start, handler != null);
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getLevel(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.INTERACT_ENTITY, start, handler != null);
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getLevel(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.INTERACT_ENTITY, start, handler != null);
+    }
+
+    /**
+     * ItemTossEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ItemTossEvent event)
+    {
+        if (event.getPlayer().getCommandSenderWorld().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event.getPlayer().blockPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.TOSS_ITEM, start, handler != null);
+    }
+
+    /**
+     * EntityItemPickupEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final EntityItemPickupEvent event)
+    {
+        if (event.getEntity().getCommandSenderWorld().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), event.getEntity().blockPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.PICKUP_ITEM, start, handler != null);
+    }
+
+    /**
+     * FillBucketEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final FillBucketEvent event)
+    {
+        if (event.getEntity().getCommandSenderWorld().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler =
+          getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), ColonyPermissionEventHandler.getTargetPos(event));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.FILL_BUCKET, start, handler != null);
+    }
+
+    /**
+     * ArrowLooseEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ArrowLooseEvent event)
+    {
+        if (event.getEntity().getCommandSenderWorld().isClientSide())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), event.getEntity().blockPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.SHOOT_ARROW, start, handler != null);
+    }
+
+    /**
+     * LivingHurtEvent dispatcher, only players hurt by citizens concern the colony of the citizen.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final LivingHurtEvent event)
+    {
+        if (!(event.getEntity() instanceof ServerPlayer) || !(event.getSource().getEntity() instanceof EntityCitizen citizen))
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(citizen.getCommandSenderWorld(), citizen.getCitizenColonyHandler().getColonyId());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.LIVING_HURT, start, handler != null);
+    }
+
+    /**
+     * AttackEntityEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final AttackEntityEvent event)
+    {
+        if (event.getEntity().getCommandSenderWorld().isClientSide() || event.getTarget() instanceof Monster)
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), null);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        record(EventType.ATTACK_ENTITY, start, handler != null);
+    }
+
+    /**
+     * Get the statistics of an event type.
+     *
+     * @param type the event type.
+     * @return the statistics.
+     */
+    public static EventStats getStats(@NotNull final EventType type)
+    {
+        return STATS[type.ordinal()];
+    }
+
+    /**
+     * Get the handler of the colony a player acts in, resolved the same way as the permission check of the handler: fake players act for their owner.
+     *
+     * @param playerIn the acting player.
+     * @param world    the world of the event.
+     * @param pos      the position of the action, null for the position of the player.
+     * @return the handler or null if no colony is concerned.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final Player playerIn, @NotNull final Level world, @Nullable final BlockPos pos)
+    {
+        final Player player = EntityUtils.getPlayerOfFakePlayer(playerIn, world);
+        return getHandler(player.getCommandSenderWorld(), pos == null ? player.blockPosition() : pos);
+    }
+
+    /**
+     * Get the handler of the colony owning the chunk of a position.
+     *
+     * @param level the level.
+     * @param pos   the position.
+     * @return the handler or null if no colony owns the chunk.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final Level level, @NotNull final BlockPos pos)
+    {
+        if (level == null || level.isClientSide())
+        {
+            return null;
+        }
+        return getHandler(level, ColonyUtils.getOwningColony(level.getChunkAt(pos)));
+    }
+
+    /**
+     * Get the handler of a colony.
+     *
+     * @param level    the level of the colony.
+     * @param colonyId the colony id.
+     * @return the handler or null if there is no such colony in the level.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final Level level, final int colonyId)
+    {
+        if (colonyId == NO_COLONY_ID || level.isClientSide())
+        {
+            return null;
+        }
+        return getHandler(IColonyManager.getInstance().getColonyByWorld(colonyId, level));
+    }
+
+    /**
+     * Get the handler of a colony, only colonies with a loaded world handle events.
+     *
+     * @param colony the colony.
+     * @return the handler or null.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final IColony colony)
+    {
+        if (colony instanceof Colony serverColony && serverColony.getWorld() != null)
+        {
+            return serverColony.getEventHandler();
+        }
+        return null;
+    }
+
+    /**
+     * Records a dispatched event.
+     *
+     * @param type   the event type.
+     * @param start  the start time of the dispatch in nanoseconds.
+     * @param routed whether a colony handled the event.
+     */
+    private static void record(final EventType type, final long start, final boolean routed)
+    {
+        STATS[type.ordinal()].record(System.nanoTime() - start, routed);
+    }
+
+    /**
+     * The dispatched event types.
+     */
+    public enum EventType
+    {
+        PLACE,
+        BREAK,
+        EXPLOSION_START,
+        EXPLOSION_DETONATE,
+        INTERACT,
+        INTERACT_ENTITY,
+        TOSS_ITEM,
+        PICKUP_ITEM,
+        FILL_BUCKET,
+        SHOOT_ARROW,
+        LIVING_HURT,
+        ATTACK_ENTITY
+    }
+
+    /**
+     * Counters and timings of one event type.
+     */
+    public static final class EventStats
+    {
+        /**
+         * Number of dispatched events.
+         */
+        private long events = 0;
+
+        /**
+         * Number of events passed on to a colony.
+         */
+        private long routed = 0;
+
+        /**
+         * Total dispatch time in nanoseconds.
+         */
+        private long totalNanos = 0;
+
+        /**
+         * Longest dispatch time in nanoseconds.
+         */
+        private long maxNanos = 0;
+
+        /**
+         * Records one event.
+         *
+         * @param nanos     the dispatch time.
+         * @param wasRouted  whether a colony handled it.
+         */
+        private void record(final long nanos, final boolean wasRouted)
+        {
+            events++;
+            if (wasRouted)
+            {
+                routed++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public long getEvents()
+        {
+            return events;
+        }
+
+        public long getRouted()
+        {
+            return routed;
+        }
+
+        public long getTotalNanos()
+        {
+            return totalNanos;
+        }
+
+        public long getMaxNanos()
+        {
+            return maxNanos;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.minecolonies.core.colony.permissions;
 import com.minecolonies.api.colony.permissions.*;
 import com.minecolonies.api.network.PacketUtils;
 import com.minecolonies.api.util.ColonyUtils;
+import com.minecolonies.api.util.IHasSaveDirty;
 import com.minecolonies.api.util.Utils;
 import com.minecolonies.core.colony.Colony;
 import com.mojang.authlib.GameProfile;
@@ -28,7 +29,7 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_NAME;
 /**
  * Colony Permissions System.
  */
-public class Permissions implements IPermissions
+public class Permissions implements IPermissions, IHasSaveDirty
 {
     /**
      * All tags to store and retrieve data from nbt.
@@ -95,6 +96,11 @@ public class Permissions implements IPermissions
      */
     private boolean dirty = false;
 
+    /**
+     * Used to check if the permissions changed since the last save.
+     */
+    private boolean saveDirty = true;
+
     /**
      * The name of the owner.
      */
@@ -264,9 +270,11 @@ public class Permissions implements IPermissions
     /**
      * Marks instance dirty.
      */
-    private void markDirty()
+    @Override
+    public void markDirty()
     {
         dirty = true;
+        saveDirty = true;
         if (colony != null)
         {
             colony.markDirty();
@@ -419,6 +427,7 @@ public class Permissions implements IPermissions
         }
 
         restoreOwnerIfNull();
+        saveDirty = true;
     }
 
     /**
@@ -434,6 +443,7 @@ public class Permissions implements IPermissions
             if (player != null)
             {
                 players.put(ownerUUID, new ColonyPlayer(ownerUUID, player.getName(), ranks.get(OWNER_RANK_ID)));
+                saveDirty = true;
             }
         }
         else if (owner == null)
@@ -517,6 +527,7 @@ public class Permissions implements IPermissions
             if (owner != null)
             {
                 ownerUUID = owner.getKey();
+                saveDirty = true;
             }
             else
             {
@@ -780,10 +791,12 @@ public class Permissions implements IPermissions
                     colony.getPackageManager().addImportantColonyPlayer(playerEntity);
                     colony.getPackageManager().updateSubscribers();
                     fullyAbandoned = false;
+                    saveDirty = true;
                 }
                 else if (rank.getId() == OWNER_RANK_ID)
                 {
                     fullyAbandoned = false;
+                    saveDirty = true;
                 }
                 else
                 {
@@ -860,6 +873,7 @@ public class Permissions implements IPermissions
             if (owner != null)
             {
                 ownerName = owner.getValue().getName();
+                saveDirty = true;
             }
         }
         return ownerName;
@@ -906,6 +920,24 @@ public class Permissions implements IPermissions
         dirty = false;
     }
 
+    @Override
+    public void markSaveDirty()
+    {
+        saveDirty = true;
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        return saveDirty;
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        saveDirty = false;
+    }
+
     /**
      * Serializes network data.
      *
@@ -950,9 +982,10 @@ public class Permissions implements IPermissions
      */
     private void checkFullyAbandoned()
     {
-        if (getOwnerName().equals("[abandoned]") && getPlayersByRank(ranks.get(OFFICER_RANK_ID)).isEmpty())
+        if (!fullyAbandoned && getOwnerName().equals("[abandoned]") && getPlayersByRank(ranks.get(OFFICER_RANK_ID)).isEmpty())
         {
             fullyAbandoned = true;
+            saveDirty = true;
         }
     }
 
@@ -371,4 +371,10 @@ public class PermissionsView implements IPermissions
             ranks.remove(rank.getId());
         }
     }
+
+    @Override
+    public void markDirty()
+    {
+        // Views are synced from the server.
+    }
 }
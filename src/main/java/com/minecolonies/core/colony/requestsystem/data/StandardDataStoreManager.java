@@ -20,6 +20,7 @@ import net.minecraft.network.FriendlyByteBuf;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -68,6 +69,27 @@ public class StandardDataStoreManager implements IDataStoreManager
         storeMap.clear();
     }
 
+    /**
+     * Get all data stores, for syncing them individually.
+     *
+     * @return an unmodifiable view of the stores by id.
+     */
+    public Map<IToken<?>, IDataStore> getDataStores()
+    {
+        return Collections.unmodifiableMap(storeMap);
+    }
+
+    /**
+     * Replaces or adds a data store, used when applying a sync from the server.
+     *
+     * @param id    the id of the store.
+     * @param store the store.
+     */
+    public void put(final IToken<?> id, final IDataStore store)
+    {
+        storeMap.put(id, store);
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardDataStoreManager>
     {
 
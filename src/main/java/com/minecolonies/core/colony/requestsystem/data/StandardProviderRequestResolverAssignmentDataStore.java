@@ -27,6 +27,11 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
     private final Map<IToken<?>, Collection<IToken<?>>> assignments;
     private       IToken<?>                             id;
 
+    /**
+     * Whether the store changed since the last sync, new stores start out changed.
+     */
+    private boolean dirty = true;
+
     public StandardProviderRequestResolverAssignmentDataStore(
       final IToken<?> id,
       final Map<IToken<?>, Collection<IToken<?>>> assignments
@@ -60,6 +65,24 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
         this.id = id;
     }
 
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardProviderRequestResolverAssignmentDataStore>
     {
 
@@ -35,6 +35,12 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDataStore
 {
     private       IToken<?>                     id;
+
+    /**
+     * Whether the store changed since the last sync, new stores start out changed.
+     */
+    private boolean dirty = true;
+
     private final BiMap<IToken<?>, IRequest<?>> map;
 
     public StandardRequestIdentitiesDataStore(
@@ -69,6 +75,24 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         this.id = id;
     }
 
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestIdentitiesDataStore>
     {
 
@@ -31,6 +31,12 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 public class StandardRequestResolversIdentitiesDataStore implements IRequestResolverIdentitiesDataStore
 {
     private       IToken<?>                             id;
+
+    /**
+     * Whether the store changed since the last sync, new stores start out changed.
+     */
+    private boolean dirty = true;
+
     private final BiMap<IToken<?>, IRequestResolver<?>> map;
 
     public StandardRequestResolversIdentitiesDataStore(
@@ -65,6 +71,24 @@ public class StandardRequestResolversIdentitiesDataStore implements IRequestReso
         this.id = id;
     }
 
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestResolversIdentitiesDataStore>
     {
 
@@ -26,6 +26,12 @@ public class StandardRequestSystemBuildingDataStore implements IRequestSystemBui
 {
 
     private       IToken<?>                                id;
+
+    /**
+     * Whether the store changed since the last sync, new stores start out changed.
+     */
+    private boolean dirty = true;
+
     private final Map<TypeToken<?>, Collection<IToken<?>>> openRequestsByRequestableType;
     private final Map<Integer, Collection<IToken<?>>>      openRequestsByCitizen;
     private final Map<Integer, Collection<IToken<?>>>      completedRequestsByCitizen;
@@ -90,6 +96,24 @@ public class StandardRequestSystemBuildingDataStore implements IRequestSystemBui
         this.id = id;
     }
 
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestSystemBuildingDataStore>
     {
 
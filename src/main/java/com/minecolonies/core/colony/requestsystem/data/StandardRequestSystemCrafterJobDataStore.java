@@ -33,6 +33,11 @@ public class StandardRequestSystemCrafterJobDataStore implements IRequestSystemC
      */
     private IToken<?> id;
 
+    /**
+     * Whether the store changed since the last sync, new stores start out changed.
+     */
+    private boolean dirty = true;
+
     /**
      * The queue of the store.
      */
@@ -88,6 +93,24 @@ public class StandardRequestSystemCrafterJobDataStore implements IRequestSystemC
         this.id = id;
     }
 
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
     /**
      * Factory to work with the datastore.
      */
@@ -25,6 +25,12 @@ public class StandardRequestSystemDeliveryManJobDataStore implements IRequestSys
 {
 
     private       IToken<?>             id;
+
+    /**
+     * Whether the store changed since the last sync, new stores start out changed.
+     */
+    private boolean dirty = true;
+
     private final LinkedList<IToken<?>> queue;
     private final Set<IToken<?>> ongoingDeliveries;
 
@@ -65,6 +71,24 @@ public class StandardRequestSystemDeliveryManJobDataStore implements IRequestSys
         this.id = id;
     }
 
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestSystemDeliveryManJobDataStore>
     {
 
@@ -25,6 +25,12 @@ public class StandardRequestableTypeRequestResolverAssignmentDataStore implement
 {
 
     private       IToken<?>                                id;
+
+    /**
+     * Whether the store changed since the last sync, new stores start out changed.
+     */
+    private boolean dirty = true;
+
     private final Map<TypeToken<?>, Collection<IToken<?>>> assignments;
 
     public StandardRequestableTypeRequestResolverAssignmentDataStore(
@@ -59,6 +65,24 @@ public class StandardRequestableTypeRequestResolverAssignmentDataStore implement
         this.id = id;
     }
 
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestableTypeRequestResolverAssignmentDataStore>
     {
 
@@ -59,7 +59,8 @@ public class ProviderHandler implements IProviderHandler
         resolverListBuilder.addAll(manager.getResolverHandler().registerResolvers(provider.getResolvers()));
 
         manager.getProviderResolverAssignmentDataStore().getAssignments().put(provider.getId(), resolverListBuilder.build());
-        manager.getColony().markDirty();
+        manager.getProviderResolverAssignmentDataStore().markDirty();
+        manager.markDirty();
     }
 
     @Override
@@ -86,7 +87,8 @@ public class ProviderHandler implements IProviderHandler
 
         //Removing the data from the maps.
         manager.getProviderResolverAssignmentDataStore().getAssignments().remove(token);
-        manager.getColony().markDirty();
+        manager.getProviderResolverAssignmentDataStore().markDirty();
+        manager.markDirty();
         manager.log(String.format("Removed provider: %s", token));
     }
 
@@ -129,36 +129,7 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        List<IRequestResolver<? extends IRequestable>> resolverList = new ArrayList<>();
-        for (final TypeToken<?> requestTypeToken : requestTypes)
-        {
-            final Collection<IToken<?>> resolverTokens = manager.getRequestableTypeRequestResolverAssignmentDataStore()
-              .getAssignments()
-              .get(requestTypeToken);
-
-            if (resolverTokens == null)
-            {
-                continue;
-            }
-
-            for (IToken<?> iToken : resolverTokens)
-            {
-                final IRequestResolver<? extends IRequestable> iRequestResolver = manager.getResolverHandler().getResolver(iToken);
-                if (requestTypes.contains(iRequestResolver.getRequestType()))
-                {
-                    resolverList.add(iRequestResolver);
-                }
-            }
-        }
-
-        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-          .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())));
-
-        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>(resolverList);
+        final IRequestResolver<?>[] resolvers = manager.getResolverHandler().getResolversForTypes(request.getSuperClasses());
 
         IRequestResolver previousResolver = null;
         int previousMetric = Integer.MAX_VALUE;
@@ -3,6 +3,7 @@ package com.minecolonies.core.colony.requestsystem.management.handlers;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IResolverHandler;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -14,6 +15,8 @@ import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.core.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.core.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,6 +38,16 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * Sorted resolvers by request type set, cleared when resolvers register or unregister.
+     */
+    private final Map<Set<TypeToken<?>>, IRequestResolver<?>[]> resolversByTypes = new HashMap<>();
+
+    /**
+     * The assignment data store the resolver index got built from, replaced data stores (e.g. on load) invalidate the index.
+     */
+    private IRequestableTypeRequestResolverAssignmentDataStore indexedDataStore = null;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -86,6 +99,9 @@ public class ResolverHandler implements IResolverHandler
         }
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
+        manager.getRequestResolverIdentitiesDataStore().markDirty();
+        manager.getRequestableTypeRequestResolverAssignmentDataStore().markDirty();
+        resolversByTypes.clear();
 
         final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
@@ -287,10 +303,72 @@ public class ResolverHandler implements IResolverHandler
         return manager.getRequestResolverIdentitiesDataStore().getIdentities().get(token);
     }
 
+    @Override
+    public IRequestResolver<?>[] getResolversForTypes(final Set<TypeToken<?>> requestTypes)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore dataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (dataStore != indexedDataStore)
+        {
+            resolversByTypes.clear();
+            indexedDataStore = dataStore;
+        }
+
+        IRequestResolver<?>[] resolvers = resolversByTypes.get(requestTypes);
+        if (resolvers == null)
+        {
+            resolvers = buildResolversForTypes(dataStore, requestTypes);
+            resolversByTypes.put(requestTypes, resolvers);
+        }
+        return resolvers;
+    }
+
+    /**
+     * Collects and sorts the resolvers for the given request types.
+     *
+     * @param dataStore    the type to resolver assignments.
+     * @param requestTypes the request types.
+     * @return the sorted resolvers without duplicates.
+     */
+    private IRequestResolver<?>[] buildResolversForTypes(final IRequestableTypeRequestResolverAssignmentDataStore dataStore, final Set<TypeToken<?>> requestTypes)
+    {
+        final Object2IntMap<TypeToken<?>> typeIndex = new Object2IntOpenHashMap<>();
+        for (final TypeToken<?> requestType : requestTypes)
+        {
+            typeIndex.putIfAbsent(requestType, typeIndex.size());
+        }
+
+        final List<IRequestResolver<?>> resolverList = new ArrayList<>();
+        for (final TypeToken<?> requestTypeToken : requestTypes)
+        {
+            final Collection<IToken<?>> resolverTokens = dataStore.getAssignments().get(requestTypeToken);
+            if (resolverTokens == null)
+            {
+                continue;
+            }
+
+            for (final IToken<?> token : resolverTokens)
+            {
+                final IRequestResolver<?> resolver = getResolver(token);
+                if (typeIndex.containsKey(resolver.getRequestType()))
+                {
+                    resolverList.add(resolver);
+                }
+            }
+        }
+
+        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+          .thenComparingInt((IRequestResolver<?> r) -> typeIndex.getInt(r.getRequestType())));
+
+        return new LinkedHashSet<>(resolverList).toArray(new IRequestResolver<?>[0]);
+    }
+
     @Override
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        manager.getRequestResolverIdentitiesDataStore().markDirty();
+        manager.getRequestableTypeRequestResolverAssignmentDataStore().markDirty();
+        resolversByTypes.clear();
         final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
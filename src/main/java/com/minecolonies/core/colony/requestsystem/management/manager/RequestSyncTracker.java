@@ -0,0 +1,365 @@
+package com.minecolonies.core.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.requestsystem.data.IDataStore;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.core.colony.requestsystem.data.StandardDataStoreManager;
+import net.minecraft.network.FriendlyByteBuf;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Tracks what of the request system the close subscribers already received, to send them deltas instead of the whole request manager.
+ * <p>
+ * Requests are tracked by their dirty flag, removals and resolver assignments by comparing against the last synced state. The remaining data stores are small and only hold
+ * tokens, they are resent as a whole when their dirty flag is set. Each delta carries the version it applies to, the client asks for a snapshot when it is on another version.
+ */
+public class RequestSyncTracker
+{
+    /**
+     * The manager being tracked.
+     */
+    private final StandardRequestManager manager;
+
+    /**
+     * Version of the last sync, on the client the version applied last.
+     */
+    private int version = 0;
+
+    /**
+     * Whether all subscribers need a snapshot, e.g. after a reset of the request system.
+     */
+    private boolean snapshotRequired = true;
+
+    /**
+     * The synced requests.
+     */
+    private final Set<IToken<?>> syncedRequests = new HashSet<>();
+
+    /**
+     * The synced resolver of each assigned request.
+     */
+    private final Map<IToken<?>, IToken<?>> syncedResolvers = new HashMap<>();
+
+    /**
+     * The synced other data stores.
+     */
+    private final Set<IToken<?>> syncedStores = new HashSet<>();
+
+    /**
+     * Create a new tracker.
+     *
+     * @param manager the manager to track.
+     */
+    public RequestSyncTracker(@NotNull final StandardRequestManager manager)
+    {
+        this.manager = manager;
+    }
+
+    /**
+     * Get the current sync version.
+     *
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Drops the synced state, all subscribers get a snapshot with the next sync.
+     */
+    public void reset()
+    {
+        snapshotRequired = true;
+        syncedRequests.clear();
+        syncedResolvers.clear();
+        syncedStores.clear();
+    }
+
+    /**
+     * Check if the next sync has to be a snapshot for everyone.
+     *
+     * @return true if so.
+     */
+    public boolean isSnapshotRequired()
+    {
+        return snapshotRequired;
+    }
+
+    /**
+     * Writes a snapshot of the whole request system at the current version.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to write to.
+     */
+    public void writeSnapshot(@NotNull final IFactoryController controller, @NotNull final FriendlyByteBuf buffer)
+    {
+        if (snapshotRequired)
+        {
+            // Everyone gets this snapshot, so it is the new base for deltas
+            snapshotRequired = false;
+            version++;
+            updateSyncedState(controller, null);
+        }
+
+        buffer.writeInt(version);
+        manager.serialize(controller, buffer);
+    }
+
+    /**
+     * Writes the changes since the last sync and makes them the synced state.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to write to.
+     */
+    public void writeDelta(@NotNull final IFactoryController controller, @NotNull final FriendlyByteBuf buffer)
+    {
+        buffer.writeInt(version);
+        version++;
+        buffer.writeInt(version);
+        updateSyncedState(controller, buffer);
+    }
+
+    /**
+     * Compares the request system with the synced state and takes it over as synced state.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to write the differences to, null to only take over the state.
+     */
+    private void updateSyncedState(@NotNull final IFactoryController controller, final FriendlyByteBuf buffer)
+    {
+        final Map<IToken<?>, IRequest<?>> identities = manager.getRequestIdentitiesDataStore().getIdentities();
+
+        final List<IRequest<?>> changed = new ArrayList<>();
+        for (final IRequest<?> request : identities.values())
+        {
+            if (request.isDirty() || !syncedRequests.contains(request.getId()))
+            {
+                changed.add(request);
+                request.clearDirty();
+            }
+        }
+
+        final List<IToken<?>> removed = new ArrayList<>();
+        for (final Iterator<IToken<?>> iterator = syncedRequests.iterator(); iterator.hasNext(); )
+        {
+            final IToken<?> token = iterator.next();
+            if (!identities.containsKey(token))
+            {
+                removed.add(token);
+                iterator.remove();
+            }
+        }
+
+        if (buffer != null)
+        {
+            buffer.writeInt(changed.size());
+            for (final IRequest<?> request : changed)
+            {
+                controller.serialize(buffer, request.getId());
+                controller.serialize(buffer, request);
+            }
+
+            buffer.writeInt(removed.size());
+            for (final IToken<?> token : removed)
+            {
+                controller.serialize(buffer, token);
+            }
+        }
+
+        for (final IRequest<?> request : changed)
+        {
+            syncedRequests.add(request.getId());
+        }
+
+        final Map<IToken<?>, IToken<?>> resolvers = new HashMap<>();
+        for (final Map.Entry<IToken<?>, Collection<IToken<?>>> entry : manager.getRequestResolverRequestAssignmentDataStore().getAssignments().entrySet())
+        {
+            for (final IToken<?> request : entry.getValue())
+            {
+                resolvers.put(request, entry.getKey());
+            }
+        }
+
+        final List<Map.Entry<IToken<?>, IToken<?>>> assigned = new ArrayList<>();
+        for (final Map.Entry<IToken<?>, IToken<?>> entry : resolvers.entrySet())
+        {
+            if (!entry.getValue().equals(syncedResolvers.get(entry.getKey())))
+            {
+                assigned.add(entry);
+            }
+        }
+
+        final List<IToken<?>> unassigned = new ArrayList<>();
+        for (final IToken<?> request : syncedResolvers.keySet())
+        {
+            if (!resolvers.containsKey(request))
+            {
+                unassigned.add(request);
+            }
+        }
+
+        if (buffer != null)
+        {
+            buffer.writeInt(assigned.size());
+            for (final Map.Entry<IToken<?>, IToken<?>> entry : assigned)
+            {
+                controller.serialize(buffer, entry.getKey());
+                controller.serialize(buffer, entry.getValue());
+            }
+
+            buffer.writeInt(unassigned.size());
+            for (final IToken<?> token : unassigned)
+            {
+                controller.serialize(buffer, token);
+            }
+        }
+
+        syncedResolvers.clear();
+        syncedResolvers.putAll(resolvers);
+
+        final IToken<?> identitiesId = manager.getRequestIdentitiesDataStore().getId();
+        final IToken<?> assignmentsId = manager.getRequestResolverRequestAssignmentDataStore().getId();
+        final Map<IToken<?>, IDataStore> stores = getDataStoreManager().getDataStores();
+        final Map<IToken<?>, IDataStore> changedStores = new LinkedHashMap<>();
+        for (final Map.Entry<IToken<?>, IDataStore> entry : stores.entrySet())
+        {
+            // Synced entry by entry above
+            if (entry.getKey().equals(identitiesId) || entry.getKey().equals(assignmentsId))
+            {
+                continue;
+            }
+
+            if (entry.getValue().isDirty() || !syncedStores.contains(entry.getKey()))
+            {
+                changedStores.put(entry.getKey(), entry.getValue());
+                entry.getValue().clearDirty();
+            }
+        }
+
+        final List<IToken<?>> removedStores = new ArrayList<>();
+        for (final IToken<?> token : syncedStores)
+        {
+            if (!stores.containsKey(token))
+            {
+                removedStores.add(token);
+            }
+        }
+
+        if (buffer != null)
+        {
+            buffer.writeInt(changedStores.size());
+            for (final Map.Entry<IToken<?>, IDataStore> entry : changedStores.entrySet())
+            {
+                controller.serialize(buffer, entry.getKey());
+                controller.serialize(buffer, entry.getValue());
+            }
+
+            buffer.writeInt(removedStores.size());
+            for (final IToken<?> token : removedStores)
+            {
+                controller.serialize(buffer, token);
+            }
+        }
+
+        syncedStores.addAll(changedStores.keySet());
+        removedStores.forEach(syncedStores::remove);
+    }
+
+    /**
+     * Reads a snapshot written by {@link #writeSnapshot(IFactoryController, FriendlyByteBuf)} on the client.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to read from.
+     */
+    public void readSnapshot(@NotNull final IFactoryController controller, @NotNull final FriendlyByteBuf buffer)
+    {
+        version = buffer.readInt();
+        manager.deserialize(controller, buffer);
+    }
+
+    /**
+     * Applies a delta written by {@link #writeDelta(IFactoryController, FriendlyByteBuf)} on the client.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to read from.
+     * @return false if the delta does not apply to the current version and a snapshot is needed.
+     */
+    public boolean readDelta(@NotNull final IFactoryController controller, @NotNull final FriendlyByteBuf buffer)
+    {
+        final int baseVersion = buffer.readInt();
+        final int newVersion = buffer.readInt();
+        if (baseVersion != version)
+        {
+            return false;
+        }
+
+        final Map<IToken<?>, IRequest<?>> identities = manager.getRequestIdentitiesDataStore().getIdentities();
+        final int changedCount = buffer.readInt();
+        for (int i = 0; i < changedCount; i++)
+        {
+            final IToken<?> token = controller.deserialize(buffer);
+            final IRequest<?> request = controller.deserialize(buffer);
+            identities.remove(token);
+            identities.put(token, request);
+        }
+
+        final int removedCount = buffer.readInt();
+        for (int i = 0; i < removedCount; i++)
+        {
+            identities.remove((IToken<?>) controller.deserialize(buffer));
+        }
+
+        final Map<IToken<?>, IToken<?>> assigned = new HashMap<>();
+        final int assignedCount = buffer.readInt();
+        for (int i = 0; i < assignedCount; i++)
+        {
+            assigned.put(controller.deserialize(buffer), controller.deserialize(buffer));
+        }
+
+        final Set<IToken<?>> unassigned = new HashSet<>();
+        final int unassignedCount = buffer.readInt();
+        for (int i = 0; i < unassignedCount; i++)
+        {
+            unassigned.add(controller.deserialize(buffer));
+        }
+
+        final Map<IToken<?>, Collection<IToken<?>>> assignments = manager.getRequestResolverRequestAssignmentDataStore().getAssignments();
+        if (!assigned.isEmpty() || !unassigned.isEmpty())
+        {
+            assignments.values().forEach(requests -> requests.removeIf(request -> assigned.containsKey(request) || unassigned.contains(request)));
+            assigned.forEach((request, resolver) -> assignments.computeIfAbsent(resolver, key -> new ArrayList<>()).add(request));
+        }
+        assignments.values().removeIf(Collection::isEmpty);
+
+        final int changedStoreCount = buffer.readInt();
+        for (int i = 0; i < changedStoreCount; i++)
+        {
+            final IToken<?> token = controller.deserialize(buffer);
+            final IDataStore store = controller.deserialize(buffer);
+            getDataStoreManager().put(token, store);
+        }
+
+        final int removedStoreCount = buffer.readInt();
+        for (int i = 0; i < removedStoreCount; i++)
+        {
+            getDataStoreManager().remove(controller.deserialize(buffer));
+        }
+
+        version = newVersion;
+        return true;
+    }
+
+    /**
+     * Get the data store manager of the tracked manager.
+     *
+     * @return the data store manager.
+     */
+    private StandardDataStoreManager getDataStoreManager()
+    {
+        return (StandardDataStoreManager) manager.getDataStoreManager();
+    }
+}
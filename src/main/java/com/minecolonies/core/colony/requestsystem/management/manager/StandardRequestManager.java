@@ -81,6 +81,11 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     private boolean dirty = true;
 
+    /**
+     * Variable describing if the request manager itself changed since the last save.
+     */
+    private boolean saveDirty = true;
+
     /**
      * Colony of the manager.
      */
@@ -105,6 +110,12 @@ public class StandardRequestManager implements IStandardRequestManager
     @NotNull
     private final IProviderHandler providerHandler = new ProviderHandler(this);
 
+    /**
+     * Tracks what the clients already received.
+     */
+    @NotNull
+    private final RequestSyncTracker syncTracker = new RequestSyncTracker(this);
+
     private int version = -1;
 
     /**
@@ -214,10 +225,42 @@ public class StandardRequestManager implements IStandardRequestManager
 
         if (this.isDirty())
         {
+            saveDirty = true;
             colony.markDirty();
         }
     }
 
+    @Override
+    public void markSaveDirty()
+    {
+        saveDirty = true;
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        if (saveDirty)
+        {
+            return true;
+        }
+
+        for (final IRequest<?> request : getRequestIdentitiesDataStore().getIdentities().values())
+        {
+            if (request.isSaveDirty())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        saveDirty = false;
+        getRequestIdentitiesDataStore().getIdentities().values().forEach(IRequest::clearSaveDirty);
+    }
+
     /**
      * Method used to assign a request to a resolver.
      *
@@ -419,6 +462,8 @@ public class StandardRequestManager implements IStandardRequestManager
 
         version = -1;
         getUpdateHandler().handleUpdate(UpdateType.RESET);
+        syncTracker.reset();
+        saveDirty = true;
     }
 
     /**
@@ -500,6 +545,8 @@ public class StandardRequestManager implements IStandardRequestManager
         }
 
         updateIfRequired();
+        syncTracker.reset();
+        saveDirty = true;
     }
 
     @Override
@@ -574,6 +621,11 @@ public class StandardRequestManager implements IStandardRequestManager
     public void tick()
     {
         this.getRetryingRequestResolver().updateManager(this);
+        if (!this.getRetryingRequestResolver().getAllAssignedRequests().isEmpty())
+        {
+            // Retry delays count down every tick and are part of the saved data.
+            saveDirty = true;
+        }
         this.getRetryingRequestResolver().tick();
     }
 
@@ -642,6 +694,17 @@ public class StandardRequestManager implements IStandardRequestManager
         return updateHandler;
     }
 
+    /**
+     * Get the tracker of the client sync.
+     *
+     * @return the tracker.
+     */
+    @NotNull
+    public RequestSyncTracker getSyncTracker()
+    {
+        return syncTracker;
+    }
+
     private void updateIfRequired()
     {
         if (version < updateHandler.getCurrentVersion())
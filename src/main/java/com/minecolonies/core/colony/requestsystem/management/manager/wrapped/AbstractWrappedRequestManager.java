@@ -276,6 +276,24 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         wrappedManager.markDirty();
     }
 
+    @Override
+    public void markSaveDirty()
+    {
+        wrappedManager.markSaveDirty();
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        return wrappedManager.isSaveDirty();
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        wrappedManager.clearSaveDirty();
+    }
+
     @Override
     public void onColonyUpdate(@NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
     {
@@ -57,6 +57,16 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
 
     private ImmutableList<ItemStack> itemExamples;
 
+    /**
+     * Whether the request changed since the last sync, new requests start out changed.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Whether the request changed since the last save, new requests start out changed.
+     */
+    private boolean saveDirty = true;
+
     protected AbstractRequest(@NotNull final IRequester requester, @NotNull final IToken<?> token, @NotNull final R requested)
     {
         this.requester = requester;
@@ -137,6 +147,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setState(@NotNull final IRequestManager manager, @NotNull final RequestState state)
     {
         this.state = state;
+        markDirty();
         manager.log("Updated state from: " + getId() + " to: " + state);
 
         if (this.hasParent() && this.getParent() != null)
@@ -188,6 +199,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setResult(@NotNull final R result)
     {
         this.result = result;
+        markDirty();
     }
 
     /**
@@ -223,6 +235,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken<?>> void setParent(@Nullable final T parent)
     {
         this.parent = parent;
+        markDirty();
     }
 
     /**
@@ -245,6 +258,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken<?>> void addChild(@NotNull final T child)
     {
         this.children.add(child);
+        markDirty();
     }
 
     /**
@@ -284,6 +298,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken<?>> void removeChild(@NotNull final T child)
     {
         this.children.remove(child);
+        markDirty();
     }
 
     /**
@@ -386,37 +401,89 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
         return !getDeliveries().isEmpty();
     }
 
+    /**
+     * Get copies of the deliveries, the stacks of the request only change through its setters so they get synced.
+     *
+     * @return the copied deliveries.
+     */
     @NotNull
     @Override
     public ImmutableList<ItemStack> getDeliveries()
     {
-        return ImmutableList.copyOf(deliveries);
+        final ImmutableList.Builder<ItemStack> builder = ImmutableList.builderWithExpectedSize(deliveries.size());
+        for (final ItemStack stack : deliveries)
+        {
+            builder.add(stack.copy());
+        }
+        return builder.build();
     }
 
     @Override
     public void overrideCurrentDeliveries(@NotNull final ImmutableList<ItemStack> stacks)
     {
-        this.deliveries = Lists.newArrayList(stacks);
+        this.deliveries = Lists.newArrayList();
+        stacks.forEach(stack -> this.deliveries.add(stack.copy()));
+        markDirty();
     }
 
     @Override
     public void addDelivery(@NotNull final ItemStack stack)
     {
-        this.deliveries.add(stack);
+        this.deliveries.add(stack.copy());
         this.deliveries = InventoryUtils.processItemStackListAndMerge(this.deliveries);
+        markDirty();
     }
 
     @Override
     public void addDelivery(@NotNull final List<ItemStack> list)
     {
-        this.deliveries.addAll(list);
+        list.forEach(stack -> this.deliveries.add(stack.copy()));
         this.deliveries = InventoryUtils.processItemStackListAndMerge(this.deliveries);
+        markDirty();
     }
 
     @Override
     public void resetDeliveries()
     {
         this.deliveries.clear();
+        markDirty();
+    }
+
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+        saveDirty = true;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
+
+    @Override
+    public void markSaveDirty()
+    {
+        saveDirty = true;
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        return saveDirty;
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        saveDirty = false;
     }
 
     @NotNull
@@ -135,9 +135,9 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
         if (!manager.getColony().getWorld().isClientSide)
         {
             final Colony colony = (Colony) manager.getColony();
-            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
+            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizensWithJob(JobDeliveryman.class)
                                                    .stream()
-                                                   .filter(c -> c.getJob() instanceof JobDeliveryman && ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
+                                                   .filter(c -> ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
                                                    .findFirst()
                                                    .orElse(null);
 
@@ -155,6 +155,7 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
 
             final WarehouseRequestQueueModule module = wareHouse.getModule(BuildingModules.WAREHOUSE_REQUEST_QUEUE);
             module.getMutableRequestList().remove(request.getId());
+            module.takeQueuedTime(request.getId());
         }
     }
 
@@ -9,7 +9,9 @@ import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingWareHouse;
+import com.minecolonies.core.colony.buildings.workerbuildings.WarehouseItemIndex;
 import com.minecolonies.core.colony.requestsystem.resolvers.core.AbstractWarehouseRequestResolver;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -42,18 +44,23 @@ public class WarehouseConcreteRequestResolver extends AbstractWarehouseRequestRe
             ignoreNBT = !stack.matchNBT();
             ignoreDamage = !stack.matchDamage();
         }
+        final WarehouseItemIndex index = wareHouse.getColony() instanceof Colony colony ? colony.getWarehouseItemIndex() : null;
         int totalCount = 0;
         for (final ItemStack possible : ((IConcreteDeliverable) deliverable).getRequestedItems())
         {
+            final ItemStorage storage = new ItemStorage(possible, requestToCheck.getRequest().getMinimumCount(), ignoreDamage, ignoreNBT);
             if (requestToCheck.getRequest() instanceof INonExhaustiveDeliverable neDeliverable)
             {
-                totalCount += Math.max(0, InventoryUtils.hasBuildingEnoughElseCount(wareHouse,
-                  new ItemStorage(possible, requestToCheck.getRequest().getMinimumCount(), ignoreDamage, ignoreNBT), requestToCheck.getRequest().getCount() + neDeliverable.getLeftOver()) - neDeliverable.getLeftOver());
+                final int count = index != null
+                                    ? index.getCount(storage, wareHouse.getPosition())
+                                    : InventoryUtils.hasBuildingEnoughElseCount(wareHouse, storage, requestToCheck.getRequest().getCount() + neDeliverable.getLeftOver());
+                totalCount += Math.max(0, count - neDeliverable.getLeftOver());
             }
             else
             {
-                totalCount += InventoryUtils.hasBuildingEnoughElseCount(wareHouse,
-                  new ItemStorage(possible, requestToCheck.getRequest().getMinimumCount(), ignoreDamage, ignoreNBT), requestToCheck.getRequest().getCount());
+                totalCount += index != null
+                                ? index.getCount(storage, wareHouse.getPosition())
+                                : InventoryUtils.hasBuildingEnoughElseCount(wareHouse, storage, requestToCheck.getRequest().getCount());
             }
 
             if (totalCount >= requestToCheck.getRequest().getCount())
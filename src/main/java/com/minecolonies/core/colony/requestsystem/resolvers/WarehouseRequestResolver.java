@@ -4,9 +4,12 @@ import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IConcreteDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.RequestTag;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingWareHouse;
+import com.minecolonies.core.colony.buildings.workerbuildings.WarehouseItemIndex;
 import com.minecolonies.core.colony.requestsystem.resolvers.core.AbstractWarehouseRequestResolver;
 import org.jetbrains.annotations.NotNull;
 
@@ -30,6 +33,17 @@ public class WarehouseRequestResolver extends AbstractWarehouseRequestResolver
             return 0;
         }
 
-        return InventoryUtils.hasBuildingEnoughElseCount(wareHouse, itemStack -> requestToCheck.getRequest().matches(itemStack), requestToCheck.getRequest().getCount());
+        if (!(wareHouse.getColony() instanceof Colony colony))
+        {
+            return InventoryUtils.hasBuildingEnoughElseCount(wareHouse, itemStack -> requestToCheck.getRequest().matches(itemStack), requestToCheck.getRequest().getCount());
+        }
+
+        final WarehouseItemIndex index = colony.getWarehouseItemIndex();
+        if (requestToCheck.getRequest() instanceof RequestTag requestTag)
+        {
+            // Only visit the items of the tag
+            return index.getCount(requestTag.getTag(), itemStack -> requestToCheck.getRequest().matches(itemStack), wareHouse.getPosition());
+        }
+        return index.getCount(itemStack -> requestToCheck.getRequest().matches(itemStack), wareHouse.getPosition());
     }
 }
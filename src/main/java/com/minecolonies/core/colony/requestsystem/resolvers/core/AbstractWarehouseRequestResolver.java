@@ -105,11 +105,11 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
 
             try
             {
-                for (final Map.Entry<BlockPos, IBuilding> building : colony.getBuildingManager().getBuildings().entrySet())
+                for (final IWareHouse otherWareHouse : colony.getBuildingManager().getWareHouses())
                 {
-                    if (building.getValue().getBuildingType() == ModBuildings.wareHouse.get() && building.getValue() != wareHouse)
+                    if (otherWareHouse != wareHouse)
                     {
-                        totalCount += getWarehouseInternalCount((BuildingWareHouse) building.getValue(), requestToCheck);
+                        totalCount += getWarehouseInternalCount((BuildingWareHouse) otherWareHouse, requestToCheck);
                         if (totalCount >= requestToCheck.getRequest().getCount())
                         {
                             return true;
@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Future;
 
@@ -94,6 +95,12 @@ public abstract class AbstractWorkOrder implements IWorkOrder
      */
     private BlockPos claimedBy;
 
+    /**
+     * The work manager indexing this work order, null while it is not added to a colony.
+     */
+    @Nullable
+    private WorkManager manager;
+
     /**
      * The structurize schematic name.
      */
@@ -356,14 +363,39 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     @Override
     public final void setClaimedBy(BlockPos claimedBy)
     {
-        this.claimedBy = claimedBy;
+        setClaim(claimedBy);
     }
 
     @Override
     public final void setClaimedBy(@Nullable ICitizenData citizen)
     {
         changed = true;
-        claimedBy = (citizen != null && citizen.getWorkBuilding() != null) ? citizen.getWorkBuilding().getPosition() : null;
+        setClaim((citizen != null && citizen.getWorkBuilding() != null) ? citizen.getWorkBuilding().getPosition() : null);
+    }
+
+    /**
+     * Change the claiming building and let the work manager update its indexes.
+     *
+     * @param claim the building claiming the work order, null to release it.
+     */
+    private void setClaim(@Nullable final BlockPos claim)
+    {
+        final BlockPos oldClaim = this.claimedBy;
+        this.claimedBy = claim;
+        if (manager != null && !Objects.equals(oldClaim, claim))
+        {
+            manager.onClaimChanged(this, oldClaim);
+        }
+    }
+
+    /**
+     * Set the work manager indexing this work order.
+     *
+     * @param manager the manager, null when the work order got removed.
+     */
+    void setManager(@Nullable final WorkManager manager)
+    {
+        this.manager = manager;
     }
 
     @Override
@@ -386,7 +418,7 @@ public abstract class AbstractWorkOrder implements IWorkOrder
     public final void clearClaimedBy()
     {
         changed = true;
-        claimedBy = null;
+        setClaim(null);
     }
 
     @Override
@@ -8,9 +8,12 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
+import com.minecolonies.api.colony.workorders.WorkOrderType;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.colony.buildings.workerbuildings.BuildingBuilder;
+import com.minecolonies.core.colony.jobs.JobBuilder;
 import com.minecolonies.core.util.AdvancementUtils;
 import com.minecolonies.api.util.ColonyUtils;
 import net.minecraft.nbt.CompoundTag;
@@ -49,6 +52,26 @@ public class WorkManager implements IWorkManager
     @NotNull
     private final        Map<Integer, IWorkOrder> workOrders      = new LinkedHashMap<>();
     private              int                      topWorkOrderId  = 0;
+    /**
+     * Game time of the last builder assignment.
+     */
+    private long lastBuilderAssignment = -1;
+
+    /**
+     * Unclaimed work orders by type.
+     */
+    private final Map<WorkOrderType, Set<IWorkOrder>> openOrdersByType = new EnumMap<>(WorkOrderType.class);
+
+    /**
+     * Work orders by the position of the building that claimed them.
+     */
+    private final Map<BlockPos, List<IWorkOrder>> ordersByClaim = new HashMap<>();
+
+    /**
+     * Work orders by their location.
+     */
+    private final Map<BlockPos, List<IWorkOrder>> ordersByLocation = new HashMap<>();
+
     /**
      * Checks if there has been changes.
      */
@@ -88,6 +111,7 @@ public class WorkManager implements IWorkManager
         {
             dirty = true;
             workOrders.remove(orderId);
+            unindex(workOrder);
             colony.removeWorkOrderInView(orderId);
             workOrder.onRemoved(colony);
             colony.markDirty();
@@ -214,6 +238,7 @@ public class WorkManager implements IWorkManager
     @Override
     public void read(@NotNull final CompoundTag compound)
     {
+        workOrders.values().forEach(this::unindex);
         workOrders.clear();
 
         if (!compound.contains(TAG_NEW_SYSTEM))
@@ -258,9 +283,9 @@ public class WorkManager implements IWorkManager
 
         if (!(order instanceof WorkOrderMiner))
         {
-            for (final IWorkOrder or : workOrders.values())
+            for (final IWorkOrder or : ordersByLocation.getOrDefault(order.getLocation(), Collections.emptyList()))
             {
-                if (or.getLocation().equals(order.getLocation()) && or.getStructurePath().equals(order.getStructurePath()) && or.getStructurePack().equals(order.getStructurePack()))
+                if (or.getStructurePath().equals(order.getStructurePath()) && or.getStructurePack().equals(order.getStructurePack()))
                 {
                     Log.getLogger().warn("Avoiding adding duplicate workOrder");
                     removeWorkOrder(or);
@@ -299,10 +324,123 @@ public class WorkManager implements IWorkManager
             }
         }
 
-        workOrders.put(order.getID(), order);
+        final IWorkOrder replaced = workOrders.put(order.getID(), order);
+        if (replaced != null)
+        {
+            unindex(replaced);
+        }
+        index(order);
         order.onAdded(colony, readingFromNbt);
     }
 
+    /**
+     * Add a work order to the type, claim and location indexes.
+     *
+     * @param order the work order.
+     */
+    private void index(final IWorkOrder order)
+    {
+        if (order instanceof AbstractWorkOrder abstractOrder)
+        {
+            abstractOrder.setManager(this);
+        }
+        ordersByLocation.computeIfAbsent(order.getLocation(), k -> new ArrayList<>()).add(order);
+        indexClaim(order);
+    }
+
+    /**
+     * Remove a work order from the type, claim and location indexes.
+     *
+     * @param order the work order.
+     */
+    private void unindex(final IWorkOrder order)
+    {
+        if (order instanceof AbstractWorkOrder abstractOrder)
+        {
+            abstractOrder.setManager(null);
+        }
+        removeFromIndex(ordersByLocation, order.getLocation(), order);
+        unindexClaim(order, order.getClaimedBy());
+    }
+
+    /**
+     * Index a work order under its current claim, or as open when unclaimed.
+     *
+     * @param order the work order.
+     */
+    private void indexClaim(final IWorkOrder order)
+    {
+        if (order.getClaimedBy() != null)
+        {
+            ordersByClaim.computeIfAbsent(order.getClaimedBy(), k -> new ArrayList<>()).add(order);
+        }
+        else if (order.getWorkOrderType() != null)
+        {
+            openOrdersByType.computeIfAbsent(order.getWorkOrderType(), k -> new LinkedHashSet<>()).add(order);
+        }
+    }
+
+    /**
+     * Remove a work order from the index of the given claim, or from the open orders when unclaimed.
+     *
+     * @param order the work order.
+     * @param claim the claim it was indexed with.
+     */
+    private void unindexClaim(final IWorkOrder order, @Nullable final BlockPos claim)
+    {
+        if (claim != null)
+        {
+            removeFromIndex(ordersByClaim, claim, order);
+        }
+        else if (order.getWorkOrderType() != null)
+        {
+            final Set<IWorkOrder> open = openOrdersByType.get(order.getWorkOrderType());
+            if (open != null)
+            {
+                open.remove(order);
+            }
+        }
+    }
+
+    /**
+     * Remove a work order from a position index, dropping empty entries.
+     *
+     * @param index the index.
+     * @param pos   the position the order is indexed at.
+     * @param order the work order.
+     */
+    private static void removeFromIndex(final Map<BlockPos, List<IWorkOrder>> index, final BlockPos pos, final IWorkOrder order)
+    {
+        final List<IWorkOrder> orders = index.get(pos);
+        if (orders != null && orders.remove(order) && orders.isEmpty())
+        {
+            index.remove(pos);
+        }
+    }
+
+    /**
+     * Called by a work order of this manager when its claim changed.
+     *
+     * @param order    the work order.
+     * @param oldClaim the building that claimed it before, null if it was open.
+     */
+    void onClaimChanged(final IWorkOrder order, @Nullable final BlockPos oldClaim)
+    {
+        if (workOrders.get(order.getID()) != order)
+        {
+            return;
+        }
+        unindexClaim(order, oldClaim);
+        indexClaim(order);
+    }
+
+    @Override
+    public List<IWorkOrder> getWorkOrdersClaimedBy(final BlockPos building)
+    {
+        final List<IWorkOrder> orders = ordersByClaim.get(building);
+        return orders == null ? Collections.emptyList() : Collections.unmodifiableList(orders);
+    }
+
     /**
      * Check if the workOrder is within a colony.
      *
@@ -362,6 +500,7 @@ public class WorkManager implements IWorkManager
             if (!o.isValid(this.colony))
             {
                 iter.remove();
+                unindex(o);
                 dirty = true;
             }
             else if (o.isDirty())
@@ -406,6 +545,98 @@ public class WorkManager implements IWorkManager
           .collect(Collectors.toList());
     }
 
+    @Override
+    public void assignBuilders()
+    {
+        final Level world = colony.getWorld();
+        if (world == null || world.getGameTime() == lastBuilderAssignment)
+        {
+            return;
+        }
+        lastBuilderAssignment = world.getGameTime();
+
+        final List<ICitizenData> idleBuilders = new ArrayList<>();
+        for (final ICitizenData citizen : colony.getCitizenManager().getCitizensWithJob(JobBuilder.class))
+        {
+            final JobBuilder job = citizen.getJob(JobBuilder.class);
+            if (job != null && !job.hasWorkOrder() && citizen.getWorkBuilding() instanceof BuildingBuilder building && !building.getManualMode()
+                  && !holdsClaimedOrder(building.getPosition(), citizen))
+            {
+                idleBuilders.add(citizen);
+            }
+        }
+
+        if (idleBuilders.isEmpty())
+        {
+            return;
+        }
+
+        // Removals first, then everything else by priority
+        final List<IWorkOrder> openOrders = new ArrayList<>(openOrdersByType.getOrDefault(WorkOrderType.REMOVE, Collections.emptySet()));
+        openOrders.sort(Comparator.comparingInt(IWorkOrder::getPriority).reversed());
+        final List<IWorkOrder> otherOrders = new ArrayList<>();
+        for (final Map.Entry<WorkOrderType, Set<IWorkOrder>> entry : openOrdersByType.entrySet())
+        {
+            if (entry.getKey() != WorkOrderType.REMOVE)
+            {
+                otherOrders.addAll(entry.getValue());
+            }
+        }
+        otherOrders.sort(Comparator.comparingInt(IWorkOrder::getPriority).reversed());
+        openOrders.addAll(otherOrders);
+
+        for (final IWorkOrder order : openOrders)
+        {
+            ICitizenData closest = null;
+            double closestDistance = Double.MAX_VALUE;
+            for (final ICitizenData builder : idleBuilders)
+            {
+                if (!order.canBeMadeBy(builder.getJob())
+                      || (order instanceof WorkOrderBuilding && order.getWorkOrderType() != WorkOrderType.REMOVE && !order.canBuild(builder)))
+                {
+                    continue;
+                }
+
+                final double distance = builder.getWorkBuilding().getID().distSqr(order.getLocation());
+                if (distance < closestDistance)
+                {
+                    closest = builder;
+                    closestDistance = distance;
+                }
+            }
+
+            if (closest != null)
+            {
+                closest.getJob(JobBuilder.class).setWorkOrder(order);
+                order.setClaimedBy(closest);
+                idleBuilders.remove(closest);
+                if (idleBuilders.isEmpty())
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if a builder hut already holds a claimed work order its builder can take, which the hut resumes on its own.
+     *
+     * @param hut     the position of the hut.
+     * @param builder the builder of the hut.
+     * @return true if so.
+     */
+    private boolean holdsClaimedOrder(final BlockPos hut, final ICitizenData builder)
+    {
+        for (final IWorkOrder order : getWorkOrdersClaimedBy(hut))
+        {
+            if (order.canBeMadeBy(builder.getJob()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if changes has been made.
      *
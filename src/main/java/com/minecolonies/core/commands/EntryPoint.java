@@ -93,7 +93,13 @@ public class EntryPoint
             .addNode(new CommandResetPlayerSupplies().build())
             .addNode(new CommandHelp().build())
             .addNode(ScanCommand.build())
-            .addNode(new CommandPruneWorld().build());
+            .addNode(new CommandPruneWorld().build())
+            .addNode(new CommandPathCacheStats().build())
+            .addNode(new CommandPathQueueStats().build())
+            .addNode(new CommandPermissionEventStats().build())
+            .addNode(new CommandCitizenSyncStats().build())
+            .addNode(new CommandColonySaveStats().build())
+            .addNode(new CommandCourierDispatchStats().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -111,7 +117,13 @@ public class EntryPoint
             .addNode(new CommandBackup().build())
             .addNode(new CommandResetPlayerSupplies().build())
             .addNode(new CommandHelp().build())
-            .addNode(new CommandPruneWorld().build());
+            .addNode(new CommandPruneWorld().build())
+            .addNode(new CommandPathCacheStats().build())
+            .addNode(new CommandPathQueueStats().build())
+            .addNode(new CommandPermissionEventStats().build())
+            .addNode(new CommandCitizenSyncStats().build())
+            .addNode(new CommandColonySaveStats().build())
+            .addNode(new CommandCourierDispatchStats().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
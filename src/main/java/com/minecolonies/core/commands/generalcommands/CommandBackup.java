@@ -1,7 +1,9 @@
 package com.minecolonies.core.commands.generalcommands;
 
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
 import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
 import com.minecolonies.core.util.BackUpHelper;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.network.chat.Component;
@@ -23,6 +25,7 @@ public class CommandBackup implements IMCOPCommand
         if (BackUpHelper.backupColonyData())
         {
             context.getSource().sendSuccess(() -> Component.translatable(COMMAND_BACKUP_SUCCESS), true);
+            context.getSource().sendSuccess(() -> Component.literal(BackUpHelper.getBackupStatus()), false);
         }
         else
         {
@@ -31,6 +34,23 @@ public class CommandBackup implements IMCOPCommand
         return 1;
     }
 
+    /**
+     * Prints the state of the backup worker and the result of the last backup.
+     *
+     * @param context the context of the command execution
+     * @return 1
+     */
+    private int onStatus(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal(BackUpHelper.getBackupStatus()), false);
+        return 1;
+    }
+
     /**
      * Name string of the command.
      */
@@ -39,4 +59,12 @@ public class CommandBackup implements IMCOPCommand
     {
         return "backup";
     }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .then(IMCCommand.newLiteral("status").executes(this::onStatus))
+          .executes(this::checkPreConditionAndExecute);
+    }
 }
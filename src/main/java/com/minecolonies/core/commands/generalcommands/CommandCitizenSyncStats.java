@@ -0,0 +1,46 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.colony.managers.CitizenViewSyncStats;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Prints the bytes sent for citizen views compared to sending full updates only, and restarts the counting.
+ */
+public class CommandCitizenSyncStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final String summary = CitizenViewSyncStats.getSummary();
+        CitizenViewSyncStats.reset();
+        context.getSource().sendSuccess(() -> Component.literal(summary), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     *
+     * @return this commands name.
+     */
+    @Override
+    public String getName()
+    {
+        return "citizensync";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
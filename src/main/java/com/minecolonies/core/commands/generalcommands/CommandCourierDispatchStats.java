@@ -0,0 +1,46 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.colony.jobs.CourierDispatchStats;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Prints how many requests couriers take from the warehouse queues at once, how long they waited and how far the routes are, and restarts the counting.
+ */
+public class CommandCourierDispatchStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final String summary = CourierDispatchStats.getSummary();
+        CourierDispatchStats.reset();
+        context.getSource().sendSuccess(() -> Component.literal(summary), false);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     *
+     * @return this commands name.
+     */
+    @Override
+    public String getName()
+    {
+        return "courierdispatch";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
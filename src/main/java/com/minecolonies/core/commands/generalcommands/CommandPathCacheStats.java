@@ -0,0 +1,78 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.entity.pathfinding.PathResultCache;
+import com.minecolonies.core.entity.pathfinding.world.ChunkSectionSnapshotCache;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Prints the usage statistics of the section snapshot and path caches of all dimensions.
+ */
+public class CommandPathCacheStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        for (final ChunkSectionSnapshotCache cache : ChunkSectionSnapshotCache.getAll())
+        {
+            final long reads = cache.getHits() + cache.getMisses();
+            final double hitRate = reads == 0 ? 0 : cache.getHits() * 100.0 / reads;
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format("%s: %d section snapshots, %d hits, %d misses (%.1f%% hit rate), %d invalidated",
+                cache.getLevel().dimension().location(),
+                cache.size(),
+                cache.getHits(),
+                cache.getMisses(),
+                hitRate,
+                cache.getInvalidations())), false);
+        }
+
+        if (PathResultCache.getAll().isEmpty())
+        {
+            context.getSource().sendSuccess(() -> Component.literal("No paths cached yet"), false);
+            return 1;
+        }
+
+        for (final PathResultCache cache : PathResultCache.getAll())
+        {
+            final long lookups = cache.getHits() + cache.getMisses();
+            final double hitRate = lookups == 0 ? 0 : cache.getHits() * 100.0 / lookups;
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format("%s: %d paths, %d hits, %d misses (%.1f%% hit rate), %d invalidated, %d evicted",
+                cache.getLevel().dimension().location(),
+                cache.size(),
+                cache.getHits(),
+                cache.getMisses(),
+                hitRate,
+                cache.getInvalidations(),
+                cache.getEvictions())), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     *
+     * @return this commands name.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathcache";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
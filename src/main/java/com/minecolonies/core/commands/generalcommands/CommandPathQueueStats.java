@@ -0,0 +1,57 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
+import com.minecolonies.core.entity.pathfinding.PathJobQueue;
+import com.minecolonies.core.entity.pathfinding.Pathfinding;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Prints the state of the pathfinding job queue by scheduling class.
+ */
+public class CommandPathQueueStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final PathJobQueue queue = Pathfinding.getJobQueue();
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format("%s: %d pending, %d replaced, %d dropped",
+                priority,
+                queue.getDepth(priority),
+                queue.getReplaced(priority),
+                queue.getDropped(priority))), false);
+            context.getSource().sendSuccess(() -> Component.literal("  wait " + queue.getWaitTime(priority)), false);
+            context.getSource().sendSuccess(() -> Component.literal("  run  " + queue.getRunTime(priority)), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     *
+     * @return this commands name.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathqueue";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
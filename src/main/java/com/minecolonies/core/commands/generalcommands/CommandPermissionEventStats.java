@@ -0,0 +1,61 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.colony.permissions.ColonyPermissionEventDispatcher;
+import com.minecolonies.core.colony.permissions.ColonyPermissionEventDispatcher.EventStats;
+import com.minecolonies.core.colony.permissions.ColonyPermissionEventDispatcher.EventType;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Prints the counters and timings of the colony permission event dispatcher by event type.
+ */
+public class CommandPermissionEventStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        for (final EventType type : EventType.values())
+        {
+            final EventStats stats = ColonyPermissionEventDispatcher.getStats(type);
+            if (stats.getEvents() == 0)
+            {
+                continue;
+            }
+
+            context.getSource()
+              .sendSuccess(() -> Component.literal(String.format("%s: %d events, %d to a colony, avg %.1fus, max %.1fus",
+                type,
+                stats.getEvents(),
+                stats.getRouted(),
+                stats.getTotalNanos() / 1000.0 / stats.getEvents(),
+                stats.getMaxNanos() / 1000.0)), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     *
+     * @return this commands name.
+     */
+    @Override
+    public String getName()
+    {
+        return "permissionevents";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
@@ -0,0 +1,242 @@
+package com.minecolonies.core.entity.ai.combat;
+
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Spatial hash of the living entities of a level, used by the target searches of guards and raiders.
+ * <p>
+ * During a raid many combatants search the same few entity sections and check sight on the same pairs. The hash is kept up to date from entity join, leave and
+ * section change events, so searches only read the buckets they cover instead of asking the level. Line of sight results are kept for the rest of the tick.
+ */
+public final class CombatTargetTracker
+{
+    /**
+     * Margin in blocks around a search area, entities are stored in the section of their position but may reach into a neighbouring one.
+     */
+    private static final double SECTION_MARGIN = 2.0D;
+
+    /**
+     * The tracker of each server level.
+     */
+    private static final Map<Level, CombatTargetTracker> TRACKERS = new WeakHashMap<>();
+
+    /**
+     * The game time the line of sight results belong to.
+     */
+    private long gameTime = -1;
+
+    /**
+     * Living entities by the section of their position.
+     */
+    private final Long2ObjectOpenHashMap<List<LivingEntity>> sections = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The section each tracked entity is stored in.
+     */
+    private final Object2LongOpenHashMap<LivingEntity> entitySections = new Object2LongOpenHashMap<>();
+
+    /**
+     * Line of sight results by entity id pair, for the current tick.
+     */
+    private final Long2BooleanOpenHashMap lineOfSight = new Long2BooleanOpenHashMap();
+
+    /**
+     * Private constructor, use {@link #get(Level)}.
+     */
+    private CombatTargetTracker()
+    {
+    }
+
+    /**
+     * Get the tracker of a level.
+     *
+     * @param level the server level.
+     * @return the tracker.
+     */
+    public static CombatTargetTracker get(final Level level)
+    {
+        final CombatTargetTracker tracker = TRACKERS.computeIfAbsent(level, key -> new CombatTargetTracker());
+        if (tracker.gameTime != level.getGameTime())
+        {
+            tracker.gameTime = level.getGameTime();
+            tracker.lineOfSight.clear();
+        }
+        return tracker;
+    }
+
+    /**
+     * Drop the tracker of a level, when the level unloads.
+     *
+     * @param level the level.
+     */
+    public static void remove(final Level level)
+    {
+        TRACKERS.remove(level);
+    }
+
+    /**
+     * Start tracking an entity which joined a server level.
+     *
+     * @param entity the entity.
+     */
+    public static void onEntityJoin(final Entity entity)
+    {
+        if (entity instanceof LivingEntity living && !entity.level.isClientSide())
+        {
+            get(entity.level).move(living, SectionPos.asLong(entity.blockPosition()));
+        }
+    }
+
+    /**
+     * Stop tracking an entity which left a server level.
+     *
+     * @param entity the entity.
+     */
+    public static void onEntityLeave(final Entity entity)
+    {
+        if (entity instanceof LivingEntity living && !entity.level.isClientSide())
+        {
+            final CombatTargetTracker tracker = TRACKERS.get(entity.level);
+            if (tracker != null)
+            {
+                tracker.untrack(living);
+            }
+        }
+    }
+
+    /**
+     * Move a tracked entity which entered another section of a server level.
+     *
+     * @param entity     the entity.
+     * @param newSection the packed position of the new section.
+     */
+    public static void onEntityEnterSection(final Entity entity, final long newSection)
+    {
+        if (entity instanceof LivingEntity living && !entity.level.isClientSide())
+        {
+            final CombatTargetTracker tracker = TRACKERS.get(entity.level);
+            if (tracker != null && tracker.entitySections.containsKey(living))
+            {
+                tracker.move(living, newSection);
+            }
+        }
+    }
+
+    /**
+     * Get the living entities whose bounding box intersects the given area, like {@link Level#getEntitiesOfClass(Class, AABB)}.
+     *
+     * @param area the area to search.
+     * @return a new list of the entities.
+     */
+    public List<LivingEntity> getEntities(final AABB area)
+    {
+        final int minX = SectionPos.posToSectionCoord(area.minX - SECTION_MARGIN);
+        final int minY = SectionPos.posToSectionCoord(area.minY - SECTION_MARGIN);
+        final int minZ = SectionPos.posToSectionCoord(area.minZ - SECTION_MARGIN);
+        final int maxX = SectionPos.posToSectionCoord(area.maxX + SECTION_MARGIN);
+        final int maxY = SectionPos.posToSectionCoord(area.maxY + SECTION_MARGIN);
+        final int maxZ = SectionPos.posToSectionCoord(area.maxZ + SECTION_MARGIN);
+
+        final List<LivingEntity> result = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    final List<LivingEntity> entities = sections.get(SectionPos.asLong(x, y, z));
+                    if (entities == null)
+                    {
+                        continue;
+                    }
+
+                    for (final LivingEntity entity : entities)
+                    {
+                        if (!entity.isRemoved() && entity.getBoundingBox().intersects(area))
+                        {
+                            result.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if two entities can see each other. The eye to eye ray is the same both ways, so one check serves both entities for the rest of the tick.
+     *
+     * @param observer the entity looking.
+     * @param target   the entity looked at.
+     * @return true if there is a line of sight.
+     */
+    public boolean hasLineOfSight(final LivingEntity observer, final Entity target)
+    {
+        final long key = observer.getId() < target.getId() ? pair(observer.getId(), target.getId()) : pair(target.getId(), observer.getId());
+        if (lineOfSight.containsKey(key))
+        {
+            return lineOfSight.get(key);
+        }
+
+        final boolean canSee = observer.hasLineOfSight(target);
+        lineOfSight.put(key, canSee);
+        return canSee;
+    }
+
+    /**
+     * Store an entity in the bucket of a section, taking it out of its previous bucket.
+     *
+     * @param entity  the entity.
+     * @param section the packed section position.
+     */
+    private void move(final LivingEntity entity, final long section)
+    {
+        untrack(entity);
+        sections.computeIfAbsent(section, key -> new ArrayList<>()).add(entity);
+        entitySections.put(entity, section);
+    }
+
+    /**
+     * Take an entity out of the hash.
+     *
+     * @param entity the entity.
+     */
+    private void untrack(final LivingEntity entity)
+    {
+        if (!entitySections.containsKey(entity))
+        {
+            return;
+        }
+
+        final long section = entitySections.removeLong(entity);
+        final List<LivingEntity> entities = sections.get(section);
+        if (entities != null && entities.remove(entity) && entities.isEmpty())
+        {
+            sections.remove(section);
+        }
+    }
+
+    /**
+     * Combine two entity ids into one key.
+     *
+     * @param first  the lower id.
+     * @param second the higher id.
+     * @return the key.
+     */
+    private static long pair(final int first, final int second)
+    {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+}
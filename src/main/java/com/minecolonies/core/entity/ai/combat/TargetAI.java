@@ -138,7 +138,8 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final CombatTargetTracker tracker = CombatTargetTracker.get(user.level);
+        final List<LivingEntity> entities = tracker.getEntities(getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -158,7 +159,7 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
                 return false;
             }
 
-            if (isEntityValidTarget(entity) && user.getSensing().hasLineOfSight(entity))
+            if (isEntityValidTarget(entity) && tracker.hasLineOfSight(user, entity))
             {
                 user.getThreatTable().addThreat(entity, 0);
                 foundTarget = true;
@@ -296,7 +296,7 @@ public class EntityAIMournCitizen implements IStateAI
         if (this.graveyard == null)
         {
             final IBuilding graveyardBuilding =
-              citizen.getCitizenColonyHandler().getColonyOrRegister().getBuildingManager().getFirstBuildingMatching(b -> b instanceof BuildingGraveyard && b.getFirstModuleOccurance(
+              citizen.getCitizenColonyHandler().getColonyOrRegister().getBuildingManager().getFirstBuildingMatching(BuildingGraveyard.class, b -> b.getFirstModuleOccurance(
                 GraveyardManagementModule.class).hasRestingCitizen(citizen.getCitizenData().getCitizenMournHandler().getDeceasedCitizens()));
             if (graveyardBuilding != null)
             {
@@ -1,6 +1,7 @@
 package com.minecolonies.core.entity.ai.workers;
 
 import com.minecolonies.api.entity.ai.workers.util.IBuilderUndestroyable;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -36,6 +37,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.BLOCK_BREAK_S
  */
 public abstract class AbstractEntityAIInteract<J extends AbstractJob<?, J>, B extends AbstractBuilding> extends AbstractEntityAISkill<J, B>
 {
+    /**
+     * Handle of the {@code BLOCK_BREAK_SPEED} research effect.
+     */
+    private static final int BLOCK_BREAK_SPEED_EFFECT = ResearchEffectHandles.getHandle(BLOCK_BREAK_SPEED);
+
     /**
      * Working render meta.
      */
@@ -334,7 +340,7 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob<?, J>, B ex
      */
     private int calculateWorkerMiningDelay(@NotNull final BlockState state, @NotNull final BlockPos pos)
     {
-        final double reduction = 1 - worker.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_BREAK_SPEED);
+        final double reduction = 1 - worker.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_BREAK_SPEED_EFFECT);
 
         return (int) (((BLOCK_MINING_DELAY * Math.pow(LEVEL_MODIFIER, getBreakSpeedLevel() / 2.0))
                          * (double) world.getBlockState(pos).getDestroySpeed(world, pos) / (double) (worker.getMainHandItem()
@@ -518,7 +524,7 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob<?, J>, B ex
     {
         if (pos == null || pos == worker.blockPosition())
         {
-            return worker.getNavigation().moveToRandomPos(range, 1.0D);
+            return worker.getNavigation().moveToRandomPos(range, 1.0D, null);
         }
         else
         {
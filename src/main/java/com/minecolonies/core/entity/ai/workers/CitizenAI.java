@@ -11,6 +11,7 @@ import com.minecolonies.api.entity.ai.statemachine.states.CitizenAIState;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenColonyHandler;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.MathUtils;
 import com.minecolonies.api.util.WorldUtil;
@@ -43,6 +44,11 @@ import static com.minecolonies.core.entity.citizen.citizenhandlers.CitizenDiseas
  */
 public class CitizenAI implements IStateAI
 {
+    /**
+     * Handle of the {@code WORKING_IN_RAIN} research effect.
+     */
+    private static final int WORKING_IN_RAIN_EFFECT = ResearchEffectHandles.getHandle(WORKING_IN_RAIN);
+
     /**
      * Citizen this AI belongs to
      */
@@ -302,7 +308,7 @@ public class CitizenAI implements IStateAI
         }
 
         final ICitizenColonyHandler colonyHandler = citizen.getCitizenColonyHandler();
-        if (colonyHandler.getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN) > 0)
+        if (colonyHandler.getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN_EFFECT) > 0)
         {
             return true;
         }
@@ -17,6 +17,7 @@ import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.Skill;
 import com.minecolonies.api.equipment.registry.EquipmentTypeEntry;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.DamageSourceKeys;
 import com.minecolonies.api.util.InventoryUtils;
@@ -59,6 +60,11 @@ import static com.minecolonies.core.colony.buildings.AbstractBuildingGuards.HOST
  */
 public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B extends AbstractBuildingGuards> extends AbstractEntityAIFight<J, B>
 {
+    /**
+     * Handle of the {@code FLEEING_SPEED} research effect.
+     */
+    private static final int FLEEING_SPEED_EFFECT = ResearchEffectHandles.getHandle(FLEEING_SPEED);
+
     /**
      * Entities to kill before dumping into chest.
      */
@@ -395,7 +401,7 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
     {
         if (!worker.hasEffect(MobEffects.MOVEMENT_SPEED))
         {
-            final double effect = worker.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_SPEED);
+            final double effect = worker.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_SPEED_EFFECT);
             if (effect > 0)
             {
                 worker.addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SPEED, 200, (int) (0 + effect)));
@@ -17,6 +17,7 @@ import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import com.minecolonies.core.colony.jobs.JobDruid;
 import com.minecolonies.core.entity.other.DruidPotionEntity;
 import com.minecolonies.core.entity.ai.combat.AttackMoveAI;
+import com.minecolonies.core.entity.ai.combat.CombatTargetTracker;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
 import com.minecolonies.core.entity.pathfinding.navigation.MinecoloniesAdvancedPathNavigate;
 import com.minecolonies.core.entity.pathfinding.pathjobs.*;
@@ -250,7 +251,8 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final CombatTargetTracker tracker = CombatTargetTracker.get(user.level);
+        final List<LivingEntity> entities = tracker.getEntities(getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -273,7 +275,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
 
             if (isEntityValidTarget(entity))
             {
-                if (user.hasLineOfSight(entity))
+                if (tracker.hasLineOfSight(user, entity))
                 {
                     user.getThreatTable().addThreat(entity, 0);
                     foundTarget = true;
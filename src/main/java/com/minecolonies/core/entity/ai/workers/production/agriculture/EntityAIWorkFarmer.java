@@ -274,6 +274,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
                 return FARMER_HOE;
             }
             farmField.nextState();
+            building.getColony().getBuildingManager().markFieldsDirty();
         }
         return PREPARING;
     }
@@ -346,6 +347,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
         seeds.setCount(seeds.getMaxStackSize());
         checkIfRequestForItemExistOrCreateAsync(seeds, seeds.getMaxStackSize(), 1);
         farmField.nextState();
+        building.getColony().getBuildingManager().markFieldsDirty();
         return PREPARING;
     }
 
@@ -562,6 +564,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
             {
                 shouldDumpInventory = true;
                 farmField.nextState();
+                building.getColony().getBuildingManager().markFieldsDirty();
                 prevPos = null;
                 return IDLE;
             }
@@ -510,7 +510,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
             }
         }
 
-        if (nextPickUp == null || parallelDeliveryCount > 1 + (getSecondarySkillLevel() / 5))
+        if (nextPickUp == null || parallelDeliveryCount > job.getDeliveryCapacity())
         {
             return DELIVERY;
         }
@@ -32,6 +32,7 @@ import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.inventory.container.ContainerCitizenInventory;
 import com.minecolonies.api.items.ModItems;
 import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import com.minecolonies.api.sounds.EventType;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.MessageUtils.MessagePriority;
@@ -134,6 +135,16 @@ import static com.minecolonies.core.entity.ai.minimal.EntityAIInteractToggleAble
 @SuppressWarnings({"PMD.ExcessiveImports", "PMD.CouplingBetweenObjects", "PMD.ExcessiveClassLength"})
 public class EntityCitizen extends AbstractEntityCitizen implements IThreatTableEntity
 {
+    /**
+     * Handle of the {@code SATLIMIT} research effect.
+     */
+    private static final int SATLIMIT_EFFECT = ResearchEffectHandles.getHandle(SATLIMIT);
+
+    /**
+     * Handle of the {@code REGENERATION} research effect.
+     */
+    private static final int REGENERATION_EFFECT = ResearchEffectHandles.getHandle(REGENERATION);
+
     /**
      * Cooldown for calling help, in ticks.
      */
@@ -895,12 +906,12 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (getCitizenData() != null && getHealth() < (getCitizenData().getCitizenDiseaseHandler().isSick() ? getMaxHealth() / 3 : getMaxHealth()) && getLastHurtByMob() == null)
         {
-            final double limitDecrease = getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT);
+            final double limitDecrease = getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT_EFFECT);
 
             final double healAmount;
             if (citizenData.getSaturation() >= FULL_SATURATION + limitDecrease)
             {
-                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT));
             }
             else if (citizenData.getSaturation() < LOW_SATURATION)
             {
@@ -908,7 +919,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             }
             else
             {
-                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT));
             }
 
             heal((float) healAmount);
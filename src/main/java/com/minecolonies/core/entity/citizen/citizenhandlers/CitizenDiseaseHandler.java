@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenDiseaseHandler;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingCook;
 import com.minecolonies.core.colony.jobs.AbstractJobGuard;
@@ -30,6 +31,11 @@ import static com.minecolonies.api.util.constant.StatisticsConstants.CITIZENS_HE
  */
 public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
 {
+    /**
+     * Handle of the {@code MASKS} research effect.
+     */
+    private static final int MASKS_EFFECT = ResearchEffectHandles.getHandle(MASKS);
+
     /**
      * Health at which citizens seek a doctor.
      */
@@ -105,6 +111,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
             if (citizenData.getRandom().nextInt(configModifier * DISEASE_FACTOR) < citizenModifier * 10)
             {
                 this.disease = DiseasesListener.getRandomDisease(citizenData.getEntity().map(AbstractEntityCitizen::getRandom).orElse(RandomSource.create()));
+                onSicknessChanged();
             }
         }
 
@@ -120,11 +127,20 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
         if (canBecomeSick())
         {
             this.disease = disease;
+            onSicknessChanged();
             return true;
         }
         return false;
     }
 
+    /**
+     * Informs the colony about the changed sickness, which counts into the colony wide happiness.
+     */
+    private void onSicknessChanged()
+    {
+        citizenData.getColony().getCitizenManager().onHappinessFactorChanged(citizenData);
+    }
+
     /**
      * Check if the citizen may become sick.
      *
@@ -147,9 +163,10 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
               && canBecomeSick()
               && citizen.getRandom().nextInt(ONE_HUNDRED_PERCENT) < 1)
         {
-            if (citizen.getColony().getResearchManager().getResearchEffects().getEffectStrength(MASKS) <= 0 || citizen.getRandom().nextBoolean())
+            if (citizen.getColony().getResearchManager().getResearchEffects().getEffectStrength(MASKS_EFFECT) <= 0 || citizen.getRandom().nextBoolean())
             {
                 this.disease = citizen.getCitizenDiseaseHandler().getDisease();
+                onSicknessChanged();
             }
         }
     }
@@ -207,6 +224,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
     {
         this.disease = null;
         sleepsAtHospital = false;
+        onSicknessChanged();
         if (citizenData.isAsleep() && citizenData.getEntity().isPresent())
         {
             citizenData.getEntity().get().stopSleeping();
@@ -7,9 +7,9 @@ import com.minecolonies.api.colony.interactionhandling.InteractionValidatorRegis
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenFoodHandler;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenHappinessHandler;
 import com.minecolonies.api.entity.citizen.happiness.*;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.core.colony.interactionhandling.StandardInteraction;
-import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -32,6 +32,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.NO;
  */
 public class CitizenHappinessHandler implements ICitizenHappinessHandler
 {
+    /**
+     * Handle of the {@code HAPPINESS} research effect.
+     */
+    private static final int HAPPINESS_EFFECT = ResearchEffectHandles.getHandle(HAPPINESS);
+
     /**
      * The different happiness factor.
      */
@@ -149,7 +154,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 totalWeight += happinessModifier.getWeight();
             }
 
-            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS_EFFECT));
 
             cachedHappiness = Math.min(10.0 * happinessResult, 10);
         }
@@ -213,36 +218,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     public static double getSocialModifier(final IColony colony)
     {
-        final double total = colony.getCitizenManager().getCitizens().size();
-        double unemployment = 0;
-        double homelessness = 0;
-        double sickPeople = 0;
-        double hungryPeople = 0;
-
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (!citizen.isChild() && citizen.getJob() == null)
-            {
-                unemployment++;
-            }
-
-            if (citizen.getHomeBuilding() == null)
-            {
-                homelessness++;
-            }
-
-            if (citizen.getEntity().isPresent() && citizen.getCitizenDiseaseHandler().isSick())
-            {
-                sickPeople++;
-            }
-
-            if (citizen.getSaturation() <= 1)
-            {
-                hungryPeople++;
-            }
-        }
-
-        return (total - (unemployment + homelessness + sickPeople + hungryPeople)) / total;
+        return colony.getCitizenManager().getSocialFactor();
     }
 
     /**
@@ -253,20 +229,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     public static double getGuardFactor(final IColony colony)
     {
-        double guards = 1;
-        double workers = 1;
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (citizen.getJob() instanceof AbstractJobGuard)
-            {
-                guards++;
-            }
-            else
-            {
-                workers++;
-            }
-        }
-        return Math.min(guards / (workers * 2 / 3), 2);
+        return colony.getCitizenManager().getGuardFactor();
     }
 
     /**
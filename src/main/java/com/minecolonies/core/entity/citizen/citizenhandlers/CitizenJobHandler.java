@@ -108,10 +108,7 @@ public class CitizenJobHandler implements ICitizenJobHandler
             if (job instanceof AbstractJobGuard)
             {
                 IColony colony = citizen.getCitizenColonyHandler().getColonyOrRegister();
-                int guards = ((int) colony.getCitizenManager().getCitizens()
-                  .stream()
-                  .filter(citizen -> citizen.getJob() instanceof AbstractJobGuard)
-                  .count());
+                int guards = colony.getCitizenManager().getCitizensWithJob(AbstractJobGuard.class).size();
                 AdvancementUtils.TriggerAdvancementPlayersForColony(citizen.getCitizenColonyHandler().getColonyOrRegister(),
                   player -> AdvancementTriggers.ARMY_POPULATION.trigger(player, guards));
             }
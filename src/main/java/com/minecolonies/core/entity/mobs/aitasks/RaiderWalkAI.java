@@ -15,6 +15,7 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
 import com.minecolonies.core.colony.events.raid.HordeRaidEvent;
 import com.minecolonies.core.colony.events.raid.pirateEvent.ShipBasedRaiderUtils;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import net.minecraft.core.BlockPos;
 
@@ -155,7 +156,7 @@ public class RaiderWalkAI implements IStateAI
                   && building.getBuildingLevel() > 0
                   && !building.getCorners().getA().equals(building.getCorners().getB()))
             {
-                randomPathResult = raider.getNavigation().moveToRandomPos(10, 0.9, building.getCorners());
+                randomPathResult = raider.getNavigation().moveToRandomPos(10, 0.9, building.getCorners(), PathJobPriority.COMBAT);
                 if (randomPathResult != null)
                 {
                     randomPathResult.getJob().getPathingOptions().withCanEnterDoors(true).withToggleCost(0).withNonLadderClimbableCost(0);
@@ -78,6 +78,11 @@ public class MNode implements Comparable<MNode>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Slot of the node in the open {@link MNodeHeap}, -1 when not queued.
+     */
+    int heapIndex = -1;
+
     /**
      * Create a Node that inherits from a parent, and has a Cost and Heuristic estimate.
      *
@@ -0,0 +1,260 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Indexed binary min-heap of open pathfinding nodes.
+ * <p>
+ * Every node remembers its slot in the heap, which makes removal and re-scoring of a queued node O(log n) instead of the linear scan of
+ * {@link java.util.PriorityQueue#remove(Object)}. The sift operations deliberately mirror the ones of {@link java.util.PriorityQueue}, so the element layout (and with it
+ * the iteration order used for heuristic sampling) stays exactly the same as before.
+ */
+public class MNodeHeap
+{
+    /**
+     * Initial capacity of the backing array.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Default ordering: score, then heuristic, then insertion order.
+     */
+    private static final Comparator<MNode> NATURAL_ORDER = MNode::compareTo;
+
+    /**
+     * Heap backing array.
+     */
+    private MNode[] queue = new MNode[INITIAL_CAPACITY];
+
+    /**
+     * Amount of queued nodes.
+     */
+    private int size = 0;
+
+    /**
+     * Current ordering.
+     */
+    private Comparator<MNode> comparator = NATURAL_ORDER;
+
+    /**
+     * Adds a node to the heap.
+     *
+     * @param node the node to add.
+     */
+    public void offer(@NotNull final MNode node)
+    {
+        final int i = size;
+        if (i >= queue.length)
+        {
+            queue = Arrays.copyOf(queue, queue.length * 2);
+        }
+        siftUp(i, node);
+        size = i + 1;
+    }
+
+    /**
+     * Removes and returns the lowest node.
+     *
+     * @return the lowest node, or null if empty.
+     */
+    public MNode poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final MNode result = queue[0];
+        final int n = --size;
+        final MNode last = queue[n];
+        queue[n] = null;
+        if (n > 0)
+        {
+            siftDown(0, last, n);
+        }
+        result.heapIndex = -1;
+        return result;
+    }
+
+    /**
+     * Removes the given node if it is queued.
+     *
+     * @param node the node to remove.
+     * @return true if it was queued.
+     */
+    public boolean remove(@NotNull final MNode node)
+    {
+        final int i = node.heapIndex;
+        if (i < 0 || i >= size || queue[i] != node)
+        {
+            return false;
+        }
+
+        final int s = --size;
+        if (s == i)
+        {
+            queue[i] = null;
+        }
+        else
+        {
+            final MNode moved = queue[s];
+            queue[s] = null;
+            siftDown(i, moved, s);
+            if (queue[i] == moved)
+            {
+                siftUp(i, moved);
+            }
+        }
+        node.heapIndex = -1;
+        return true;
+    }
+
+    /**
+     * Re-inserts a queued node after its cost or heuristic changed, or inserts it if it was not queued.
+     *
+     * @param node the updated node.
+     */
+    public void update(@NotNull final MNode node)
+    {
+        remove(node);
+        offer(node);
+    }
+
+    /**
+     * Restores the heap order after the keys of queued nodes were modified in place, re-inserting the nodes in their current order.
+     */
+    public void rebuild()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            siftUp(i, queue[i]);
+        }
+    }
+
+    /**
+     * Changes the ordering of the heap and rebuilds it.
+     *
+     * @param comparator the new ordering.
+     */
+    public void reorder(@NotNull final Comparator<MNode> comparator)
+    {
+        this.comparator = comparator;
+        rebuild();
+    }
+
+    /**
+     * Get the queued node at the given heap slot, slots are in heap order.
+     *
+     * @param index the slot.
+     * @return the node.
+     */
+    public MNode get(final int index)
+    {
+        return queue[index];
+    }
+
+    /**
+     * Amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if there are no nodes queued.
+     *
+     * @return true if empty.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Removes all nodes and restores the default ordering, keeps the allocated capacity.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            queue[i].heapIndex = -1;
+            queue[i] = null;
+        }
+        size = 0;
+        comparator = NATURAL_ORDER;
+    }
+
+    /**
+     * Shrinks the backing array back to its initial capacity if it grew beyond the given limit.
+     *
+     * @param maxCapacity the capacity to keep at most.
+     */
+    public void trim(final int maxCapacity)
+    {
+        if (size == 0 && queue.length > maxCapacity)
+        {
+            queue = new MNode[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Moves the node up from the given slot until its parent is smaller.
+     *
+     * @param k    the start slot.
+     * @param node the node to place.
+     */
+    private void siftUp(int k, final MNode node)
+    {
+        while (k > 0)
+        {
+            final int parent = (k - 1) >>> 1;
+            final MNode e = queue[parent];
+            if (comparator.compare(node, e) >= 0)
+            {
+                break;
+            }
+            queue[k] = e;
+            e.heapIndex = k;
+            k = parent;
+        }
+        queue[k] = node;
+        node.heapIndex = k;
+    }
+
+    /**
+     * Moves the node down from the given slot until its children are larger.
+     *
+     * @param k    the start slot.
+     * @param node the node to place.
+     * @param n    the heap size.
+     */
+    private void siftDown(int k, final MNode node, final int n)
+    {
+        final int half = n >>> 1;
+        while (k < half)
+        {
+            int child = (k << 1) + 1;
+            MNode c = queue[child];
+            final int right = child + 1;
+            if (right < n && comparator.compare(c, queue[right]) > 0)
+            {
+                c = queue[child = right];
+            }
+            if (comparator.compare(node, c) <= 0)
+            {
+                break;
+            }
+            queue[k] = c;
+            c.heapIndex = k;
+            k = child;
+        }
+        queue[k] = node;
+        node.heapIndex = k;
+    }
+}
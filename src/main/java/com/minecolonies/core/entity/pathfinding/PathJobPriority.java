@@ -0,0 +1,27 @@
+package com.minecolonies.core.entity.pathfinding;
+
+/**
+ * Scheduling classes of path jobs, in the order the pathfinding threads serve them.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Guards, mercenaries and raiders fighting.
+     */
+    COMBAT,
+
+    /**
+     * Couriers delivering requests.
+     */
+    DELIVERY,
+
+    /**
+     * Regular work and navigation.
+     */
+    WORK,
+
+    /**
+     * Wandering around without a goal.
+     */
+    IDLE
+}
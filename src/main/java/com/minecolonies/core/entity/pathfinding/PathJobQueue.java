@@ -0,0 +1,672 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.core.entity.pathfinding.PathfindingExecutor.PathJobTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Work queue of the pathfinding threads. Jobs are served by {@link PathJobPriority}, and round robin between colonies within a priority so a single big colony can not starve
+ * the others. A new job of an entity replaces its still pending job of the same kind, and jobs waiting longer than {@link #MAX_WAIT_NANOS} are served before higher priorities.
+ */
+public final class PathJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable>
+{
+    /**
+     * Wait time after which a job is served regardless of its priority.
+     */
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    /**
+     * Max amount of pending jobs.
+     */
+    private final int capacity;
+
+    /**
+     * Lock guarding all queue state.
+     */
+    private final ReentrantLock lock     = new ReentrantLock();
+    private final Condition     notEmpty = lock.newCondition();
+
+    /**
+     * Queues by priority.
+     */
+    private final EnumMap<PathJobPriority, ClassQueue> queues = new EnumMap<>(PathJobPriority.class);
+
+    /**
+     * Pending task by replace key, for replacing outdated jobs.
+     */
+    private final Map<Object, PathJobTask<?>> pendingByKey = new HashMap<>();
+
+    /**
+     * Total amount of pending tasks.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity the max amount of pending jobs.
+     */
+    public PathJobQueue(final int capacity)
+    {
+        this.capacity = capacity;
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            queues.put(priority, new ClassQueue());
+        }
+    }
+
+    @Override
+    public boolean offer(@NotNull final Runnable runnable)
+    {
+        final PathJobPriority priority = runnable instanceof PathJobTask<?> task ? task.getPriority() : PathJobPriority.WORK;
+        final ClassQueue queue = queues.get(priority);
+
+        lock.lock();
+        try
+        {
+            if (runnable instanceof PathJobTask<?> task && task.getReplaceKey() != null && task.isResumed())
+            {
+                // A job continuing after its slice never replaces a newer one
+                pendingByKey.putIfAbsent(task.getReplaceKey(), task);
+            }
+            else if (runnable instanceof PathJobTask<?> task && task.getReplaceKey() != null)
+            {
+                final PathJobTask<?> outdated = pendingByKey.put(task.getReplaceKey(), task);
+                if (outdated != null && removeInternal(outdated))
+                {
+                    outdated.cancel(false);
+                    queues.get(outdated.getPriority()).replaced.increment();
+                }
+            }
+
+            if (size >= capacity && !dropIdle(priority))
+            {
+                forgetPending(runnable);
+                return false;
+            }
+
+            queue.add(runnable, getColonyId(runnable));
+            size++;
+            notEmpty.signal();
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the longest waiting idle job to make space for a more important one.
+     *
+     * @param priority the priority of the new job.
+     * @return true if space was made.
+     */
+    private boolean dropIdle(final PathJobPriority priority)
+    {
+        final ClassQueue idle = queues.get(PathJobPriority.IDLE);
+        if (priority == PathJobPriority.IDLE || idle.size == 0)
+        {
+            return false;
+        }
+
+        final Runnable dropped = idle.poll();
+        size--;
+        forgetPending(dropped);
+        if (dropped instanceof PathJobTask<?> task)
+        {
+            task.cancel(false);
+        }
+        idle.dropped.increment();
+        return true;
+    }
+
+    @Override
+    public void put(@NotNull final Runnable runnable)
+    {
+        offer(runnable);
+    }
+
+    @Override
+    public boolean offer(final Runnable runnable, final long timeout, @NotNull final TimeUnit unit)
+    {
+        return offer(runnable);
+    }
+
+    @Override
+    public Runnable poll()
+    {
+        lock.lock();
+        try
+        {
+            return dequeue();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Runnable take() throws InterruptedException
+    {
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable next;
+            while ((next = dequeue()) == null)
+            {
+                notEmpty.await();
+            }
+            return next;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable next;
+            while ((next = dequeue()) == null)
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return next;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next job to run, skipping cancelled ones. Must hold the lock.
+     *
+     * @return the job or null if none is pending.
+     */
+    private Runnable dequeue()
+    {
+        while (size > 0)
+        {
+            final ClassQueue queue = selectQueue();
+            final Runnable next = queue.poll();
+            size--;
+            forgetPending(next);
+
+            if (next instanceof PathJobTask<?> task)
+            {
+                if (task.isCancelled())
+                {
+                    continue;
+                }
+                queue.waitTime.record(System.nanoTime() - task.getEnqueuedAt());
+            }
+            return next;
+        }
+        return null;
+    }
+
+    /**
+     * Selects the queue to serve next: a queue whose oldest job waited too long, otherwise the highest priority with pending jobs. Must hold the lock.
+     *
+     * @return the queue, never empty.
+     */
+    private ClassQueue selectQueue()
+    {
+        final long now = System.nanoTime();
+        ClassQueue first = null;
+        for (final ClassQueue queue : queues.values())
+        {
+            if (queue.size == 0)
+            {
+                continue;
+            }
+
+            if (first == null)
+            {
+                first = queue;
+            }
+            else if (now - queue.getOldestEnqueuedAt(now) > MAX_WAIT_NANOS)
+            {
+                return queue;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Removes the replace mapping of a task leaving the queue. Must hold the lock.
+     *
+     * @param runnable the task.
+     */
+    private void forgetPending(final Runnable runnable)
+    {
+        if (runnable instanceof PathJobTask<?> task && task.getReplaceKey() != null)
+        {
+            pendingByKey.remove(task.getReplaceKey(), task);
+        }
+    }
+
+    /**
+     * Removes the given task. Must hold the lock.
+     *
+     * @param runnable the task.
+     * @return true if it was pending.
+     */
+    private boolean removeInternal(final Runnable runnable)
+    {
+        final PathJobPriority priority = runnable instanceof PathJobTask<?> task ? task.getPriority() : PathJobPriority.WORK;
+        if (queues.get(priority).remove(runnable, getColonyId(runnable)))
+        {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        if (!(o instanceof Runnable runnable))
+        {
+            return false;
+        }
+
+        lock.lock();
+        try
+        {
+            if (removeInternal(runnable))
+            {
+                forgetPending(runnable);
+                return true;
+            }
+            return false;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek()
+    {
+        lock.lock();
+        try
+        {
+            return size == 0 ? null : selectQueue().peek();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        lock.lock();
+        try
+        {
+            return size;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        return capacity - size();
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection)
+    {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection, final int maxElements)
+    {
+        lock.lock();
+        try
+        {
+            int drained = 0;
+            Runnable next;
+            while (drained < maxElements && (next = dequeue()) != null)
+            {
+                collection.add(next);
+                drained++;
+            }
+            return drained;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        lock.lock();
+        try
+        {
+            for (final ClassQueue queue : queues.values())
+            {
+                queue.clear();
+            }
+            pendingByKey.clear();
+            size = 0;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Runnable> iterator()
+    {
+        final List<Runnable> snapshot = new ArrayList<>();
+        lock.lock();
+        try
+        {
+            for (final ClassQueue queue : queues.values())
+            {
+                queue.addAllTo(snapshot);
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        final Iterator<Runnable> iterator = snapshot.iterator();
+        return new Iterator<>()
+        {
+            private Runnable last = null;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Runnable next()
+            {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove()
+            {
+                PathJobQueue.this.remove(last);
+            }
+        };
+    }
+
+    /**
+     * Records the run time of a job slice.
+     *
+     * @param priority the priority of the job.
+     * @param nanos    the run time.
+     */
+    public void recordRunTime(final PathJobPriority priority, final long nanos)
+    {
+        queues.get(priority).runTime.record(nanos);
+    }
+
+    /**
+     * Get the amount of pending jobs of the priority.
+     *
+     * @param priority the priority.
+     * @return the queue depth.
+     */
+    public int getDepth(final PathJobPriority priority)
+    {
+        lock.lock();
+        try
+        {
+            return queues.get(priority).size;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the wait time histogram of the priority.
+     *
+     * @param priority the priority.
+     * @return the histogram.
+     */
+    public TimeHistogram getWaitTime(final PathJobPriority priority)
+    {
+        return queues.get(priority).waitTime;
+    }
+
+    /**
+     * Get the run time histogram of the priority.
+     *
+     * @param priority the priority.
+     * @return the histogram.
+     */
+    public TimeHistogram getRunTime(final PathJobPriority priority)
+    {
+        return queues.get(priority).runTime;
+    }
+
+    /**
+     * Amount of pending jobs replaced by a newer job of the same entity.
+     *
+     * @param priority the priority.
+     * @return the count.
+     */
+    public long getReplaced(final PathJobPriority priority)
+    {
+        return queues.get(priority).replaced.sum();
+    }
+
+    /**
+     * Amount of jobs dropped because the queue was full.
+     *
+     * @param priority the priority.
+     * @return the count.
+     */
+    public long getDropped(final PathJobPriority priority)
+    {
+        return queues.get(priority).dropped.sum();
+    }
+
+    /**
+     * Get the colony bucket of the task.
+     *
+     * @param runnable the task.
+     * @return the colony id, 0 for jobs without colony.
+     */
+    private static int getColonyId(final Runnable runnable)
+    {
+        return runnable instanceof PathJobTask<?> task ? task.getColonyId() : 0;
+    }
+
+    /**
+     * Jobs of a single priority, with one fifo per colony served round robin.
+     */
+    private static final class ClassQueue
+    {
+        /**
+         * Pending jobs by colony.
+         */
+        private final Map<Integer, ArrayDeque<Runnable>> byColony = new HashMap<>();
+
+        /**
+         * Colonies with pending jobs, in serving order.
+         */
+        private final ArrayDeque<Integer> rotation = new ArrayDeque<>();
+
+        /**
+         * Amount of pending jobs.
+         */
+        private int size = 0;
+
+        /**
+         * Statistics.
+         */
+        private final TimeHistogram waitTime = new TimeHistogram();
+        private final TimeHistogram runTime  = new TimeHistogram();
+        private final LongAdder     replaced = new LongAdder();
+        private final LongAdder     dropped  = new LongAdder();
+
+        private void add(final Runnable runnable, final int colonyId)
+        {
+            final ArrayDeque<Runnable> colonyQueue = byColony.computeIfAbsent(colonyId, id -> new ArrayDeque<>());
+            if (colonyQueue.isEmpty())
+            {
+                rotation.add(colonyId);
+            }
+            colonyQueue.add(runnable);
+            size++;
+        }
+
+        private Runnable poll()
+        {
+            final int colonyId = rotation.poll();
+            final ArrayDeque<Runnable> colonyQueue = byColony.get(colonyId);
+            final Runnable next = colonyQueue.poll();
+            if (colonyQueue.isEmpty())
+            {
+                byColony.remove(colonyId);
+            }
+            else
+            {
+                rotation.add(colonyId);
+            }
+            size--;
+            return next;
+        }
+
+        private Runnable peek()
+        {
+            return byColony.get(rotation.peek()).peek();
+        }
+
+        private boolean remove(final Runnable runnable, final int colonyId)
+        {
+            final ArrayDeque<Runnable> colonyQueue = byColony.get(colonyId);
+            if (colonyQueue == null || !colonyQueue.remove(runnable))
+            {
+                return false;
+            }
+
+            if (colonyQueue.isEmpty())
+            {
+                byColony.remove(colonyId);
+                rotation.remove(colonyId);
+            }
+            size--;
+            return true;
+        }
+
+        private long getOldestEnqueuedAt(final long now)
+        {
+            long oldest = now;
+            for (final ArrayDeque<Runnable> colonyQueue : byColony.values())
+            {
+                if (colonyQueue.peek() instanceof PathJobTask<?> task)
+                {
+                    oldest = Math.min(oldest, task.getEnqueuedAt());
+                }
+            }
+            return oldest;
+        }
+
+        private void addAllTo(final List<Runnable> list)
+        {
+            for (final ArrayDeque<Runnable> colonyQueue : byColony.values())
+            {
+                list.addAll(colonyQueue);
+            }
+        }
+
+        private void clear()
+        {
+            byColony.clear();
+            rotation.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * Histogram of durations in fixed millisecond buckets.
+     */
+    public static final class TimeHistogram
+    {
+        /**
+         * Upper bounds of the buckets in milliseconds, the last bucket is unbounded.
+         */
+        private static final long[] BUCKET_LIMITS_MS = {1, 5, 20, 100, 500};
+
+        /**
+         * Counts by bucket.
+         */
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_LIMITS_MS.length + 1);
+
+        /**
+         * Record a duration.
+         *
+         * @param nanos the duration.
+         */
+        public void record(final long nanos)
+        {
+            final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (bucket < BUCKET_LIMITS_MS.length && millis >= BUCKET_LIMITS_MS[bucket])
+            {
+                bucket++;
+            }
+            counts.incrementAndGet(bucket);
+        }
+
+        @Override
+        public String toString()
+        {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i <= BUCKET_LIMITS_MS.length; i++)
+            {
+                if (i > 0)
+                {
+                    builder.append(' ');
+                }
+                builder.append(i < BUCKET_LIMITS_MS.length ? "<" + BUCKET_LIMITS_MS[i] + "ms:" : ">=" + BUCKET_LIMITS_MS[i - 1] + "ms:").append(counts.get(i));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+import java.util.ArrayDeque;
+
+/**
+ * Open and closed node storage of a path search, pooled per pathfinding thread so consecutive jobs reuse the already grown heap and map tables.
+ */
+public final class PathNodeStore
+{
+    /**
+     * Capacity above which the structures are shrunk again when released, avoids pinning the memory of a single huge search.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * Max free stores kept per thread, resumed searches may release their store on another thread than they acquired it on.
+     */
+    private static final int MAX_POOLED = 4;
+
+    /**
+     * Free stores of the current thread, a stack as path jobs may run nested searches.
+     */
+    private static final ThreadLocal<ArrayDeque<PathNodeStore>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Queue of all open nodes.
+     */
+    public final MNodeHeap openNodes = new MNodeHeap();
+
+    /**
+     * All nodes created by the search, by node key.
+     */
+    public final Int2ObjectOpenHashMap<MNode> nodes = new Int2ObjectOpenHashMap<>();
+
+    private PathNodeStore()
+    {
+        // Use acquire.
+    }
+
+    /**
+     * Get an empty store for the current thread.
+     *
+     * @return the store, must be given back with {@link #release()}.
+     */
+    public static PathNodeStore acquire()
+    {
+        final PathNodeStore store = POOL.get().poll();
+        return store == null ? new PathNodeStore() : store;
+    }
+
+    /**
+     * Clears the store and returns it to the pool of the current thread.
+     */
+    public void release()
+    {
+        final boolean oversized = nodes.size() > MAX_RETAINED_CAPACITY;
+        openNodes.clear();
+        openNodes.trim(MAX_RETAINED_CAPACITY);
+        nodes.clear();
+        if (oversized)
+        {
+            nodes.trim();
+        }
+        final ArrayDeque<PathNodeStore> pool = POOL.get();
+        if (pool.size() < MAX_POOLED)
+        {
+            pool.push(this);
+        }
+    }
+}
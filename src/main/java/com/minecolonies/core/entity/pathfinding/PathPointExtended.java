@@ -132,6 +132,22 @@ public class PathPointExtended extends Node
         return railsExit;
     }
 
+    /**
+     * Copies the point, without the link to the previous point.
+     *
+     * @return the copy.
+     */
+    public PathPointExtended copy()
+    {
+        final PathPointExtended copy = new PathPointExtended(asBlockPos());
+        copy.onLadder = onLadder;
+        copy.ladderFacing = ladderFacing;
+        copy.onRails = onRails;
+        copy.railsEntry = railsEntry;
+        copy.railsExit = railsExit;
+        return copy;
+    }
+
     @Override
     public boolean equals(final Object o)
     {
@@ -0,0 +1,432 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dimension wide cache of computed paths which reached their destination, used for the routes citizens walk over and over again.
+ * <p>
+ * Entries are keyed by start, destination, entity type and pathing options and get dropped when a block within one block of the path changes, when they time out or when
+ * they are the least recently used entry of a full cache. Only used from the server thread.
+ */
+public final class PathResultCache
+{
+    /**
+     * Max amount of cached paths per dimension.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Ticks a cached path stays valid, allows routes to pick up new shortcuts eventually.
+     */
+    private static final long ENTRY_LIFETIME = 20 * 60 * 5;
+
+    /**
+     * The caches by dimension.
+     */
+    private static final Map<ResourceKey<Level>, PathResultCache> CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * The level of the cached paths.
+     */
+    private final Level level;
+
+    /**
+     * Cached paths in access order.
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Keys of the entries with a path passing through the section, by section position.
+     */
+    private final Long2ObjectOpenHashMap<Set<Key>> keysBySection = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Statistics.
+     */
+    private long hits          = 0;
+    private long misses        = 0;
+    private long invalidations = 0;
+    private long evictions     = 0;
+
+    private PathResultCache(final Level level)
+    {
+        this.level = level;
+    }
+
+    /**
+     * Get the path cache of the given level.
+     *
+     * @param level the level.
+     * @return the cache.
+     */
+    public static PathResultCache get(@NotNull final Level level)
+    {
+        return CACHES.computeIfAbsent(level.dimension(), key -> new PathResultCache(level));
+    }
+
+    /**
+     * Get the path cache of the given level, if one exists.
+     *
+     * @param level the level.
+     * @return the cache or null.
+     */
+    @Nullable
+    public static PathResultCache getIfPresent(@NotNull final Level level)
+    {
+        return CACHES.get(level.dimension());
+    }
+
+    /**
+     * Drops the cache of the given level.
+     *
+     * @param level the level.
+     */
+    public static void remove(@NotNull final Level level)
+    {
+        CACHES.remove(level.dimension());
+    }
+
+    /**
+     * Get all existing caches.
+     *
+     * @return the caches.
+     */
+    public static Collection<PathResultCache> getAll()
+    {
+        return CACHES.values();
+    }
+
+    /**
+     * Create the key for a path.
+     *
+     * @param start       the start position.
+     * @param destination the destination.
+     * @param type        the entity type.
+     * @param options     the pathing options of the entity.
+     * @return the key.
+     */
+    public static Key createKey(@NotNull final BlockPos start, @NotNull final BlockPos destination, @NotNull final EntityType<?> type, @NotNull final PathingOptions options)
+    {
+        return new Key(start.asLong(), destination.asLong(), type, options.getFingerprint());
+    }
+
+    /**
+     * Get a copy of a cached path.
+     *
+     * @param key the key.
+     * @return the path or null if none is cached.
+     */
+    @Nullable
+    public CachedPath get(@NotNull final Key key)
+    {
+        final Entry entry = entries.get(key);
+        if (entry == null)
+        {
+            misses++;
+            return null;
+        }
+
+        if (entry.expiresAt < level.getGameTime())
+        {
+            removeEntry(key, entry);
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return new CachedPath(copyPath(entry.path), entry.costPerDist);
+    }
+
+    /**
+     * Store a computed path which reached its destination.
+     *
+     * @param key         the key.
+     * @param path        the path, is copied.
+     * @param costPerDist the cost per distance of the path.
+     */
+    public void put(@NotNull final Key key, @NotNull final Path path, final double costPerDist)
+    {
+        final Entry old = entries.get(key);
+        if (old != null)
+        {
+            removeEntry(key, old);
+        }
+
+        final Path copy = copyPath(path);
+        final Entry entry = new Entry(copy, costPerDist, level.getGameTime() + ENTRY_LIFETIME, computeSections(copy));
+        entries.put(key, entry);
+        for (final long section : entry.sections)
+        {
+            keysBySection.computeIfAbsent(section, s -> new HashSet<>()).add(key);
+        }
+
+        if (entries.size() > MAX_ENTRIES)
+        {
+            final Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            final Map.Entry<Key, Entry> eldest = iterator.next();
+            iterator.remove();
+            unlinkSections(eldest.getKey(), eldest.getValue());
+            evictions++;
+        }
+    }
+
+    /**
+     * Drops all paths running next to the changed position, called on block changes.
+     *
+     * @param pos the changed position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        final Set<Key> keys = keysBySection.get(SectionPos.asLong(pos));
+        if (keys == null)
+        {
+            return;
+        }
+
+        for (final Key key : new ArrayList<>(keys))
+        {
+            final Entry entry = entries.get(key);
+            if (entry != null && isInCorridor(entry.path, pos))
+            {
+                removeEntry(key, entry);
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Drops all cached paths.
+     */
+    public void clear()
+    {
+        entries.clear();
+        keysBySection.clear();
+    }
+
+    /**
+     * Get the level of the cache.
+     *
+     * @return the level.
+     */
+    public Level getLevel()
+    {
+        return level;
+    }
+
+    /**
+     * Amount of lookups served from the cache.
+     *
+     * @return the hit count.
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Amount of lookups that had to compute a new path.
+     *
+     * @return the miss count.
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Amount of paths dropped due to block changes.
+     *
+     * @return the invalidation count.
+     */
+    public long getInvalidations()
+    {
+        return invalidations;
+    }
+
+    /**
+     * Amount of paths dropped as least recently used.
+     *
+     * @return the eviction count.
+     */
+    public long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Amount of currently cached paths.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Removes the entry and its section links.
+     *
+     * @param key   the key.
+     * @param entry the entry.
+     */
+    private void removeEntry(final Key key, final Entry entry)
+    {
+        entries.remove(key);
+        unlinkSections(key, entry);
+    }
+
+    /**
+     * Removes the section links of an entry.
+     *
+     * @param key   the key.
+     * @param entry the entry.
+     */
+    private void unlinkSections(final Key key, final Entry entry)
+    {
+        for (final long section : entry.sections)
+        {
+            final Set<Key> keys = keysBySection.get(section);
+            if (keys != null && keys.remove(key) && keys.isEmpty())
+            {
+                keysBySection.remove(section);
+            }
+        }
+    }
+
+    /**
+     * Check if the position is within the corridor of the path: the ground below, the node, the head space and the direct horizontal neighbours.
+     *
+     * @param path the path.
+     * @param pos  the position.
+     * @return true if a change at the position can affect the path.
+     */
+    private static boolean isInCorridor(final Path path, final BlockPos pos)
+    {
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final Node node = path.getNode(i);
+            if (Math.abs(node.x - pos.getX()) <= 1 && Math.abs(node.z - pos.getZ()) <= 1 && pos.getY() >= node.y - 1 && pos.getY() <= node.y + 2)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get all sections the corridor of the path touches.
+     *
+     * @param path the path.
+     * @return the section positions.
+     */
+    private static LongSet computeSections(final Path path)
+    {
+        final LongSet sections = new LongOpenHashSet();
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final Node node = path.getNode(i);
+            for (int dx = -1; dx <= 1; dx += 2)
+            {
+                for (int dz = -1; dz <= 1; dz += 2)
+                {
+                    final int sectionX = SectionPos.blockToSectionCoord(node.x + dx);
+                    final int sectionZ = SectionPos.blockToSectionCoord(node.z + dz);
+                    sections.add(SectionPos.asLong(sectionX, SectionPos.blockToSectionCoord(node.y - 1), sectionZ));
+                    sections.add(SectionPos.asLong(sectionX, SectionPos.blockToSectionCoord(node.y + 2), sectionZ));
+                }
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * Deep copies a path, following entities modify both the path and its node list.
+     *
+     * @param path the path.
+     * @return the copy.
+     */
+    private static Path copyPath(final Path path)
+    {
+        final List<Node> nodes = new ArrayList<>(path.getNodeCount());
+        Node previous = null;
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final Node node = path.getNode(i);
+            final Node copy = node instanceof PathPointExtended extended ? extended.copy() : node.cloneAndMove(node.x, node.y, node.z);
+            copy.cameFrom = previous;
+            nodes.add(copy);
+            previous = copy;
+        }
+        return new Path(nodes, path.getTarget(), path.canReach());
+    }
+
+    /**
+     * Key of a cached path.
+     *
+     * @param start       the start position.
+     * @param destination the destination.
+     * @param type        the entity type.
+     * @param options     the fingerprint of the pathing options.
+     */
+    public record Key(long start, long destination, EntityType<?> type, long options)
+    {
+    }
+
+    /**
+     * A copy of a cached path, owned by the caller.
+     *
+     * @param path        the path.
+     * @param costPerDist the cost per distance of the path.
+     */
+    public record CachedPath(Path path, double costPerDist)
+    {
+    }
+
+    /**
+     * A cached path.
+     */
+    private static final class Entry
+    {
+        /**
+         * The path, never handed out directly.
+         */
+        private final Path path;
+
+        /**
+         * Cost per distance of the path, feeds the heuristic adjustment of the navigator.
+         */
+        private final double costPerDist;
+
+        /**
+         * Game time after which the entry is no longer used.
+         */
+        private final long expiresAt;
+
+        /**
+         * Sections the corridor of the path touches.
+         */
+        private final LongSet sections;
+
+        private Entry(final Path path, final double costPerDist, final long expiresAt, final LongSet sections)
+        {
+            this.path = path;
+            this.costPerDist = costPerDist;
+            this.expiresAt = expiresAt;
+            this.sections = sections;
+        }
+    }
+}
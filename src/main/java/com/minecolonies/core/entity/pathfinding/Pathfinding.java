@@ -3,20 +3,19 @@ package com.minecolonies.core.entity.pathfinding;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import com.minecolonies.core.entity.pathfinding.world.ChunkPortalGraph;
+import com.minecolonies.core.entity.pathfinding.world.ChunkSectionSnapshotCache;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final ArrayBlockingQueue<Runnable> jobQueue = new ArrayBlockingQueue<>(10000, false);
-    private static       ThreadPoolExecutor           executor;
+    private static final PathJobQueue        jobQueue = new PathJobQueue(10000);
+    private static       PathfindingExecutor executor;
 
     /**
      * Minecolonies specific thread factory.
@@ -44,21 +43,33 @@ public final class Pathfinding
      *
      * @return the threadpool executor.
      */
-    public static ThreadPoolExecutor getExecutor()
+    public static PathfindingExecutor getExecutor()
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathfindingExecutor(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), jobQueue, new MinecoloniesThreadFactory());
         }
         return executor;
     }
 
+    /**
+     * Get the queue of pending path jobs.
+     *
+     * @return the queue.
+     */
+    public static PathJobQueue getJobQueue()
+    {
+        return jobQueue;
+    }
+
     /**
      * Stops all running threads in this thread pool
      */
     public static void shutdown()
     {
         jobQueue.clear();
+        ChunkSectionSnapshotCache.clearAll();
+        ChunkPortalGraph.clearAll();
     }
 
     private Pathfinding()
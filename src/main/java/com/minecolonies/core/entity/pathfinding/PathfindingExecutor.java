@@ -0,0 +1,244 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.*;
+
+/**
+ * Thread pool running the path jobs, wraps each job into a {@link PathJobTask} carrying its scheduling data for the {@link PathJobQueue}. Jobs run in slices of
+ * {@link AbstractPathJob#SLICE_NODES} nodes and are queued again in between, so long searches yield the threads to other jobs.
+ */
+public final class PathfindingExecutor extends ThreadPoolExecutor
+{
+    /**
+     * The job queue.
+     */
+    private final PathJobQueue queue;
+
+    /**
+     * Create a new executor.
+     *
+     * @param threads       the amount of threads.
+     * @param queue         the job queue.
+     * @param threadFactory the thread factory.
+     */
+    public PathfindingExecutor(final int threads, final PathJobQueue queue, final ThreadFactory threadFactory)
+    {
+        super(threads, threads, 10, TimeUnit.SECONDS, queue, threadFactory, (runnable, executor) -> {
+            // Queue is full of more important jobs, the result sees the job as cancelled
+            Log.getLogger().debug("Pathfinding queue full, dropped job: " + runnable);
+            if (runnable instanceof Future<?> future)
+            {
+                future.cancel(false);
+            }
+        });
+        this.queue = queue;
+        allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+    {
+        if (callable instanceof AbstractPathJob job)
+        {
+            return new PathJobTask<>(callable, job, this);
+        }
+        return super.newTaskFor(callable);
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable runnable)
+    {
+        if (runnable instanceof PathJobTask<?> task)
+        {
+            task.startedAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    protected void afterExecute(final Runnable runnable, final Throwable throwable)
+    {
+        if (runnable instanceof PathJobTask<?> task && task.startedAt != 0)
+        {
+            queue.recordRunTime(task.getPriority(), System.nanoTime() - task.startedAt);
+        }
+    }
+
+    /**
+     * Get the job queue.
+     *
+     * @return the queue.
+     */
+    public PathJobQueue getJobQueue()
+    {
+        return queue;
+    }
+
+    /**
+     * Future of a queued path job with its scheduling data, captured on submission.
+     *
+     * @param <T> the result type.
+     */
+    public static final class PathJobTask<T> extends FutureTask<T>
+    {
+        /**
+         * The job.
+         */
+        private final AbstractPathJob job;
+
+        /**
+         * The executor running the slices.
+         */
+        private final PathfindingExecutor executor;
+
+        /**
+         * Scheduling class of the job.
+         */
+        private final PathJobPriority priority;
+
+        /**
+         * Colony of the entity, 0 for jobs without colony.
+         */
+        private final int colonyId;
+
+        /**
+         * Entity the job is for, -1 for jobs without entity.
+         */
+        private final int entityId;
+
+        /**
+         * Key identifying jobs which replace each other, null if never replaced.
+         */
+        private final Object replaceKey;
+
+        /**
+         * Time the job got submitted or requeued after a slice.
+         */
+        private volatile long enqueuedAt = System.nanoTime();
+
+        /**
+         * Whether the job already ran a slice.
+         */
+        private volatile boolean resumed = false;
+
+        /**
+         * Time the job started running, 0 if not started.
+         */
+        private volatile long startedAt = 0;
+
+        /**
+         * Description of the job for logging.
+         */
+        private final String description;
+
+        private PathJobTask(@NotNull final Callable<T> callable, @NotNull final AbstractPathJob job, @NotNull final PathfindingExecutor executor)
+        {
+            super(callable);
+            this.job = job;
+            this.executor = executor;
+            this.priority = job.getPriority();
+            this.entityId = job.getEntity() == null ? -1 : job.getEntity().getId();
+            this.colonyId = job.getEntity() instanceof AbstractEntityCitizen citizen ? citizen.getCitizenColonyHandler().getColonyId() : 0;
+            this.replaceKey = job.getEntity() == null ? null : new ReplaceKey(entityId, job.getClass());
+            this.description = job.getClass().getSimpleName();
+        }
+
+        public PathJobPriority getPriority()
+        {
+            return priority;
+        }
+
+        public int getColonyId()
+        {
+            return colonyId;
+        }
+
+        public int getEntityId()
+        {
+            return entityId;
+        }
+
+        /**
+         * Get the key of the job, a pending job with the same key is outdated by this one: same entity and same kind of job.
+         *
+         * @return the key or null.
+         */
+        public Object getReplaceKey()
+        {
+            return replaceKey;
+        }
+
+        public long getEnqueuedAt()
+        {
+            return enqueuedAt;
+        }
+
+        /**
+         * Whether the job got requeued after running a slice.
+         *
+         * @return true if so.
+         */
+        public boolean isResumed()
+        {
+            return resumed;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run()
+        {
+            if (isDone())
+            {
+                return;
+            }
+
+            try
+            {
+                if (job.runSlice(AbstractPathJob.SLICE_NODES))
+                {
+                    set((T) job.getSearchedPath());
+                }
+                else if (job.isCancelled())
+                {
+                    cancel(false);
+                }
+                else if (!isDone())
+                {
+                    resumed = true;
+                    enqueuedAt = System.nanoTime();
+                    executor.execute(this);
+                }
+            }
+            catch (final Throwable throwable)
+            {
+                setException(throwable);
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            job.cancel();
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public String toString()
+        {
+            return description + " priority:" + priority + " entity:" + entityId;
+        }
+    }
+
+    /**
+     * Identifies jobs of the same kind for the same entity.
+     *
+     * @param entityId the entity id.
+     * @param jobClass the job class.
+     */
+    private record ReplaceKey(int entityId, Class<?> jobClass)
+    {
+    }
+}
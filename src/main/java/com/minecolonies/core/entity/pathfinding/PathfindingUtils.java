@@ -4,7 +4,6 @@ import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
 import com.ldtteam.domumornamentum.block.vanilla.TrapdoorBlock;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
 import com.minecolonies.api.entity.mobs.drownedpirate.AbstractDrownedEntityPirate;
-import com.minecolonies.api.items.ModTags;
 import com.minecolonies.api.util.ShapeUtil;
 import com.minecolonies.core.Network;
 import com.minecolonies.core.entity.pathfinding.world.CachingBlockLookup;
@@ -12,7 +11,6 @@ import com.minecolonies.core.network.messages.client.SyncPathReachedMessage;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.BlockGetter;
@@ -217,7 +215,7 @@ public class PathfindingUtils
      */
     public static boolean isLiquid(final BlockState state)
     {
-        return state.liquid() || (!state.blocksMotion() && !state.getFluidState().isEmpty());
+        return (PathingStateFlags.get(state) & PathingStateFlags.LIQUID) != 0;
     }
 
     /**
@@ -322,13 +320,7 @@ public class PathfindingUtils
      */
     public static boolean isLadder(final BlockState blockState, @Nullable final PathingOptions options)
     {
-        if (options != null && options.canWalkUnderWater() && isLiquid(blockState))
-        {
-            return true;
-        }
-        return blockState.is(BlockTags.CLIMBABLE) && ((options != null && options.canClimbAdvanced()) ||
-            blockState.getBlock() instanceof LadderBlock ||
-            blockState.is(ModTags.freeClimbBlocks));
+        return PathingStateFlags.isLadder(PathingStateFlags.get(blockState), options);
     }
 
     /**
@@ -339,14 +331,7 @@ public class PathfindingUtils
      */
     public static boolean isDangerous(final BlockState blockState)
     {
-        final Block block = blockState.getBlock();
-
-        return blockState.is(ModTags.dangerousBlocks) ||
-            block instanceof FireBlock ||
-            block instanceof CampfireBlock ||
-            block instanceof MagmaBlock ||
-            block instanceof SweetBerryBushBlock ||
-            block instanceof PowderSnowBlock;
+        return (PathingStateFlags.get(blockState) & PathingStateFlags.DANGEROUS) != 0;
     }
 
     /**
@@ -185,6 +185,43 @@ public class PathingOptions
         this.walkUnderWater = walkUnderWater;
     }
 
+    /**
+     * Get the {@link PathingStateFlags} which make a state count as ladder with these options.
+     *
+     * @return the flag mask.
+     */
+    public int getLadderMask()
+    {
+        int mask = canClimbAdvanced ? PathingStateFlags.CLIMBABLE : PathingStateFlags.LADDER;
+        if (walkUnderWater)
+        {
+            mask |= PathingStateFlags.LIQUID;
+        }
+        return mask;
+    }
+
+    /**
+     * Get a fingerprint of all options, paths computed with the same fingerprint are interchangeable.
+     *
+     * @return the fingerprint.
+     */
+    public long getFingerprint()
+    {
+        long hash = 17;
+        for (final double cost : new double[] {jumpCost, dropCost, onPathCost, onRailCost, railsExitCost, swimCost, caveAirCost, swimCostEnter, traverseToggleAbleCost,
+          nonLadderClimbableCost, walkInShapesCost, divingCost, randomnessFactor})
+        {
+            hash = hash * 31 + Double.doubleToLongBits(cost);
+        }
+
+        int flags = 0;
+        for (final boolean flag : new boolean[] {canUseRails, canSwim, enterDoors, canOpenDoors, canClimbAdvanced, canPassDanger, walkUnderWater, canDrop})
+        {
+            flags = (flags << 1) | (flag ? 1 : 0);
+        }
+        return hash * 31 + flags;
+    }
+
     public PathingOptions withStartSwimCost(final double startSwimCost)
     {
         swimCostEnter = startSwimCost;
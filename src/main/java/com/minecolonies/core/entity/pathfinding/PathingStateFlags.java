@@ -0,0 +1,301 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.ldtteam.domumornamentum.block.decorative.FloatingCarpetBlock;
+import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
+import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.ShapeUtil;
+import com.minecolonies.core.blocks.BlockDecorationController;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.*;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per blockstate classification used by the path jobs, packed into an int of flags and stored in a table indexed by the blockstate id.
+ * The table is rebuilt on server start and on datapack reload, as some flags depend on block tags.
+ */
+public final class PathingStateFlags
+{
+    /**
+     * The state is air.
+     */
+    public static final int AIR = 1;
+
+    /**
+     * The state counts as liquid for swimming, see {@link PathfindingUtils#isLiquid(BlockState)}.
+     */
+    public static final int LIQUID = 1 << 1;
+
+    /**
+     * The state damages entities standing on or in it.
+     */
+    public static final int DANGEROUS = 1 << 2;
+
+    /**
+     * The state is in the climbable tag.
+     */
+    public static final int CLIMBABLE = 1 << 3;
+
+    /**
+     * The state is climbable without advanced climbing, i.e. an actual ladder or a free climb block.
+     */
+    public static final int LADDER = 1 << 4;
+
+    /**
+     * The state is a door or fence gate.
+     */
+    public static final int DOOR = 1 << 5;
+
+    /**
+     * The state can never be stood upon: fences, walls, doors, bamboo and huts.
+     */
+    public static final int NO_SURFACE = 1 << 6;
+
+    /**
+     * The state is a carpet.
+     */
+    public static final int CARPET = 1 << 7;
+
+    /**
+     * The state is a trapdoor or panel, its passability depends on the direction of movement.
+     */
+    public static final int TOGGLEABLE = 1 << 8;
+
+    /**
+     * The state blocks motion but can still be walked through, e.g. signs, banners and pressure plates.
+     */
+    public static final int WALK_THROUGH = 1 << 9;
+
+    /**
+     * The collision shape depends on the position, the shape flags below are not set and the shape has to be queried.
+     */
+    public static final int DYNAMIC_SHAPE = 1 << 10;
+
+    /**
+     * The collision shape is empty.
+     */
+    public static final int SHAPE_EMPTY = 1 << 11;
+
+    /**
+     * The collision shape is empty or at most 0.1 high.
+     */
+    public static final int SHAPE_FLAT = 1 << 12;
+
+    /**
+     * The collision shape is lower than half a block.
+     */
+    public static final int SHAPE_LOW = 1 << 13;
+
+    /**
+     * The collision shape is higher than a full block.
+     */
+    public static final int SHAPE_TALL = 1 << 14;
+
+    /**
+     * Flags by blockstate id, null until first built.
+     */
+    @Nullable
+    private static volatile int[] table = null;
+
+    private PathingStateFlags()
+    {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Rebuild the table for all registered blockstates, called whenever tags got (re)loaded.
+     */
+    public static void rebuild()
+    {
+        final int[] newTable = new int[Block.BLOCK_STATE_REGISTRY.size()];
+        for (final BlockState state : Block.BLOCK_STATE_REGISTRY)
+        {
+            final int id = Block.getId(state);
+            if (id >= 0 && id < newTable.length)
+            {
+                newTable[id] = classify(state);
+            }
+        }
+        table = newTable;
+        Log.getLogger().debug("Built pathing flags for {} blockstates", newTable.length);
+    }
+
+    /**
+     * Get the flags of the given state.
+     *
+     * @param state the state.
+     * @return the packed flags.
+     */
+    public static int get(final BlockState state)
+    {
+        final int[] current = table;
+        if (current != null)
+        {
+            final int id = Block.getId(state);
+            if (id >= 0 && id < current.length)
+            {
+                return current[id];
+            }
+        }
+        return classify(state);
+    }
+
+    /**
+     * Check if the flags describe a ladder under the given options.
+     *
+     * @param flags   the flags of the state.
+     * @param options the pathing options or null.
+     * @return true if it can be climbed like a ladder.
+     */
+    public static boolean isLadder(final int flags, @Nullable final PathingOptions options)
+    {
+        if (options == null)
+        {
+            return (flags & LADDER) != 0;
+        }
+        return (flags & options.getLadderMask()) != 0;
+    }
+
+    /**
+     * Compute the flags of a single state.
+     *
+     * @param state the state.
+     * @return the packed flags.
+     */
+    private static int classify(final BlockState state)
+    {
+        final Block block = state.getBlock();
+        int flags = 0;
+
+        if (state.isAir())
+        {
+            flags |= AIR;
+        }
+
+        if (state.liquid() || (!state.blocksMotion() && !state.getFluidState().isEmpty()))
+        {
+            flags |= LIQUID;
+        }
+
+        if (state.is(ModTags.dangerousBlocks)
+              || block instanceof FireBlock
+              || block instanceof CampfireBlock
+              || block instanceof MagmaBlock
+              || block instanceof SweetBerryBushBlock
+              || block instanceof PowderSnowBlock)
+        {
+            flags |= DANGEROUS;
+        }
+
+        if (state.is(BlockTags.CLIMBABLE))
+        {
+            flags |= CLIMBABLE;
+            if (block instanceof LadderBlock || state.is(ModTags.freeClimbBlocks))
+            {
+                flags |= LADDER;
+            }
+        }
+
+        if (block instanceof DoorBlock || block instanceof FenceGateBlock)
+        {
+            flags |= DOOR;
+        }
+
+        if (block instanceof FenceBlock
+              || block instanceof FenceGateBlock
+              || block instanceof WallBlock
+              || block instanceof AbstractBlockMinecoloniesDefault
+              || block instanceof BambooStalkBlock
+              || block instanceof BambooSaplingBlock
+              || block instanceof DoorBlock)
+        {
+            flags |= NO_SURFACE;
+        }
+
+        if (block instanceof WoolCarpetBlock || block instanceof FloatingCarpetBlock)
+        {
+            flags |= CARPET;
+        }
+
+        if (block instanceof TrapDoorBlock || block instanceof PanelBlock)
+        {
+            flags |= TOGGLEABLE;
+        }
+
+        if (block instanceof AbstractBlockMinecoloniesConstructionTape
+              || block instanceof PressurePlateBlock
+              || block instanceof BlockDecorationController
+              || block instanceof SignBlock
+              || block instanceof AbstractBannerBlock
+              || !block.properties.hasCollision)
+        {
+            flags |= WALK_THROUGH;
+        }
+
+        return flags | classifyShape(state);
+    }
+
+    /**
+     * Compute the shape flags, vanilla caches the collision shape of all states without dynamic shape, so those are position independent.
+     *
+     * @param state the state.
+     * @return the shape flags.
+     */
+    private static int classifyShape(final BlockState state)
+    {
+        if (state.getBlock().hasDynamicShape() || state.hasOffsetFunction())
+        {
+            return DYNAMIC_SHAPE;
+        }
+
+        final VoxelShape shape;
+        try
+        {
+            shape = state.getCollisionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+        }
+        catch (final Exception e)
+        {
+            return DYNAMIC_SHAPE;
+        }
+
+        return getShapeFlags(shape);
+    }
+
+    /**
+     * Compute the shape flags of the given collision shape.
+     *
+     * @param shape the collision shape.
+     * @return the shape flags.
+     */
+    public static int getShapeFlags(final VoxelShape shape)
+    {
+        int flags = 0;
+        final double maxY = ShapeUtil.max(shape, Direction.Axis.Y);
+        if (ShapeUtil.isEmpty(shape))
+        {
+            flags |= SHAPE_EMPTY | SHAPE_FLAT;
+        }
+        else if (maxY <= 0.1)
+        {
+            flags |= SHAPE_FLAT;
+        }
+
+        if (maxY < 0.5)
+        {
+            flags |= SHAPE_LOW;
+        }
+
+        if (maxY > 1.0)
+        {
+            flags |= SHAPE_TALL;
+        }
+        return flags;
+    }
+}
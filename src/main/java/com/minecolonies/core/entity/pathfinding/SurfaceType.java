@@ -5,7 +5,6 @@ import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
 import com.ldtteam.domumornamentum.block.vanilla.TrapdoorBlock;
 import com.ldtteam.structurize.util.BlockUtils;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
-import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
 import com.minecolonies.api.util.ShapeUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -51,8 +50,9 @@ public enum SurfaceType
     public static SurfaceType getSurfaceType(final BlockGetter world, final BlockState blockState, final BlockPos pos, @Nullable final PathingOptions pathingOptions)
     {
         final Block block = blockState.getBlock();
+        final int flags = PathingStateFlags.get(blockState);
 
-        if (PathfindingUtils.isDangerous(blockState))
+        if ((flags & PathingStateFlags.DANGEROUS) != 0)
         {
             if (pathingOptions != null && pathingOptions.canPassDanger())
             {
@@ -66,13 +66,7 @@ public enum SurfaceType
             return SurfaceType.NOT_PASSABLE;
         }
 
-        if (block instanceof FenceBlock
-              || block instanceof FenceGateBlock
-              || block instanceof WallBlock
-              || block instanceof AbstractBlockMinecoloniesDefault
-              || block instanceof BambooStalkBlock
-              || block instanceof BambooSaplingBlock
-              || block instanceof DoorBlock)
+        if ((flags & PathingStateFlags.NO_SURFACE) != 0)
         {
             return SurfaceType.NOT_PASSABLE;
         }
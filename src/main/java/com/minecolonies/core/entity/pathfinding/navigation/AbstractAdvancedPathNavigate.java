@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.pathfinding.IPathJob;
 import com.minecolonies.api.entity.pathfinding.IStuckHandler;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathingOptions;
 import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
@@ -105,7 +106,7 @@ public abstract class AbstractAdvancedPathNavigate extends GroundPathNavigation
     public abstract PathResult<AbstractPathJob> moveTowards(BlockPos towards, double range, double speedFactor);
 
     /**
-     * Used to path towards a random pos.
+     * Used to wander towards a random pos, scheduled as idle path job.
      *
      * @param range the range he should move out of.
      * @param speed the speed to run at.
@@ -113,6 +114,16 @@ public abstract class AbstractAdvancedPathNavigate extends GroundPathNavigation
      */
     public abstract PathResult<? extends IPathJob> moveToRandomPos(final double range, final double speed);
 
+    /**
+     * Used to path towards a random pos.
+     *
+     * @param range    the range he should move out of.
+     * @param speed    the speed to run at.
+     * @param priority the scheduling class of the path job, null to derive it from the entity.
+     * @return the result of the pathing.
+     */
+    public abstract PathResult<? extends IPathJob> moveToRandomPos(final double range, final double speed, @Nullable final PathJobPriority priority);
+
     /**
      * Used to path towards a random pos.
      *
@@ -124,7 +135,7 @@ public abstract class AbstractAdvancedPathNavigate extends GroundPathNavigation
     public abstract PathResult<? extends IPathJob> moveToRandomPosAroundX(final int range, final double speed, final BlockPos pos);
 
     /**
-     * Used to path towards a random pos within some restrictions
+     * Used to wander towards a random pos within some restrictions, scheduled as idle path job.
      *
      * @param range   the range he should move out of.
      * @param speed   the speed to run at.
@@ -136,6 +147,21 @@ public abstract class AbstractAdvancedPathNavigate extends GroundPathNavigation
       final double speed,
       final net.minecraft.util.Tuple<BlockPos, BlockPos> corners);
 
+    /**
+     * Used to path towards a random pos within some restrictions
+     *
+     * @param range    the range he should move out of.
+     * @param speed    the speed to run at.
+     * @param corners  the corners they can't leave.
+     * @param priority the scheduling class of the path job, null to derive it from the entity.
+     * @return the result of the pathing.
+     */
+    public abstract PathResult<? extends IPathJob> moveToRandomPos(
+      final int range,
+      final double speed,
+      final net.minecraft.util.Tuple<BlockPos, BlockPos> corners,
+      @Nullable final PathJobPriority priority);
+
     /**
      * Used to find a tree.
      *
@@ -9,7 +9,9 @@ import com.minecolonies.api.entity.pathfinding.IStuckHandler;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.core.entity.pathfinding.PathFindingStatus;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathPointExtended;
+import com.minecolonies.core.entity.pathfinding.PathResultCache;
 import com.minecolonies.core.entity.pathfinding.Pathfinding;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.pathjobs.*;
@@ -168,7 +170,15 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     }
 
     @Nullable
+    @Override
     public PathResult<AbstractPathJob> moveToRandomPos(final double range, final double speedFactor)
+    {
+        return moveToRandomPos(range, speedFactor, PathJobPriority.IDLE);
+    }
+
+    @Nullable
+    @Override
+    public PathResult<AbstractPathJob> moveToRandomPos(final double range, final double speedFactor, @Nullable final PathJobPriority priority)
     {
         if (pathResult != null && pathResult.isInProgress() && pathResult.getJob() instanceof PathJobRandomPos)
         {
@@ -183,7 +193,8 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
           start,
           theRange,
           (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
-          ourEntity), null, speedFactor, true);
+          ourEntity,
+          priority), null, speedFactor, true);
     }
 
     @Nullable
@@ -203,7 +214,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
           3,
           (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
           range,
-          ourEntity, pos), pos, speedFactor, false);
+          ourEntity, pos, null), pos, speedFactor, false);
 
         if (result == null)
         {
@@ -219,6 +230,16 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       final int range,
       final double speedFactor,
       final net.minecraft.util.Tuple<BlockPos, BlockPos> corners)
+    {
+        return moveToRandomPos(range, speedFactor, corners, PathJobPriority.IDLE);
+    }
+
+    @Override
+    public PathResult<AbstractPathJob> moveToRandomPos(
+      final int range,
+      final double speedFactor,
+      final net.minecraft.util.Tuple<BlockPos, BlockPos> corners,
+      @Nullable final PathJobPriority priority)
     {
         if (pathResult != null && pathResult.isInProgress() && pathResult.getJob() instanceof PathJobRandomPos)
         {
@@ -235,7 +256,8 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
           (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
           ourEntity,
           corners.getA(),
-          corners.getB()), null, speedFactor, true);
+          corners.getB(),
+          priority), null, speedFactor, true);
 
         if (result == null)
         {
@@ -280,10 +302,39 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
         job.setPathingOptions(getPathingOptions());
         pathResult = job.getResult();
+
+        final PathResultCache.Key cacheKey = getPathCacheKey(job);
+        if (cacheKey != null)
+        {
+            final PathResultCache.CachedPath cachedPath = PathResultCache.get(level).get(cacheKey);
+            if (cachedPath != null)
+            {
+                pathResult.completeWithCachedPath(cachedPath.path(), cachedPath.costPerDist());
+                return pathResult;
+            }
+        }
+
         pathResult.startJob(Pathfinding.getExecutor());
         return pathResult;
     }
 
+    /**
+     * Get the path cache key for the job, only plain move to location jobs of citizens are cached.
+     *
+     * @param job the job.
+     * @return the key or null if the job's path should not be cached.
+     */
+    @Nullable
+    private PathResultCache.Key getPathCacheKey(@NotNull final AbstractPathJob job)
+    {
+        if (job.getClass() != PathJobMoveToLocation.class || !(ourEntity instanceof AbstractEntityCitizen))
+        {
+            return null;
+        }
+
+        return PathResultCache.createKey(job.getStart(), ((PathJobMoveToLocation) job).getDestination(), ourEntity.getType(), job.getPathingOptions());
+    }
+
     @Override
     public boolean isDone()
     {
@@ -444,10 +495,20 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         final int newY = (int) y;
         final int newZ = Mth.floor(z);
 
-        if (pathResult != null && pathResult.getJob() instanceof PathJobMoveToLocation)
+        if (pathResult != null && pathResult.getJob() instanceof PathJobMoveToLocation job)
         {
             if (pathResult.isComputing())
             {
+                // Moving targets, e.g. chased mobs, move the running search along instead of waiting for an outdated path
+                if (destination != null && !BlockPosUtil.equals(destination, newX, newY, newZ))
+                {
+                    final BlockPos target = new BlockPos(newX, newY, newZ);
+                    if (job.requestRetarget(target))
+                    {
+                        destination = target;
+                        desiredPos = target;
+                    }
+                }
                 return pathResult;
             }
 
@@ -691,6 +752,15 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             }
         }
 
+        if (!pathResult.isFromCache() && pathResult.isPathReachingDestination())
+        {
+            final PathResultCache.Key cacheKey = getPathCacheKey(pathResult.getJob());
+            if (cacheKey != null)
+            {
+                PathResultCache.get(level).put(cacheKey, pathResult.getPath(), pathResult.costPerDist);
+            }
+        }
+
         moveTo(pathResult.getPath(), getSpeedFactor());
     }
 
@@ -32,6 +32,17 @@ public class PathfindingAIHelper
             && job.nearbyPosition.equals(nearbyPosition)
             && job.desiredPosition.equals(desiredPosition));
 
+        // Still computing towards a slightly moved position, move the running search instead of restarting it
+        if (!isOnRightTask
+              && nav.getPathResult() != null
+              && nav.getPathResult().isComputing()
+              && nav.getPathResult().getJob() instanceof PathJobMoveCloseToXNearY job
+              && job.nearbyPosition.equals(nearbyPosition)
+              && job.requestRetarget(desiredPosition))
+        {
+            return true;
+        }
+
         if (nav.isDone() || !isOnRightTask)
         {
             if (isOnRightTask)
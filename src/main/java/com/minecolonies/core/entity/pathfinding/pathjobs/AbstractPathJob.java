@@ -1,10 +1,11 @@
 package com.minecolonies.core.entity.pathfinding.pathjobs;
 
-import com.ldtteam.domumornamentum.block.decorative.FloatingCarpetBlock;
 import com.ldtteam.domumornamentum.block.decorative.PanelBlock;
 import com.ldtteam.domumornamentum.block.decorative.ShingleBlock;
 import com.ldtteam.domumornamentum.block.decorative.ShingleSlabBlock;
-import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import com.minecolonies.api.colony.jobs.IJob;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
 import com.minecolonies.api.entity.pathfinding.IPathJob;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
@@ -12,7 +13,9 @@ import com.minecolonies.api.util.ShapeUtil;
 import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.Network;
-import com.minecolonies.core.blocks.BlockDecorationController;
+import com.minecolonies.core.colony.jobs.AbstractJobGuard;
+import com.minecolonies.core.colony.jobs.JobDeliveryman;
+import com.minecolonies.core.entity.mobs.EntityMercenary;
 import com.minecolonies.core.entity.pathfinding.*;
 import com.minecolonies.core.entity.pathfinding.navigation.IDynamicHeuristicNavigator;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
@@ -41,6 +44,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.minecolonies.api.util.constant.PathingConstants.*;
 import static com.minecolonies.core.entity.pathfinding.PathingOptions.MAX_COST;
@@ -55,6 +59,16 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     public static final int MAX_NODES = 5000;
 
+    /**
+     * Nodes polled per slice before a job run by the pathfinding executor yields its thread to other jobs.
+     */
+    public static final int SLICE_NODES = 1000;
+
+    /**
+     * Interval in polled nodes for checking cancellation and retarget requests, power of two.
+     */
+    private static final int CHECK_INTERVAL = 128;
+
     /**
      * Start position to path from.
      */
@@ -99,14 +113,14 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     protected int maxNodes;
 
     /**
-     * Queue of all open nodes.
+     * Queue of all open nodes, taken from the thread's node store while searching.
      */
-    private Queue<MNode> nodesToVisit;
+    private MNodeHeap nodesToVisit;
 
     /**
-     * Queue of all the visited nodes.
+     * Queue of all the visited nodes, taken from the thread's node store while searching.
      */
-    private final Int2ObjectOpenHashMap<MNode> nodes = new Int2ObjectOpenHashMap<>();
+    private Int2ObjectOpenHashMap<MNode> nodes;
 
     /**
      * Counts of nodes
@@ -161,6 +175,47 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     private int visitedLevel = 1;
 
+    /**
+     * Node store of the running or suspended search, null before the search started and after it finished.
+     */
+    private PathNodeStore nodeStore = null;
+
+    /**
+     * Best end node found so far.
+     */
+    private MNode bestNode = null;
+
+    /**
+     * End score of the best node.
+     */
+    private double bestNodeEndScore = 0;
+
+    /**
+     * Node count since we found a better end node than the current one
+     */
+    private int nodesSinceEndNode = 0;
+
+    /**
+     * The path found by the finished search.
+     */
+    @Nullable
+    private Path searchedPath = null;
+
+    /**
+     * Whether the search finished.
+     */
+    private volatile boolean searchFinished = false;
+
+    /**
+     * Whether the job got cancelled.
+     */
+    private volatile boolean cancelled = false;
+
+    /**
+     * New destination requested for the running search, null if none.
+     */
+    private final AtomicReference<BlockPos> retargetRequest = new AtomicReference<>();
+
     /**
      * AbstractPathJob constructor.
      *
@@ -183,7 +238,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         this.actualWorld = world;
 
         this.maxNodes = Math.min(MAX_NODES, range * range);
-        nodesToVisit = new PriorityQueue<>(range * 2);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -207,7 +261,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     {
         range = Math.max(10, range);
         this.maxNodes = Math.min(MAX_NODES, range * range);
-        nodesToVisit = new PriorityQueue<>(range * 2);
         this.start = new BlockPos(start);
 
         world = chunkCache;
@@ -247,7 +300,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         this.maxNodes =
           Math.min(MAX_NODES, 300 + Math.max(Math.max(Math.max(2, xDiff / 10) * yDiff * zDiff, xDiff * Math.max(2, yDiff / 10) * zDiff), xDiff * yDiff * Math.max(2, zDiff / 10)));
-        nodesToVisit = new PriorityQueue<>(maxNodes / 4);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -266,16 +318,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     @Override
     public final Path call()
     {
-        try
-        {
-            return search();
-        }
-        catch (final Exception e)
-        {
-            Log.getLogger().warn("Pathfinding Exception from: " + start + " range: " + Math.sqrt(maxNodes) + " entity: " + entity + " type: " + getClass().getSimpleName(), e);
-        }
-
-        return null;
+        return search();
     }
 
     /**
@@ -308,23 +351,109 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     }
 
     /**
-     * Perform the search.
+     * Perform the whole search at once.
      *
      * @return Path of a path to the given location, a best-effort, or null.
      */
     @Nullable
     protected Path search()
     {
-        MNode bestNode = getAndSetupStartNode();
-        double bestNodeEndScore = getEndNodeScore(bestNode);
-        // Node count since we found a better end node than the current one
-        int nodesSinceEndNode = 0;
+        runSlice(Integer.MAX_VALUE);
+        return searchedPath;
+    }
 
+    /**
+     * Prepares the job right before the search starts, on the pathfinding thread.
+     */
+    protected void prepareSearch()
+    {
+
+    }
+
+    /**
+     * Runs the search until it finishes or polled the given amount of nodes. A suspended search keeps its nodes and continues on the next call, possibly on another
+     * thread.
+     *
+     * @param nodeBudget max amount of nodes to poll in this slice.
+     * @return true if the search finished, the path is then available through {@link #getSearchedPath()}.
+     */
+    public final boolean runSlice(final int nodeBudget)
+    {
+        if (searchFinished)
+        {
+            return true;
+        }
+
+        try
+        {
+            if (nodeStore == null)
+            {
+                prepareSearch();
+                nodeStore = PathNodeStore.acquire();
+                nodesToVisit = nodeStore.openNodes;
+                nodes = nodeStore.nodes;
+                bestNode = getAndSetupStartNode();
+                bestNodeEndScore = getEndNodeScore(bestNode);
+                nodesSinceEndNode = 0;
+            }
+
+            applyRetarget();
+            if (!searchNodes(nodeBudget))
+            {
+                return false;
+            }
+
+            searchedPath = isStopped() ? null : exploreExtraNodes();
+        }
+        catch (final Exception e)
+        {
+            searchedPath = null;
+            Log.getLogger().warn("Pathfinding Exception from: " + start + " range: " + Math.sqrt(maxNodes) + " entity: " + entity + " type: " + getClass().getSimpleName(), e);
+        }
+
+        finishSearch();
+        return true;
+    }
+
+    /**
+     * Gives the node store back after the search finished.
+     */
+    private void finishSearch()
+    {
+        searchFinished = true;
+        retargetRequest.set(null);
+        nodesToVisit = null;
+        nodes = null;
+        if (nodeStore != null)
+        {
+            nodeStore.release();
+            nodeStore = null;
+        }
+    }
+
+    /**
+     * Runs the A* search on the acquired node store.
+     *
+     * @param nodeBudget max amount of nodes to poll.
+     * @return true if the search finished, false if it ran out of budget.
+     */
+    private boolean searchNodes(final int nodeBudget)
+    {
+        int polled = 0;
         while (!nodesToVisit.isEmpty())
         {
-            if (Thread.currentThread().isInterrupted())
+            if (polled >= nodeBudget)
             {
-                return null;
+                return false;
+            }
+
+            if ((++polled & (CHECK_INTERVAL - 1)) == 0)
+            {
+                if (isStopped())
+                {
+                    return true;
+                }
+                applyRetarget();
             }
 
             final MNode node = nodesToVisit.poll();
@@ -345,7 +474,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             {
                 if (stopOnNodeLimit(totalNodesVisited, bestNode, nodesSinceEndNode))
                 {
-                    break;
+                    return true;
                 }
             }
 
@@ -363,7 +492,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 }
                 else
                 {
-                    break;
+                    return true;
                 }
             }
 
@@ -402,7 +531,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 }
                 else
                 {
-                    break;
+                    return true;
                 }
             }
 
@@ -411,6 +540,17 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             node.increaseVisited();
         }
 
+        return true;
+    }
+
+    /**
+     * Explores additional possible end nodes after reaching and builds the path.
+     *
+     * @return Path of a path to the given location, a best-effort, or null.
+     */
+    @Nullable
+    private Path exploreExtraNodes()
+    {
         // Explore additional possible endnodes after reaching, if we got extra nodes to search
         if (extraNodes > 0 && reachesDestination)
         {
@@ -420,8 +560,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             if (!nodesToVisit.isEmpty())
             {
                 // Search only closest nodes to the goal
-                final Queue<MNode> original = nodesToVisit;
-                nodesToVisit = new PriorityQueue<>(nodesToVisit.size(), (a, b) -> {
+                nodesToVisit.reorder((a, b) -> {
                     if ((a.getHeuristic()) < (b.getHeuristic()))
                     {
                         return -1;
@@ -435,11 +574,10 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                         return a.getCounterAdded() - b.getCounterAdded();
                     }
                 });
-                nodesToVisit.addAll(original);
 
                 while (!nodesToVisit.isEmpty())
                 {
-                    if (Thread.currentThread().isInterrupted())
+                    if (isStopped())
                     {
                         return null;
                     }
@@ -476,6 +614,147 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return finalizePath(bestNode);
     }
 
+    /**
+     * Whether the search should stop without a result.
+     *
+     * @return true if cancelled or the thread got interrupted.
+     */
+    private boolean isStopped()
+    {
+        return cancelled || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Cancels the job, a running search stops at its next check and a suspended one is not resumed.
+     */
+    public void cancel()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Whether the job got cancelled.
+     *
+     * @return true if so.
+     */
+    public boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    /**
+     * Get the path found by the finished search.
+     *
+     * @return the path or null.
+     */
+    @Nullable
+    public Path getSearchedPath()
+    {
+        return searchedPath;
+    }
+
+    /**
+     * Requests moving the destination of the search while it runs, reusing the already explored nodes as their cost from the start stays valid.
+     *
+     * @param target the new destination.
+     * @return true if the request got accepted, false if the job finished or does not support the new destination.
+     */
+    public boolean requestRetarget(@NotNull final BlockPos target)
+    {
+        if (searchFinished || cancelled || !canRetarget(target))
+        {
+            return false;
+        }
+
+        retargetRequest.set(target.immutable());
+        return true;
+    }
+
+    /**
+     * Whether the search can be moved to the given destination, called on the main thread.
+     *
+     * @param target the new destination.
+     * @return true if supported.
+     */
+    protected boolean canRetarget(@NotNull final BlockPos target)
+    {
+        return false;
+    }
+
+    /**
+     * Moves the destination of the job, called on the pathfinding thread between nodes.
+     *
+     * @param target the new destination.
+     */
+    protected void onRetarget(@NotNull final BlockPos target)
+    {
+
+    }
+
+    /**
+     * Applies a pending retarget request: heuristics are recomputed and the explored nodes are checked for the new destination.
+     */
+    private void applyRetarget()
+    {
+        final BlockPos target = retargetRequest.getAndSet(null);
+        if (target == null)
+        {
+            return;
+        }
+
+        onRetarget(target);
+        reachesDestination = false;
+        result.setPathReachesDestination(false);
+
+        for (int i = 0; i < nodesToVisit.size(); i++)
+        {
+            recalcHeuristic(nodesToVisit.get(i));
+        }
+        nodesToVisit.rebuild();
+
+        recalcHeuristic(startNode);
+        bestNode = startNode;
+        bestNodeEndScore = getEndNodeScore(startNode);
+        nodesSinceEndNode = 0;
+
+        // The new destination may be within the already explored area
+        for (final MNode node : nodes.values())
+        {
+            if (!node.isVisited() || node.isCornerNode())
+            {
+                continue;
+            }
+
+            recalcHeuristic(node);
+            final boolean atDestination = isAtDestination(node);
+            if (atDestination && !reachesDestination)
+            {
+                reachesDestination = true;
+                result.setPathReachesDestination(true);
+                bestNode = node;
+                bestNodeEndScore = getEndNodeScore(node);
+                continue;
+            }
+
+            if (reachesDestination && !atDestination)
+            {
+                continue;
+            }
+
+            final double nodeEndScore = getEndNodeScore(node);
+            if (nodeEndScore < bestNodeEndScore)
+            {
+                bestNode = node;
+                bestNodeEndScore = nodeEndScore;
+            }
+        }
+
+        if (reachesDestination)
+        {
+            handleDebugPathReach(bestNode);
+        }
+    }
+
     /**
      * Stops the pathjob when hitting a node limit
      *
@@ -542,8 +821,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                     return false;
                 }
 
-                for (final MNode cur : nodesToVisit)
+                for (int i = 0; i < nodesToVisit.size(); i++)
                 {
+                    final MNode cur = nodesToVisit.get(i);
                     if (cur.getHeuristic() >= startNode.getHeuristic() || cur.isVisited())
                     {
                         continue;
@@ -604,13 +884,11 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
 
             // Fix up existing heuristic values
-            final List<MNode> nodes = new ArrayList<>(nodesToVisit);
-            nodesToVisit.clear();
-            for (final MNode recalc : nodes)
+            for (int i = 0; i < nodesToVisit.size(); i++)
             {
-                recalcHeuristic(recalc);
-                nodesToVisit.offer(recalc);
+                recalcHeuristic(nodesToVisit.get(i));
             }
+            nodesToVisit.rebuild();
 
             recalcHeuristic(startNode);
             recalcHeuristic(node);
@@ -1266,16 +1544,16 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             return false;
         }
 
-        if (!block.isAir())
+        final int flags = getFlagsAt(block, x, y, z);
+        if ((flags & PathingStateFlags.AIR) == 0)
         {
-            final VoxelShape shape = block.getCollisionShape(world, tempWorldPos.set(x, y, z));
-            if (!pathingOptions.canPassDanger() && ShapeUtil.max(shape, Direction.Axis.Y) < 0.5 && PathfindingUtils.isDangerous(cachedBlockLookup.getBlockState(x, y - 1, z)))
+            if (!pathingOptions.canPassDanger() && (flags & PathingStateFlags.SHAPE_LOW) != 0 && PathfindingUtils.isDangerous(cachedBlockLookup.getBlockState(x, y - 1, z)))
             {
                 return false;
             }
-            if (block.blocksMotion() && !(ShapeUtil.isEmpty(shape) || ShapeUtil.max(shape, Direction.Axis.Y) <= 0.1))
+            if (block.blocksMotion() && (flags & PathingStateFlags.SHAPE_FLAT) == 0)
             {
-                if (block.getBlock() instanceof TrapDoorBlock || block.getBlock() instanceof PanelBlock)
+                if ((flags & PathingStateFlags.TOGGLEABLE) != 0)
                 {
                     int parentY = parent == null ? start.getY() : parent.y;
                     if (head)
@@ -1324,27 +1602,23 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 }
                 else
                 {
-                    return pathingOptions.canEnterDoors() && (block.getBlock() instanceof DoorBlock || block.getBlock() instanceof FenceGateBlock)
-                             || block.getBlock() instanceof AbstractBlockMinecoloniesConstructionTape
-                             || block.getBlock() instanceof PressurePlateBlock
-                             || block.getBlock() instanceof BlockDecorationController
-                             || block.getBlock() instanceof SignBlock
-                             || block.getBlock() instanceof AbstractBannerBlock
-                             || !block.getBlock().properties.hasCollision;
+                    return pathingOptions.canEnterDoors() && (flags & PathingStateFlags.DOOR) != 0
+                             || (flags & PathingStateFlags.WALK_THROUGH) != 0;
                 }
             }
-            else if (!pathingOptions.canPassDanger() && PathfindingUtils.isDangerous(block))
+            else if (!pathingOptions.canPassDanger() && (flags & PathingStateFlags.DANGEROUS) != 0)
             {
                 return false;
             }
             else
             {
-                if (PathfindingUtils.isLadder(block, pathingOptions))
+                if (PathingStateFlags.isLadder(flags, pathingOptions))
                 {
                     return true;
                 }
 
-                if (ShapeUtil.isEmpty(shape) || ShapeUtil.max(shape, Direction.Axis.Y) <= 0.1 && !PathfindingUtils.isLiquid((block)) && (block.getBlock() != Blocks.SNOW
+                if ((flags & PathingStateFlags.SHAPE_EMPTY) != 0
+                      || (flags & PathingStateFlags.SHAPE_FLAT) != 0 && (flags & PathingStateFlags.LIQUID) == 0 && (block.getBlock() != Blocks.SNOW
                                                                                                                                            || block.getValue(SnowLayerBlock.LAYERS)
                                                                                                                                                 == 1))
                 {
@@ -1374,16 +1648,36 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     protected boolean isPassable(final int x, final int y, final int z, final boolean head, final MNode parent)
     {
         final BlockState state = cachedBlockLookup.getBlockState(x, y, z);
-        final VoxelShape shape = state.getCollisionShape(world, tempWorldPos.set(x, y, z));
-        if (ShapeUtil.isEmpty(shape) || ShapeUtil.max(shape, Direction.Axis.Y) <= 0.1)
+        final int flags = getFlagsAt(state, x, y, z);
+        if ((flags & PathingStateFlags.SHAPE_FLAT) != 0)
         {
             return !head
-                     || !(state.getBlock() instanceof WoolCarpetBlock || state.getBlock() instanceof FloatingCarpetBlock)
-                     || PathfindingUtils.isLadder(state, pathingOptions);
+                     || (flags & PathingStateFlags.CARPET) == 0
+                     || PathingStateFlags.isLadder(flags, pathingOptions);
         }
         return isPassable(state, x, y, z, parent, head);
     }
 
+    /**
+     * Get the {@link PathingStateFlags} of the state, resolving the shape flags at the position for states with a dynamic shape.
+     *
+     * @param state the state.
+     * @param x     the x pos.
+     * @param y     the y pos.
+     * @param z     the z pos.
+     * @return the flags.
+     */
+    private int getFlagsAt(final BlockState state, final int x, final int y, final int z)
+    {
+        final int flags = PathingStateFlags.get(state);
+        if ((flags & PathingStateFlags.DYNAMIC_SHAPE) == 0)
+        {
+            return flags;
+        }
+
+        return flags | PathingStateFlags.getShapeFlags(state.getCollisionShape(world, tempWorldPos.set(x, y, z)));
+    }
+
     /**
      * Handles not passable positions
      *
@@ -1783,6 +2077,35 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return entity;
     }
 
+    /**
+     * Get the scheduling class of the job, derived from the entity by default.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        if (entity instanceof AbstractEntityRaiderMob || entity instanceof EntityMercenary)
+        {
+            return PathJobPriority.COMBAT;
+        }
+
+        if (entity instanceof AbstractEntityCitizen citizen && citizen.getCitizenData() != null)
+        {
+            final IJob<?> job = citizen.getCitizenData().getJob();
+            if (job instanceof AbstractJobGuard)
+            {
+                return PathJobPriority.COMBAT;
+            }
+
+            if (job instanceof JobDeliveryman)
+            {
+                return PathJobPriority.DELIVERY;
+            }
+        }
+
+        return PathJobPriority.WORK;
+    }
+
     @Override
     public Level getActualWorld()
     {
@@ -12,9 +12,7 @@ import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import static com.minecolonies.api.util.constant.PathingConstants.DEBUG_VERBOSITY_NONE;
 
@@ -62,22 +60,14 @@ public class PathJobEscapeWater extends AbstractPathJob implements IDestinationP
         }
     }
 
-    /**
-     * Perform the search.
-     *
-     * @return Path of a path to the given location, a best-effort, or null.
-     */
-    @Nullable
     @Override
-    protected Path search()
+    protected void prepareSearch()
     {
         if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
         {
             Log.getLogger().info(String.format("Pathfinding from [%d,%d,%d] away from [%d,%d,%d]",
               start.getX(), start.getY(), start.getZ(), avoid.getX(), avoid.getY(), avoid.getZ()));
         }
-
-        return super.search();
     }
 
     /**
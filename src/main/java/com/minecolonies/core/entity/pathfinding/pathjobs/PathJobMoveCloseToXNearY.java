@@ -17,9 +17,14 @@ import org.jetbrains.annotations.NotNull;
 public class PathJobMoveCloseToXNearY extends AbstractPathJob implements IDestinationPathJob
 {
     /**
-     * Position to go close to
+     * Max distance the desired position may move while searching, further moves need a new job
      */
-    public final BlockPos desiredPosition;
+    private static final int MAX_RETARGET_DISTANCE = 8;
+
+    /**
+     * Position to go close to, may move while searching
+     */
+    public volatile BlockPos desiredPosition;
 
     /**
      * Position to stay nearby
@@ -100,6 +105,18 @@ public class PathJobMoveCloseToXNearY extends AbstractPathJob implements IDestin
         }
     }
 
+    @Override
+    protected boolean canRetarget(@NotNull final BlockPos target)
+    {
+        return BlockPosUtil.distManhattan(desiredPosition, target) <= MAX_RETARGET_DISTANCE;
+    }
+
+    @Override
+    protected void onRetarget(@NotNull final BlockPos target)
+    {
+        desiredPosition = target;
+    }
+
     @Override
     public BlockPos getDestination()
     {
@@ -8,10 +8,13 @@ import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.core.entity.pathfinding.navigation.IDynamicHeuristicNavigator;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
+import com.minecolonies.core.entity.pathfinding.world.ChunkCache;
+import com.minecolonies.core.entity.pathfinding.world.ChunkPortalGraph;
+import com.minecolonies.core.entity.pathfinding.world.PortalRoute;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -23,8 +26,12 @@ public class PathJobMoveToLocation extends AbstractPathJob implements IDestinati
     private static final float    DESTINATION_SLACK_NONE     = 0.1F;
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float    DESTINATION_SLACK_ADJACENT = (float) Math.sqrt(2f);
+    // Min distance for which the route is planned over the chunk portal graph first
+    private static final int      PORTAL_ROUTE_MIN_DISTANCE  = 64;
+    // Max distance the destination may move while searching, further moves need a new job
+    private static final int      MAX_RETARGET_DISTANCE      = 8;
     @NotNull
-    protected final BlockPos destination;
+    protected volatile BlockPos destination;
     // 0 = exact match
     private              float    destinationSlack           = DESTINATION_SLACK_NONE;
 
@@ -33,6 +40,12 @@ public class PathJobMoveToLocation extends AbstractPathJob implements IDestinati
      */
     private double heuristicModifier = 1;
 
+    /**
+     * Abstract route guiding the search on long distances, null if not planned.
+     */
+    @Nullable
+    private PortalRoute portalRoute = null;
+
     /**
      * Prepares the PathJob for the path finding system.
      *
@@ -59,27 +72,50 @@ public class PathJobMoveToLocation extends AbstractPathJob implements IDestinati
         extraNodes = 4;
     }
 
-    /**
-     * Perform the search.
-     *
-     * @return Path of a path to the given location, a best-effort, or null.
-     */
-    @Nullable
     @Override
-    protected Path search()
+    protected void prepareSearch()
     {
-        //  Compute destination slack - if the destination point cannot be stood in
-        if (getGroundHeight(null, destination.getX(), destination.getY(), destination.getZ()) != destination.getY())
+        computeDestinationSlack();
+
+        if (BlockPosUtil.distManhattan(start, destination) >= PORTAL_ROUTE_MIN_DISTANCE && world instanceof ChunkCache chunkCache && getActualWorld() instanceof ServerLevel)
         {
-            destinationSlack = DESTINATION_SLACK_ADJACENT;
+            portalRoute = ChunkPortalGraph.get(getActualWorld()).findRoute(chunkCache, start, destination);
         }
+    }
 
-        return super.search();
+    /**
+     * Compute destination slack - if the destination point cannot be stood in
+     */
+    private void computeDestinationSlack()
+    {
+        destinationSlack = getGroundHeight(null, destination.getX(), destination.getY(), destination.getZ()) != destination.getY()
+                             ? DESTINATION_SLACK_ADJACENT
+                             : DESTINATION_SLACK_NONE;
+    }
+
+    @Override
+    protected boolean canRetarget(@NotNull final BlockPos target)
+    {
+        // Routed searches are planned for their destination, short ones just get a new heuristic
+        return BlockPosUtil.distManhattan(start, target) < PORTAL_ROUTE_MIN_DISTANCE
+                 && BlockPosUtil.distManhattan(start, destination) < PORTAL_ROUTE_MIN_DISTANCE
+                 && BlockPosUtil.distManhattan(destination, target) <= MAX_RETARGET_DISTANCE;
+    }
+
+    @Override
+    protected void onRetarget(@NotNull final BlockPos target)
+    {
+        destination = target;
+        computeDestinationSlack();
     }
 
     @Override
     protected double computeHeuristic(final int x, final int y, final int z)
     {
+        if (portalRoute != null)
+        {
+            return portalRoute.estimate(x, y, z) * heuristicModifier;
+        }
         return BlockPosUtil.distManhattan(destination, x, y, z) * heuristicModifier;
     }
 
@@ -166,7 +202,7 @@ public class PathJobMoveToLocation extends AbstractPathJob implements IDestinati
     @Override
     public String toString()
     {
-        return super.toString() + " destination:" + destination;
+        return super.toString() + " destination:" + destination + (portalRoute != null ? " legs:" + portalRoute.getLegCount() : "");
     }
 
     @Override
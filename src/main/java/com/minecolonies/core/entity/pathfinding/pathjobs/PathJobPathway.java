@@ -57,7 +57,7 @@ public class PathJobPathway extends AbstractPathJob implements IDestinationPathJ
         final LevelChunk chunk = (LevelChunk) world.getChunk(x >> 4, z >> 4);
         if (ColonyUtils.getOwningColony(chunk) == colonyid)
         {
-            return Math.sqrt(BlockPosUtil.distSqr(end.getX(), end.getY(), end.getZ(), x, y, z)) / (ColonyUtils.getAllClaimingBuildings(chunk).size() + 1);
+            return Math.sqrt(BlockPosUtil.distSqr(end.getX(), end.getY(), end.getZ(), x, y, z)) / (ColonyUtils.getBuildingClaimColonyCount(chunk) + 1);
         }
 
         return Math.sqrt(BlockPosUtil.distSqr(end.getX(), end.getY(), end.getZ(), x, y, z));
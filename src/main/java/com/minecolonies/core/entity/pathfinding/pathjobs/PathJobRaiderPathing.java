@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.core.colony.events.raid.RaidManager;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathingOptions;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
@@ -178,4 +179,10 @@ public class PathJobRaiderPathing extends AbstractPathJob implements IDestinatio
     {
         return direction;
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.COMBAT;
+    }
 }
@@ -2,6 +2,7 @@ package com.minecolonies.core.entity.pathfinding.pathjobs;
 
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.PathingOptions;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
@@ -12,6 +13,7 @@ import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Job that handles random pathing.
@@ -44,6 +46,12 @@ public class PathJobRandomPos extends AbstractPathJob implements IDestinationPat
      */
     private double heuristicModifier = 1.0;
 
+    /**
+     * The scheduling class chosen by the caller, null to derive it from the entity.
+     */
+    @Nullable
+    private final PathJobPriority priority;
+
     /**
      * Prepares the PathJob for the path finding system.
      *
@@ -52,15 +60,18 @@ public class PathJobRandomPos extends AbstractPathJob implements IDestinationPat
      * @param minDistFromStart how far to move away.
      * @param range            max range to search.
      * @param entity           the entity.
+     * @param priority         the scheduling class, null to derive it from the entity.
      */
     public PathJobRandomPos(
       final Level world,
       @NotNull final BlockPos start,
       final int minDistFromStart,
       final int range,
-      final Mob entity)
+      final Mob entity,
+      @Nullable final PathJobPriority priority)
     {
         super(world, start, range, new PathResult<PathJobRandomPos>(), entity);
+        this.priority = priority;
         this.minDistFromStart = minDistFromStart;
         this.maxDistToDest = -1;
 
@@ -80,6 +91,7 @@ public class PathJobRandomPos extends AbstractPathJob implements IDestinationPat
      * @param minDistFromStart how far to move away.
      * @param searchRange      max range to search.
      * @param entity           the entity.
+     * @param priority         the scheduling class, null to derive it from the entity.
      */
     public PathJobRandomPos(
       final Level world,
@@ -88,9 +100,11 @@ public class PathJobRandomPos extends AbstractPathJob implements IDestinationPat
       final int searchRange,
       final int maxDistToDest,
       final Mob entity,
-      @NotNull final BlockPos dest)
+      @NotNull final BlockPos dest,
+      @Nullable final PathJobPriority priority)
     {
         super(world, start, searchRange, new PathResult<PathJobRandomPos>(), entity);
+        this.priority = priority;
         this.minDistFromStart = minDistFromStart;
         this.maxDistToDest = maxDistToDest;
         this.destination = dest;
@@ -104,6 +118,7 @@ public class PathJobRandomPos extends AbstractPathJob implements IDestinationPat
      * @param minDistFromStart how far to move away.
      * @param range            max range to search.
      * @param entity           the entity.
+     * @param priority         the scheduling class, null to derive it from the entity.
      */
     public PathJobRandomPos(
       final Level world,
@@ -112,9 +127,11 @@ public class PathJobRandomPos extends AbstractPathJob implements IDestinationPat
       final int range,
       final Mob entity,
       final BlockPos startRestriction,
-      final BlockPos endRestriction)
+      final BlockPos endRestriction,
+      @Nullable final PathJobPriority priority)
     {
         super(world, start, range, new PathResult<PathJobRandomPos>(), entity);
+        this.priority = priority;
 
         restrictionBox = new AABB(Math.min(startRestriction.getX(), endRestriction.getX()),
           Math.min(startRestriction.getY(), endRestriction.getY()),
@@ -180,4 +197,10 @@ public class PathJobRandomPos extends AbstractPathJob implements IDestinationPat
     {
         return destination;
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return priority != null ? priority : super.getPriority();
+    }
 }
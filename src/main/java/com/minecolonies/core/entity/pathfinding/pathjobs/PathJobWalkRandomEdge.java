@@ -3,6 +3,7 @@ package com.minecolonies.core.entity.pathfinding.pathjobs;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobPriority;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import net.minecraft.core.BlockPos;
@@ -67,4 +68,10 @@ public class PathJobWalkRandomEdge extends AbstractPathJob implements ISearchPat
     {
         return BlockPosUtil.distManhattan(start, n.x, n.y, n.z);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.IDLE;
+    }
 }
@@ -10,6 +10,7 @@ import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -59,6 +60,11 @@ public class PathResult<T extends AbstractPathJob>
      */
     public int searchedNodes = 0;
 
+    /**
+     * Whether the path was taken from the path cache
+     */
+    private boolean fromCache = false;
+
     /**
      * The players getting debug information
      */
@@ -217,6 +223,32 @@ public class PathResult<T extends AbstractPathJob>
         }
     }
 
+    /**
+     * Completes the result with an already known path instead of queuing the job.
+     *
+     * @param cachedPath  the path, owned by this result.
+     * @param costPerDist the cost per distance of the path.
+     */
+    public void completeWithCachedPath(final Path cachedPath, final double costPerDist)
+    {
+        path = cachedPath;
+        this.costPerDist = costPerDist;
+        pathReachesDestination = cachedPath.canReach();
+        fromCache = true;
+        setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+        pathingDoneAndProcessed = true;
+    }
+
+    /**
+     * Whether the path was taken from the path cache.
+     *
+     * @return true if so.
+     */
+    public boolean isFromCache()
+    {
+        return fromCache;
+    }
+
     /**
      * Checks for debug tracking
      */
@@ -287,6 +319,12 @@ public class PathResult<T extends AbstractPathJob>
                 Log.getLogger().info(" Finished pathjob:" + job + " reaches: " + path.canReach() + " path target:" + path.getTarget());
             }
         }
+        catch (CancellationException e)
+        {
+            // Replaced by a newer job of the entity or dropped by the full queue
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CANCELLED);
+        }
         catch (InterruptedException | ExecutionException e)
         {
             Log.getLogger().catching(e);
@@ -327,9 +365,15 @@ public class PathResult<T extends AbstractPathJob>
      */
     public void cancel()
     {
+        if (job != null)
+        {
+            // Cooperative, the search stops at its next check without interrupting the pathfinding thread
+            job.cancel();
+        }
+
         if (pathCalculation != null)
         {
-            pathCalculation.cancel(true);
+            pathCalculation.cancel(false);
             pathCalculation = null;
         }
 
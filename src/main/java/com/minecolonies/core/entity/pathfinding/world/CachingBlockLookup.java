@@ -5,8 +5,6 @@ import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
-import net.minecraft.world.level.chunk.ChunkStatus;
 import net.minecraft.world.level.material.FluidState;
 import org.jetbrains.annotations.Nullable;
 
@@ -41,8 +39,6 @@ public class CachingBlockLookup implements BlockGetter
     private BlockState[] states   = new BlockState[SIZE * SIZE * SIZE];
     private BlockState[] exchange = new BlockState[SIZE * SIZE * SIZE];
 
-    private ChunkAccess chunk = null;
-
     public CachingBlockLookup(final BlockPos center, final LevelReader world)
     {
         centerX = center.getX() + MIDDLEOFFSET;
@@ -99,20 +95,8 @@ public class CachingBlockLookup implements BlockGetter
             BlockState state = states[index];
             if (state == null)
             {
-                if (chunk == null || chunk.getPos().x != x >> 4 || chunk.getPos().z != z >> 4)
-                {
-                    chunk = world.getChunk(x >> 4, z >> 4, ChunkStatus.FULL, false);
-                }
-
-                if (chunk != null)
-                {
-                    state = chunk.getBlockState(temp.set(x, y, z));
-                }
-                else
-                {
-                    state = world.getBlockState(temp.set(x, y, z));
-                }
-
+                // Goes through the world cache, which serves shared section snapshots
+                state = world.getBlockState(temp.set(x, y, z));
                 states[index] = state;
             }
 
@@ -1,12 +1,15 @@
 package com.minecolonies.core.entity.pathfinding.world;
 
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.entity.pathfinding.world.ChunkSectionSnapshotCache.SectionSnapshot;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.SectionPos;
 import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.flag.FeatureFlagSet;
 import net.minecraft.world.level.ChunkPos;
@@ -30,6 +33,8 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
@@ -59,6 +64,28 @@ public class ChunkCache implements LevelReader
     private final int minBuildHeight;
     private final int maxBuildHeight;
 
+    /**
+     * Shared section snapshots of the dimension, null on the client.
+     */
+    @Nullable
+    private final ChunkSectionSnapshotCache sectionCache;
+
+    /**
+     * Sections already resolved by this cache, avoids going to the shared cache for every read.
+     */
+    private final Long2ObjectOpenHashMap<SectionSnapshot> sections = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Sections without a snapshot, read live for the rest of this job.
+     */
+    private final LongOpenHashSet liveSections = new LongOpenHashSet();
+
+    /**
+     * Last resolved section.
+     */
+    private long            lastSectionKey = Long.MAX_VALUE;
+    private SectionSnapshot lastSection    = null;
+
     public ChunkCache(Level worldIn, BlockPos posFromIn, BlockPos posToIn)
     {
         this.world = worldIn;
@@ -87,6 +114,50 @@ public class ChunkCache implements LevelReader
 
         minBuildHeight = worldIn.getMinBuildHeight();
         maxBuildHeight = worldIn.getMaxBuildHeight();
+        sectionCache = worldIn instanceof ServerLevel ? ChunkSectionSnapshotCache.get(worldIn) : null;
+    }
+
+    /**
+     * Get the snapshot of the section at the given y level of the chunk.
+     *
+     * @param chunk the chunk.
+     * @param y     the block y.
+     * @return the snapshot or null if there is none available.
+     */
+    @Nullable
+    private SectionSnapshot getSection(final LevelChunk chunk, final int y)
+    {
+        if (sectionCache == null)
+        {
+            return null;
+        }
+
+        final long key = SectionPos.asLong(chunk.getPos().x, SectionPos.blockToSectionCoord(y), chunk.getPos().z);
+        if (key == lastSectionKey)
+        {
+            return lastSection;
+        }
+
+        SectionSnapshot section = sections.get(key);
+        if (section == null)
+        {
+            if (liveSections.contains(key))
+            {
+                return null;
+            }
+
+            section = sectionCache.getSection(chunk, y);
+            if (section == null)
+            {
+                liveSections.add(key);
+                return null;
+            }
+            sections.put(key, section);
+        }
+
+        lastSectionKey = key;
+        lastSection = section;
+        return section;
     }
 
     /**
@@ -146,7 +217,8 @@ public class ChunkCache implements LevelReader
 
                 if (chunk != null)
                 {
-                    return chunk.getBlockState(pos);
+                    final SectionSnapshot section = getSection(chunk, pos.getY());
+                    return section == null ? chunk.getBlockState(pos) : section.getBlockState(pos.getX(), pos.getY(), pos.getZ());
                 }
             }
         }
@@ -169,7 +241,8 @@ public class ChunkCache implements LevelReader
 
                 if (chunk != null)
                 {
-                    return chunk.getFluidState(pos);
+                    final SectionSnapshot section = getSection(chunk, pos.getY());
+                    return section == null ? chunk.getFluidState(pos) : section.getBlockState(pos.getX(), pos.getY(), pos.getZ()).getFluidState();
                 }
             }
         }
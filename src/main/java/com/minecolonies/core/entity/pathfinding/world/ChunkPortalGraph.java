@@ -0,0 +1,720 @@
+package com.minecolonies.core.entity.pathfinding.world;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.core.entity.pathfinding.PathingStateFlags;
+import com.minecolonies.core.entity.pathfinding.SurfaceType;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dimension wide abstract graph of walkable portals between chunk borders, used to plan long routes before the detailed A* search.
+ * <p>
+ * Portals are walkable surface crossings from one chunk into its horizontal neighbour, contiguous crossings along a border are merged into one portal at their middle. The
+ * portals of a chunk are computed lazily by the first path job needing them and get dropped again when a block in or next to the chunk changes, the chunk unloads or
+ * they reach their lifetime. The surface columns of a chunk are grouped into walkable regions, a route only leaves a chunk through the exits of the region it entered.
+ */
+public final class ChunkPortalGraph
+{
+    /**
+     * Max amount of abstract nodes expanded for a single route.
+     */
+    private static final int MAX_ROUTE_NODES = 4096;
+
+    /**
+     * Max height difference between both sides of a portal.
+     */
+    private static final int MAX_PORTAL_STEP = 1;
+
+    /**
+     * Max height difference between the start or destination and the surface of its column for a route to be planned, portals only exist on the surface.
+     */
+    private static final int MAX_SURFACE_OFFSET = 2;
+
+    /**
+     * Ticks computed portals are kept, as a safety net for changes which do not cause a block update.
+     */
+    private static final long PORTAL_LIFETIME = 20L * 60 * 5;
+
+    /**
+     * Region of columns no entity can stand on.
+     */
+    private static final short NO_REGION = -1;
+
+    /**
+     * The graphs by dimension.
+     */
+    private static final Map<ResourceKey<Level>, ChunkPortalGraph> GRAPHS = new ConcurrentHashMap<>();
+
+    /**
+     * Portals by chunk position.
+     */
+    private final ConcurrentHashMap<Long, ChunkPortals> portals = new ConcurrentHashMap<>();
+
+    /**
+     * Version counters of invalidated chunks.
+     */
+    private final ConcurrentHashMap<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    /**
+     * The level of the graph, for the lifetime of the portals.
+     */
+    private final Level level;
+
+    /**
+     * Create the graph of a level, use get.
+     *
+     * @param level the level.
+     */
+    private ChunkPortalGraph(final Level level)
+    {
+        this.level = level;
+    }
+
+    /**
+     * Get the portal graph of the given level.
+     *
+     * @param level the level.
+     * @return the graph.
+     */
+    public static ChunkPortalGraph get(@NotNull final Level level)
+    {
+        return GRAPHS.computeIfAbsent(level.dimension(), key -> new ChunkPortalGraph(level));
+    }
+
+    /**
+     * Get the portal graph of the given level, if one exists.
+     *
+     * @param level the level.
+     * @return the graph or null.
+     */
+    @Nullable
+    public static ChunkPortalGraph getIfPresent(@NotNull final Level level)
+    {
+        return GRAPHS.get(level.dimension());
+    }
+
+    /**
+     * Drops the graph of the given level.
+     *
+     * @param level the level.
+     */
+    public static void remove(@NotNull final Level level)
+    {
+        GRAPHS.remove(level.dimension());
+    }
+
+    /**
+     * Drops all graphs.
+     */
+    public static void clearAll()
+    {
+        GRAPHS.clear();
+    }
+
+    /**
+     * Drops the portals of the chunk containing the position, and of the neighbour sharing the border if the position is on one. Called on block changes.
+     *
+     * @param pos the changed position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        invalidateChunk(chunkX, chunkZ);
+
+        final int localX = pos.getX() & 15;
+        final int localZ = pos.getZ() & 15;
+        if (localX == 0)
+        {
+            invalidateChunk(chunkX - 1, chunkZ);
+        }
+        else if (localX == 15)
+        {
+            invalidateChunk(chunkX + 1, chunkZ);
+        }
+
+        if (localZ == 0)
+        {
+            invalidateChunk(chunkX, chunkZ - 1);
+        }
+        else if (localZ == 15)
+        {
+            invalidateChunk(chunkX, chunkZ + 1);
+        }
+    }
+
+    /**
+     * Drops the portals of the chunk and its neighbours, called on chunk unload.
+     *
+     * @param chunkPos the chunk.
+     */
+    public void onChunkUnload(@NotNull final ChunkPos chunkPos)
+    {
+        portals.remove(chunkPos.toLong());
+        versions.remove(chunkPos.toLong());
+        for (final Direction dir : BlockPosUtil.HORIZONTAL_DIRS)
+        {
+            invalidateChunk(chunkPos.x + dir.getStepX(), chunkPos.z + dir.getStepZ());
+        }
+    }
+
+    /**
+     * Drops the portals of a single chunk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     */
+    private void invalidateChunk(final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        versions.merge(key, 1, Integer::sum);
+        portals.remove(key);
+    }
+
+    /**
+     * Amount of chunks with computed portals.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return portals.size();
+    }
+
+    /**
+     * Plans a route over the portal graph, limited to the chunks available in the path job's chunk cache.
+     *
+     * @param world the chunk cache of the path job.
+     * @param start the start position.
+     * @param end   the destination.
+     * @return the route, or null if no route was found.
+     */
+    @Nullable
+    public PortalRoute findRoute(@NotNull final ChunkCache world, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        // The surface under a ceiling is the roof, and searches starting or ending below the surface would be steered to unreachable exits.
+        if (world.dimensionType().hasCeiling() || !isNearSurface(world, start) || !isNearSurface(world, end))
+        {
+            return null;
+        }
+
+        final int endChunkX = end.getX() >> 4;
+        final int endChunkZ = end.getZ() >> 4;
+        final long startKey = start.asLong();
+
+        // Abstract nodes are the positions at which a chunk gets entered, the start being the first one.
+        final Long2DoubleOpenHashMap costs = new Long2DoubleOpenHashMap();
+        costs.defaultReturnValue(Double.MAX_VALUE);
+        final Long2LongOpenHashMap cameFrom = new Long2LongOpenHashMap();
+        final Long2LongOpenHashMap exitPortal = new Long2LongOpenHashMap();
+        final PriorityQueue<RouteNode> open = new PriorityQueue<>();
+
+        costs.put(startKey, 0);
+        open.add(new RouteNode(startKey, BlockPosUtil.distManhattan(start, end)));
+
+        int expanded = 0;
+        while (!open.isEmpty() && expanded < MAX_ROUTE_NODES)
+        {
+            final RouteNode node = open.poll();
+            final BlockPos pos = BlockPos.of(node.pos);
+            final double cost = costs.get(node.pos);
+            if (node.score > cost + BlockPosUtil.distManhattan(pos, end))
+            {
+                // Outdated queue entry
+                continue;
+            }
+            expanded++;
+
+            final int chunkX = pos.getX() >> 4;
+            final int chunkZ = pos.getZ() >> 4;
+            final ChunkPortals chunkPortals = getPortals(world, chunkX, chunkZ);
+            if (chunkPortals == null)
+            {
+                continue;
+            }
+
+            // Only the part of the chunk connected to the node can be walked to.
+            final short region = chunkPortals.getRegion(pos.getX(), pos.getZ());
+            if (chunkX == endChunkX && chunkZ == endChunkZ)
+            {
+                final short endRegion = chunkPortals.getRegion(end.getX(), end.getZ());
+                if (endRegion == NO_REGION || endRegion == region)
+                {
+                    return buildRoute(node.pos, startKey, cameFrom, exitPortal, start, end);
+                }
+            }
+
+            if (region == NO_REGION)
+            {
+                continue;
+            }
+
+            for (int i = 0; i < chunkPortals.exits.length; i++)
+            {
+                if (chunkPortals.exitRegions[i] != region)
+                {
+                    continue;
+                }
+
+                final BlockPos exit = BlockPos.of(chunkPortals.exits[i]);
+                final long entry = chunkPortals.entries[i];
+                final BlockPos entryPos = BlockPos.of(entry);
+                final double newCost = cost + BlockPosUtil.distManhattan(pos, exit) + BlockPosUtil.distManhattan(exit, entryPos);
+                if (newCost < costs.get(entry))
+                {
+                    costs.put(entry, newCost);
+                    cameFrom.put(entry, node.pos);
+                    exitPortal.put(entry, chunkPortals.exits[i]);
+                    open.add(new RouteNode(entry, newCost + BlockPosUtil.distManhattan(entryPos, end)));
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if the position is close to the surface of its column.
+     *
+     * @param world the chunk cache.
+     * @param pos   the position.
+     * @return true if so, false if it is away from the surface or the chunk is not available.
+     */
+    private static boolean isNearSurface(final ChunkCache world, final BlockPos pos)
+    {
+        final ChunkAccess chunk = world.getChunk(pos.getX() >> 4, pos.getZ() >> 4, ChunkStatus.FULL, false);
+        return chunk != null && Math.abs(pos.getY() - getStandY(chunk, pos.getX(), pos.getZ())) <= MAX_SURFACE_OFFSET;
+    }
+
+    /**
+     * Collects the portal exits along the found route.
+     *
+     * @param last       the entry node in the destination chunk.
+     * @param startKey   the start node.
+     * @param cameFrom   the previous node by node.
+     * @param exitPortal the portal exit used to reach a node.
+     * @param start      the start position.
+     * @param end        the destination.
+     * @return the route.
+     */
+    private static PortalRoute buildRoute(
+      final long last,
+      final long startKey,
+      final Long2LongOpenHashMap cameFrom,
+      final Long2LongOpenHashMap exitPortal,
+      final BlockPos start,
+      final BlockPos end)
+    {
+        final LongArrayList waypoints = new LongArrayList();
+        long current = last;
+        while (current != startKey)
+        {
+            waypoints.add(current);
+            waypoints.add(exitPortal.get(current));
+            current = cameFrom.get(current);
+        }
+
+        final long[] ordered = new long[waypoints.size()];
+        for (int i = 0; i < ordered.length; i++)
+        {
+            ordered[i] = waypoints.getLong(ordered.length - 1 - i);
+        }
+        return new PortalRoute(ordered, start, end);
+    }
+
+    /**
+     * Get the portals of a chunk, computing them if needed.
+     *
+     * @param world  the chunk cache.
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the portals or null if the chunk is not available.
+     */
+    @Nullable
+    private ChunkPortals getPortals(final ChunkCache world, final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final ChunkPortals existing = portals.get(key);
+        if (existing != null)
+        {
+            if (existing.expiresAt > level.getGameTime())
+            {
+                return existing;
+            }
+            portals.remove(key, existing);
+        }
+
+        final ChunkAccess chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+        if (chunk == null)
+        {
+            return null;
+        }
+
+        final int version = versions.getOrDefault(key, 0);
+        final ChunkPortals computed = computePortals(world, chunk, chunkX, chunkZ, level.getGameTime() + PORTAL_LIFETIME);
+
+        if (computed.complete)
+        {
+            portals.compute(key, (k, old) -> versions.getOrDefault(k, 0) == version ? computed : old);
+        }
+        return computed;
+    }
+
+    /**
+     * Groups the surface columns of the chunk into walkable regions and scans the four borders for walkable crossings.
+     *
+     * @param world     the chunk cache.
+     * @param chunk     the chunk.
+     * @param chunkX    the chunk x.
+     * @param chunkZ    the chunk z.
+     * @param expiresAt the game time the portals expire at.
+     * @return the portals, only complete if all neighbours were available.
+     */
+    private static ChunkPortals computePortals(final ChunkCache world, final ChunkAccess chunk, final int chunkX, final int chunkZ, final long expiresAt)
+    {
+        final LongArrayList exits = new LongArrayList();
+        final LongArrayList entries = new LongArrayList();
+        final ShortArrayList exitRegions = new ShortArrayList();
+        final BlockPos.MutableBlockPos tempPos = new BlockPos.MutableBlockPos();
+        final short[] regions = computeRegions(world, chunk, chunkX, chunkZ, tempPos);
+        boolean complete = true;
+
+        for (final Direction dir : BlockPosUtil.HORIZONTAL_DIRS)
+        {
+            final ChunkAccess neighbour = world.getChunk(chunkX + dir.getStepX(), chunkZ + dir.getStepZ(), ChunkStatus.FULL, false);
+            if (neighbour == null)
+            {
+                // Portals towards chunks outside of this job's area are unknown, do not share the result.
+                complete = false;
+                continue;
+            }
+
+            int runStart = -1;
+            int runY = 0;
+            short runRegion = NO_REGION;
+            for (int i = 0; i <= 16; i++)
+            {
+                int standY = Integer.MIN_VALUE;
+                short region = NO_REGION;
+                if (i < 16)
+                {
+                    final int x = (chunkX << 4) + (dir.getAxis() == Direction.Axis.X ? (dir.getStepX() > 0 ? 15 : 0) : i);
+                    final int z = (chunkZ << 4) + (dir.getAxis() == Direction.Axis.Z ? (dir.getStepZ() > 0 ? 15 : 0) : i);
+                    standY = getCrossingY(world, chunk, neighbour, x, z, dir, tempPos);
+                    region = regions[columnIndex(x, z)];
+                    if (region == NO_REGION)
+                    {
+                        standY = Integer.MIN_VALUE;
+                    }
+                }
+
+                // Close the current run of crossings when it ends, changes height or region.
+                if (runStart >= 0 && (standY == Integer.MIN_VALUE || standY != runY || region != runRegion))
+                {
+                    final int middle = (runStart + i - 1) / 2;
+                    final int x = (chunkX << 4) + (dir.getAxis() == Direction.Axis.X ? (dir.getStepX() > 0 ? 15 : 0) : middle);
+                    final int z = (chunkZ << 4) + (dir.getAxis() == Direction.Axis.Z ? (dir.getStepZ() > 0 ? 15 : 0) : middle);
+                    final int otherY = getStandY(neighbour, x + dir.getStepX(), z + dir.getStepZ());
+                    exits.add(BlockPos.asLong(x, runY, z));
+                    entries.add(BlockPos.asLong(x + dir.getStepX(), otherY, z + dir.getStepZ()));
+                    exitRegions.add(runRegion);
+                    runStart = -1;
+                }
+
+                if (standY != Integer.MIN_VALUE && runStart < 0)
+                {
+                    runStart = i;
+                    runY = standY;
+                    runRegion = region;
+                }
+            }
+        }
+
+        return new ChunkPortals(exits.toLongArray(), entries.toLongArray(), exitRegions.toShortArray(), regions, complete, expiresAt);
+    }
+
+    /**
+     * Flood fills the surface columns of the chunk, columns an entity can walk between without leaving the chunk share a region.
+     *
+     * @param world   the chunk cache.
+     * @param chunk   the chunk.
+     * @param chunkX  the chunk x.
+     * @param chunkZ  the chunk z.
+     * @param tempPos position to reuse.
+     * @return the region by column index, {@link #NO_REGION} for columns which can not be stood on.
+     */
+    private static short[] computeRegions(final ChunkCache world, final ChunkAccess chunk, final int chunkX, final int chunkZ, final BlockPos.MutableBlockPos tempPos)
+    {
+        final int[] standY = new int[256];
+        final short[] regions = new short[256];
+        for (int index = 0; index < 256; index++)
+        {
+            final int x = (chunkX << 4) + (index & 15);
+            final int z = (chunkZ << 4) + (index >> 4);
+            standY[index] = getStandY(chunk, x, z);
+            regions[index] = canStand(world, x, standY[index], z, tempPos) ? 0 : NO_REGION;
+        }
+
+        final int[] stack = new int[256];
+        short nextRegion = 1;
+        for (int seed = 0; seed < 256; seed++)
+        {
+            if (regions[seed] != 0)
+            {
+                continue;
+            }
+
+            final short region = nextRegion++;
+            regions[seed] = region;
+            int stackSize = 0;
+            stack[stackSize++] = seed;
+            while (stackSize > 0)
+            {
+                final int index = stack[--stackSize];
+                final int localX = index & 15;
+                final int localZ = index >> 4;
+                for (final Direction dir : BlockPosUtil.HORIZONTAL_DIRS)
+                {
+                    final int otherX = localX + dir.getStepX();
+                    final int otherZ = localZ + dir.getStepZ();
+                    if (otherX < 0 || otherX > 15 || otherZ < 0 || otherZ > 15)
+                    {
+                        continue;
+                    }
+
+                    final int other = otherX | otherZ << 4;
+                    if (regions[other] != 0 || Math.abs(standY[index] - standY[other]) > MAX_PORTAL_STEP)
+                    {
+                        continue;
+                    }
+
+                    // Stepping up needs head room above the lower side.
+                    final int top = Math.max(standY[index], standY[other]);
+                    if (!isFree(world, (chunkX << 4) + localX, top + 1, (chunkZ << 4) + localZ, tempPos)
+                          || !isFree(world, (chunkX << 4) + otherX, top + 1, (chunkZ << 4) + otherZ, tempPos))
+                    {
+                        continue;
+                    }
+
+                    regions[other] = region;
+                    stack[stackSize++] = other;
+                }
+            }
+        }
+
+        // Regions start at 1 while filling, shift them so they index from 0.
+        for (int index = 0; index < 256; index++)
+        {
+            if (regions[index] != NO_REGION)
+            {
+                regions[index]--;
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Get the index of a column within its chunk.
+     *
+     * @param x the block x.
+     * @param z the block z.
+     * @return the column index.
+     */
+    private static int columnIndex(final int x, final int z)
+    {
+        return (x & 15) | (z & 15) << 4;
+    }
+
+    /**
+     * Checks if the surface can be walked from the border column into the neighbour.
+     *
+     * @param world     the chunk cache.
+     * @param chunk     the chunk.
+     * @param neighbour the neighbouring chunk.
+     * @param x         the border column x.
+     * @param z         the border column z.
+     * @param dir       the direction of the neighbour.
+     * @param tempPos   position to reuse.
+     * @return the standing y on this side, or Integer.MIN_VALUE if it is no crossing.
+     */
+    private static int getCrossingY(
+      final ChunkCache world,
+      final ChunkAccess chunk,
+      final ChunkAccess neighbour,
+      final int x,
+      final int z,
+      final Direction dir,
+      final BlockPos.MutableBlockPos tempPos)
+    {
+        final int y = getStandY(chunk, x, z);
+        final int otherX = x + dir.getStepX();
+        final int otherZ = z + dir.getStepZ();
+        final int otherY = getStandY(neighbour, otherX, otherZ);
+        if (Math.abs(y - otherY) > MAX_PORTAL_STEP)
+        {
+            return Integer.MIN_VALUE;
+        }
+
+        if (!canStand(world, x, y, z, tempPos) || !canStand(world, otherX, otherY, otherZ, tempPos))
+        {
+            return Integer.MIN_VALUE;
+        }
+
+        // Stepping up needs head room above the lower side.
+        final int top = Math.max(y, otherY);
+        if (!isFree(world, x, top + 1, z, tempPos) || !isFree(world, otherX, top + 1, otherZ, tempPos))
+        {
+            return Integer.MIN_VALUE;
+        }
+        return y;
+    }
+
+    /**
+     * Get the y an entity stands at on top of the surface of the column.
+     *
+     * @param chunk the chunk.
+     * @param x     the block x.
+     * @param z     the block z.
+     * @return the standing y.
+     */
+    private static int getStandY(final ChunkAccess chunk, final int x, final int z)
+    {
+        return chunk.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x & 15, z & 15) + 1;
+    }
+
+    /**
+     * Checks if the surface below the position is walkable and there is space for an entity.
+     *
+     * @param world   the chunk cache.
+     * @param x       the x.
+     * @param y       the standing y.
+     * @param z       the z.
+     * @param tempPos position to reuse.
+     * @return true if an entity can stand there.
+     */
+    private static boolean canStand(final ChunkCache world, final int x, final int y, final int z, final BlockPos.MutableBlockPos tempPos)
+    {
+        tempPos.set(x, y - 1, z);
+        if (SurfaceType.getSurfaceType(world, world.getBlockState(tempPos), tempPos) != SurfaceType.WALKABLE)
+        {
+            return false;
+        }
+        return isFree(world, x, y, z, tempPos) && isFree(world, x, y + 1, z, tempPos);
+    }
+
+    /**
+     * Checks if the position does not block an entity, following the passability rules of the path jobs. Doors and trapdoors count as free regardless of the side
+     * they are entered from, the detailed search decides on those.
+     *
+     * @param world   the chunk cache.
+     * @param x       the x.
+     * @param y       the y.
+     * @param z       the z.
+     * @param tempPos position to reuse.
+     * @return true if free.
+     */
+    private static boolean isFree(final ChunkCache world, final int x, final int y, final int z, final BlockPos.MutableBlockPos tempPos)
+    {
+        final BlockState state = world.getBlockState(tempPos.set(x, y, z));
+        int flags = PathingStateFlags.get(state);
+        if ((flags & PathingStateFlags.DYNAMIC_SHAPE) != 0)
+        {
+            flags |= PathingStateFlags.getShapeFlags(state.getCollisionShape(world, tempPos));
+        }
+
+        if ((flags & PathingStateFlags.DANGEROUS) != 0)
+        {
+            return false;
+        }
+        return (flags & (PathingStateFlags.SHAPE_FLAT | PathingStateFlags.DOOR | PathingStateFlags.TOGGLEABLE | PathingStateFlags.WALK_THROUGH)) != 0;
+    }
+
+    /**
+     * Portals of a single chunk, exits on this side and entries on the neighbour's side, by index.
+     */
+    private static final class ChunkPortals
+    {
+        private final long[]  exits;
+        private final long[]  entries;
+
+        /**
+         * The region of the column of each exit.
+         */
+        private final short[] exitRegions;
+
+        /**
+         * The region of each column of the chunk.
+         */
+        private final short[] regions;
+
+        /**
+         * Whether all four borders could be scanned.
+         */
+        private final boolean complete;
+
+        /**
+         * The game time the portals have to be computed again at.
+         */
+        private final long expiresAt;
+
+        private ChunkPortals(final long[] exits, final long[] entries, final short[] exitRegions, final short[] regions, final boolean complete, final long expiresAt)
+        {
+            this.exits = exits;
+            this.entries = entries;
+            this.exitRegions = exitRegions;
+            this.regions = regions;
+            this.complete = complete;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Get the region of a column of the chunk.
+         *
+         * @param x the block x.
+         * @param z the block z.
+         * @return the region, or {@link #NO_REGION} if the column can not be stood on.
+         */
+        private short getRegion(final int x, final int z)
+        {
+            return regions[columnIndex(x, z)];
+        }
+    }
+
+    /**
+     * Queue entry of the route search.
+     */
+    private static final class RouteNode implements Comparable<RouteNode>
+    {
+        private final long   pos;
+        private final double score;
+
+        private RouteNode(final long pos, final double score)
+        {
+            this.pos = pos;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(@NotNull final RouteNode other)
+        {
+            return Double.compare(score, other.score);
+        }
+    }
+}
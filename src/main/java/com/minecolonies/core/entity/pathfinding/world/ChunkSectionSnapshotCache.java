@@ -0,0 +1,288 @@
+package com.minecolonies.core.entity.pathfinding.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dimension wide cache of immutable chunk section copies, shared read-only by all pathfinding jobs.
+ * <p>
+ * A job reading a section without a snapshot reads it live and requests a copy. The copies are taken at the end of the level tick on the server thread, where no
+ * block can change while copying. Snapshots get dropped again when a block in them changes, the chunk unloads or the snapshot times out.
+ */
+public final class ChunkSectionSnapshotCache
+{
+    /**
+     * Ticks a snapshot stays valid, catches block changes which neither notify neighbours nor emit a game event.
+     */
+    private static final long SNAPSHOT_LIFETIME = 20 * 10;
+
+    /**
+     * Maximum amount of sections copied per level tick.
+     */
+    private static final int MAX_COPIES_PER_TICK = 64;
+
+    /**
+     * The caches by dimension.
+     */
+    private static final Map<ResourceKey<Level>, ChunkSectionSnapshotCache> CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * The level the snapshots are taken from.
+     */
+    private final Level level;
+
+    /**
+     * Current snapshots by section position.
+     */
+    private final ConcurrentHashMap<Long, SectionSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Sections requested by jobs which are copied on the next level tick.
+     */
+    private final Set<Long> pendingSections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Statistics.
+     */
+    private final LongAdder hits          = new LongAdder();
+    private final LongAdder misses        = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private ChunkSectionSnapshotCache(final Level level)
+    {
+        this.level = level;
+    }
+
+    /**
+     * Get the shared cache of the given level.
+     *
+     * @param level the level.
+     * @return the cache.
+     */
+    public static ChunkSectionSnapshotCache get(@NotNull final Level level)
+    {
+        return CACHES.computeIfAbsent(level.dimension(), key -> new ChunkSectionSnapshotCache(level));
+    }
+
+    /**
+     * Get the shared cache of the given level, if one exists.
+     *
+     * @param level the level.
+     * @return the cache or null.
+     */
+    @Nullable
+    public static ChunkSectionSnapshotCache getIfPresent(@NotNull final Level level)
+    {
+        return CACHES.get(level.dimension());
+    }
+
+    /**
+     * Drops the cache of the given level.
+     *
+     * @param level the level.
+     */
+    public static void remove(@NotNull final Level level)
+    {
+        CACHES.remove(level.dimension());
+    }
+
+    /**
+     * Get the caches of all dimensions.
+     *
+     * @return the caches.
+     */
+    public static Collection<ChunkSectionSnapshotCache> getAll()
+    {
+        return CACHES.values();
+    }
+
+    /**
+     * Drops all caches.
+     */
+    public static void clearAll()
+    {
+        CACHES.clear();
+    }
+
+    /**
+     * Get the snapshot of the section containing the given y level. Without a valid snapshot a copy is requested for the next level tick.
+     *
+     * @param chunk the loaded chunk.
+     * @param y     the block y.
+     * @return the snapshot, or null if the section has to be read live for now.
+     */
+    @Nullable
+    public SectionSnapshot getSection(@NotNull final LevelChunk chunk, final int y)
+    {
+        final long key = SectionPos.asLong(chunk.getPos().x, SectionPos.blockToSectionCoord(y), chunk.getPos().z);
+        final SectionSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.expiresAt >= level.getGameTime())
+        {
+            hits.increment();
+            return snapshot;
+        }
+
+        misses.increment();
+        pendingSections.add(key);
+        return null;
+    }
+
+    /**
+     * Copies the requested sections, called on the server thread at the end of the level tick.
+     */
+    public void copyPendingSections()
+    {
+        final Iterator<Long> iterator = pendingSections.iterator();
+        for (int copied = 0; copied < MAX_COPIES_PER_TICK && iterator.hasNext(); copied++)
+        {
+            final long key = iterator.next();
+            iterator.remove();
+
+            final LevelChunk chunk = level.getChunkSource().getChunkNow(SectionPos.x(key), SectionPos.z(key));
+            if (chunk == null)
+            {
+                continue;
+            }
+
+            final int sectionIndex = chunk.getSectionIndexFromSectionY(SectionPos.y(key));
+            if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount())
+            {
+                continue;
+            }
+
+            final LevelChunkSection section = chunk.getSection(sectionIndex);
+            snapshots.put(key, new SectionSnapshot(section.getStates().copy(), level.getGameTime() + SNAPSHOT_LIFETIME));
+        }
+    }
+
+    /**
+     * Invalidates the section containing the given position, called on block changes.
+     *
+     * @param pos the changed position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        if (snapshots.remove(SectionPos.asLong(pos)) != null)
+        {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Drops all sections of an unloading chunk.
+     *
+     * @param chunk the chunk.
+     */
+    public void onChunkUnload(@NotNull final LevelChunk chunk)
+    {
+        for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++)
+        {
+            final long key = SectionPos.asLong(chunk.getPos().x, sectionY, chunk.getPos().z);
+            pendingSections.remove(key);
+            if (snapshots.remove(key) != null)
+            {
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Get the level of the cache.
+     *
+     * @return the level.
+     */
+    public Level getLevel()
+    {
+        return level;
+    }
+
+    /**
+     * Amount of section reads served from an existing snapshot.
+     *
+     * @return the hit count.
+     */
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Amount of section reads which had to read the section live and requested a copy.
+     *
+     * @return the miss count.
+     */
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Amount of snapshots dropped due to block changes or chunk unloads.
+     *
+     * @return the invalidation count.
+     */
+    public long getInvalidations()
+    {
+        return invalidations.sum();
+    }
+
+    /**
+     * Amount of currently cached sections.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return snapshots.size();
+    }
+
+    /**
+     * Immutable copy of a single chunk section.
+     */
+    public static final class SectionSnapshot
+    {
+        /**
+         * Copied states.
+         */
+        private final PalettedContainer<BlockState> states;
+
+        /**
+         * Game time after which the snapshot is no longer used.
+         */
+        private final long expiresAt;
+
+        private SectionSnapshot(final PalettedContainer<BlockState> states, final long expiresAt)
+        {
+            this.states = states;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Get the state at the given position.
+         *
+         * @param x block x.
+         * @param y block y.
+         * @param z block z.
+         * @return the state.
+         */
+        public BlockState getBlockState(final int x, final int y, final int z)
+        {
+            return states.get(x & 15, y & 15, z & 15);
+        }
+    }
+}
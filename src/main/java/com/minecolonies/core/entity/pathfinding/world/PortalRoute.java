@@ -0,0 +1,143 @@
+package com.minecolonies.core.entity.pathfinding.world;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Abstract route over the {@link ChunkPortalGraph}, guides the heuristic of the detailed search leg by leg: nodes in a chunk of the route estimate their distance via the
+ * portal leaving that chunk, instead of the straight line to the destination.
+ */
+public final class PortalRoute
+{
+    /**
+     * Alternating portal exit and entry positions, in walking order.
+     */
+    private final long[] waypoints;
+
+    /**
+     * Route length from each exit waypoint to the destination, by waypoint index.
+     */
+    private final double[] remaining;
+
+    /**
+     * Index of the exit waypoint leaving the chunk, by chunk position.
+     */
+    private final Long2IntOpenHashMap exitByChunk = new Long2IntOpenHashMap();
+
+    /**
+     * The destination.
+     */
+    private final BlockPos end;
+
+    /**
+     * Chunks the route passes through, the destination chunk being the last one.
+     */
+    private final long[] corridor;
+
+    /**
+     * Extra length of the route compared to the straight line, the most added to estimates off the route.
+     */
+    private final double detour;
+
+    /**
+     * Create a new route.
+     *
+     * @param waypoints alternating exit and entry positions.
+     * @param start     the start position.
+     * @param end       the destination.
+     */
+    public PortalRoute(@NotNull final long[] waypoints, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        this.waypoints = waypoints;
+        this.end = end;
+        this.remaining = new double[waypoints.length];
+        exitByChunk.defaultReturnValue(-1);
+
+        double length = 0;
+        BlockPos next = end;
+        for (int i = waypoints.length - 1; i >= 0; i--)
+        {
+            final BlockPos waypoint = BlockPos.of(waypoints[i]);
+            length += BlockPosUtil.distManhattan(waypoint, next);
+            remaining[i] = length;
+            next = waypoint;
+        }
+
+        final LongArrayList corridorChunks = new LongArrayList();
+        for (int i = 0; i < waypoints.length; i += 2)
+        {
+            final BlockPos exit = BlockPos.of(waypoints[i]);
+            final long chunk = ChunkPos.asLong(exit.getX() >> 4, exit.getZ() >> 4);
+            if (exitByChunk.putIfAbsent(chunk, i) == -1)
+            {
+                corridorChunks.add(chunk);
+            }
+        }
+        corridorChunks.add(ChunkPos.asLong(end.getX() >> 4, end.getZ() >> 4));
+        corridor = corridorChunks.toLongArray();
+
+        final double total = waypoints.length == 0 ? BlockPosUtil.distManhattan(start, end) : BlockPosUtil.distManhattan(start, BlockPos.of(waypoints[0])) + remaining[0];
+        detour = Math.max(0, total - BlockPosUtil.distManhattan(start, end));
+    }
+
+    /**
+     * Estimates the remaining distance from the given position to the destination along the route.
+     *
+     * @param x the x.
+     * @param y the y.
+     * @param z the z.
+     * @return the estimated distance.
+     */
+    public double estimate(final int x, final int y, final int z)
+    {
+        final int index = exitByChunk.get(ChunkPos.asLong(x >> 4, z >> 4));
+        if (index >= 0)
+        {
+            final long exit = waypoints[index];
+            return BlockPosUtil.distManhattan(BlockPos.getX(exit), BlockPos.getY(exit), BlockPos.getZ(exit), x, y, z) + remaining[index];
+        }
+
+        final int direct = BlockPosUtil.distManhattan(end, x, y, z);
+        if ((x >> 4) == (end.getX() >> 4) && (z >> 4) == (end.getZ() >> 4))
+        {
+            return direct;
+        }
+        // Grow the penalty with the distance to the route, so there is no jump at the corridor border.
+        return direct + Math.min(detour, getDistanceToCorridor(x, z));
+    }
+
+    /**
+     * Horizontal distance in blocks from the position to the closest chunk of the route.
+     *
+     * @param x the x.
+     * @param z the z.
+     * @return the distance.
+     */
+    private int getDistanceToCorridor(final int x, final int z)
+    {
+        int closest = Integer.MAX_VALUE;
+        for (final long chunk : corridor)
+        {
+            final int minX = ChunkPos.getX(chunk) << 4;
+            final int minZ = ChunkPos.getZ(chunk) << 4;
+            final int distX = Math.max(0, Math.max(minX - x, x - (minX + 15)));
+            final int distZ = Math.max(0, Math.max(minZ - z, z - (minZ + 15)));
+            closest = Math.min(closest, distX + distZ);
+        }
+        return closest;
+    }
+
+    /**
+     * Amount of chunk borders the route crosses.
+     *
+     * @return the leg count.
+     */
+    public int getLegCount()
+    {
+        return waypoints.length / 2;
+    }
+}
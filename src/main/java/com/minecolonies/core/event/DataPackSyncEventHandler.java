@@ -8,6 +8,7 @@ import com.minecolonies.core.colony.crafting.CustomRecipeManager;
 import com.minecolonies.core.compatibility.CraftingTagAuditor;
 import com.minecolonies.core.datalistener.DiseasesListener;
 import com.minecolonies.core.datalistener.QuestJsonListener;
+import com.minecolonies.core.entity.pathfinding.PathingStateFlags;
 import com.minecolonies.core.network.messages.client.UpdateClientWithCompatibilityMessage;
 import com.minecolonies.core.util.FurnaceRecipes;
 import com.mojang.authlib.GameProfile;
@@ -55,6 +56,7 @@ public class DataPackSyncEventHandler
             IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().discover(server.getRecipeManager(), server.overworld());
             CustomRecipeManager.getInstance().resolveTemplates();
             CustomRecipeManager.getInstance().buildLootData(server.getLootData(), server.overworld());
+            PathingStateFlags.rebuild();
         }
 
         /**
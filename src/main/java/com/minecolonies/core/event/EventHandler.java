@@ -34,15 +34,18 @@ import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import com.minecolonies.core.colony.jobs.JobFarmer;
 import com.minecolonies.core.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.core.commands.EntryPoint;
+import com.minecolonies.core.entity.ai.combat.CombatTargetTracker;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
 import com.minecolonies.core.entity.mobs.EntityMercenary;
+import com.minecolonies.core.entity.pathfinding.PathResultCache;
+import com.minecolonies.core.entity.pathfinding.world.ChunkPortalGraph;
+import com.minecolonies.core.entity.pathfinding.world.ChunkSectionSnapshotCache;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.core.items.ItemBannerRallyGuards;
 import com.minecolonies.core.network.messages.client.OpenSuggestionWindowMessage;
-import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
-import com.minecolonies.core.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.core.util.ChunkClaimSyncTracker;
 import com.minecolonies.core.util.ChunkClientDataHelper;
 import com.minecolonies.core.util.ChunkDataHelper;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -71,13 +74,16 @@ import net.minecraft.world.level.block.entity.SpawnerBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.level.storage.loot.BuiltInLootTables;
 import net.minecraft.world.level.storage.loot.LootPool;
 import net.minecraft.world.level.storage.loot.entries.AlternativesEntry;
 import net.minecraft.world.level.storage.loot.entries.LootItem;
 import net.minecraft.world.level.storage.loot.predicates.LootItemRandomChanceCondition;
 import net.minecraftforge.event.*;
+import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
 import net.minecraftforge.event.entity.living.LivingConversionEvent;
 import net.minecraftforge.event.entity.living.MobSpawnEvent;
@@ -85,6 +91,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -113,6 +120,21 @@ public class EventHandler
      */
     private static Map<UUID, ChunkPos> playerPositions = new HashMap<>();
 
+    /**
+     * Game events which mean a block changed its state.
+     */
+    private static final Set<GameEvent> BLOCK_CHANGE_EVENTS = Set.of(GameEvent.BLOCK_ACTIVATE,
+      GameEvent.BLOCK_ATTACH,
+      GameEvent.BLOCK_CHANGE,
+      GameEvent.BLOCK_CLOSE,
+      GameEvent.BLOCK_DEACTIVATE,
+      GameEvent.BLOCK_DESTROY,
+      GameEvent.BLOCK_DETACH,
+      GameEvent.BLOCK_OPEN,
+      GameEvent.BLOCK_PLACE,
+      GameEvent.FLUID_PICKUP,
+      GameEvent.FLUID_PLACE);
+
     /**
      * Cache of loot table -> crops.
      */
@@ -157,6 +179,39 @@ public class EventHandler
         }
     }
 
+    /**
+     * Track living entities for the guard and raider target searches, once no other handler cancelled the join.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onEntityJoinTracker(@NotNull final EntityJoinLevelEvent event)
+    {
+        CombatTargetTracker.onEntityJoin(event.getEntity());
+    }
+
+    /**
+     * On Entity leave do this.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onEntityLeave(@NotNull final EntityLeaveLevelEvent event)
+    {
+        CombatTargetTracker.onEntityLeave(event.getEntity());
+    }
+
+    /**
+     * Keep the combat tracker up to date when an entity moves into another section.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onEntityEnterSection(@NotNull final EntityEvent.EnteringSection event)
+    {
+        CombatTargetTracker.onEntityEnterSection(event.getEntity(), event.getPackedNewPos());
+    }
+
     private static void buildCropDrops()
     {
         cropDrops = new HashMap<>();
@@ -273,6 +328,78 @@ public class EventHandler
         if (event.getLevel() instanceof ServerLevel)
         {
             ChunkDataHelper.unloadChunk((LevelChunk) event.getChunk(), (ServerLevel) event.getLevel());
+
+            final ChunkSectionSnapshotCache sectionCache = ChunkSectionSnapshotCache.getIfPresent((ServerLevel) event.getLevel());
+            if (sectionCache != null && event.getChunk() instanceof LevelChunk)
+            {
+                sectionCache.onChunkUnload((LevelChunk) event.getChunk());
+            }
+
+            final ChunkPortalGraph portalGraph = ChunkPortalGraph.getIfPresent((ServerLevel) event.getLevel());
+            if (portalGraph != null)
+            {
+                portalGraph.onChunkUnload(event.getChunk().getPos());
+            }
+        }
+    }
+
+    /**
+     * Called after a block changed, drops the pathfinding snapshot of its section, the cached paths next to it and the portals of its chunk.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (event.getLevel() instanceof ServerLevel)
+        {
+            invalidatePathfindingCaches((ServerLevel) event.getLevel(), event.getPos());
+        }
+    }
+
+    /**
+     * Called for every vanilla game event. Block changes that skip the neighbour updates, like doors, trapdoors and fence gates opening, still emit one of
+     * the block game events, so the pathfinding caches are dropped for those as well.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onVanillaGameEvent(final VanillaGameEvent event)
+    {
+        if (event.getLevel() instanceof ServerLevel && BLOCK_CHANGE_EVENTS.contains(event.getVanillaEvent()))
+        {
+            final BlockPos pos = BlockPos.containing(event.getEventPosition());
+            invalidatePathfindingCaches((ServerLevel) event.getLevel(), pos);
+            // Doors are two blocks high and may reach into the next section
+            invalidatePathfindingCaches((ServerLevel) event.getLevel(), pos.above());
+            invalidatePathfindingCaches((ServerLevel) event.getLevel(), pos.below());
+        }
+    }
+
+    /**
+     * Drops the pathfinding snapshot of the section of a changed block, the cached paths next to it and the portals of its chunk.
+     *
+     * @param level the level.
+     * @param pos   the changed position.
+     */
+    private static void invalidatePathfindingCaches(final ServerLevel level, final BlockPos pos)
+    {
+        final ChunkSectionSnapshotCache sectionCache = ChunkSectionSnapshotCache.getIfPresent(level);
+        if (sectionCache != null)
+        {
+            sectionCache.invalidate(pos);
+        }
+
+        final PathResultCache pathCache = PathResultCache.getIfPresent(level);
+        if (pathCache != null)
+        {
+            pathCache.invalidate(pos);
+        }
+
+        final ChunkPortalGraph portalGraph = ChunkPortalGraph.getIfPresent(level);
+        if (portalGraph != null)
+        {
+            portalGraph.invalidate(pos);
         }
     }
 
@@ -358,14 +485,9 @@ public class EventHandler
 
         ChunkDataHelper.loadChunk(chunk, world);
 
-        Network.getNetwork()
-          .sendToPlayer(new UpdateChunkRangeCapabilityMessage(world,
-            chunkPos.x,
-            chunkPos.z,
-            8, true), (ServerPlayer) event.player);
+        ChunkClaimSyncTracker.sendClaims((ServerPlayer) event.player, chunkPos, 8);
 
         final ChunkCapData chunkCapData = ColonyUtils.getChunkCapData(chunk);
-        Network.getNetwork().sendToPlayer(new UpdateChunkCapabilityMessage(chunkCapData), (ServerPlayer) event.player);
 
         // Check if we get into a differently claimed chunk
         if (chunkCapData.getOwningColony() != -1)
@@ -431,7 +553,7 @@ public class EventHandler
             return;
         }
 
-        for (final BlockPos buildingPos : ColonyUtils.getAllClaimingBuildings(chunk).getOrDefault(owningColony, Collections.emptySet()))
+        for (final BlockPos buildingPos : ColonyUtils.getClaimingBuildings(chunk, owningColony))
         {
             final IBuilding building = newColony.getBuildingManager().getBuilding(buildingPos);
             if (building != null && building.getBuildingLevel() >= 1 && building.isInBuilding(pos))
@@ -493,9 +615,21 @@ public class EventHandler
                 colony.getPackageManager().removeImportantColonyPlayer(player);
                 playerPositions.remove(player.getUUID());
             }
+            ChunkClaimSyncTracker.removePlayer(player.getUUID());
         }
     }
 
+    /**
+     * Event called when a player stops tracking a chunk, the client drops its claim data with it.
+     *
+     * @param event the unwatch event.
+     */
+    @SubscribeEvent
+    public static void onChunkUnWatch(final ChunkWatchEvent.UnWatch event)
+    {
+        ChunkClaimSyncTracker.onChunkUnwatched(event.getPlayer(), event.getPos());
+    }
+
     /**
      * Event called when a citizen enters a new chunk.
      */
@@ -766,6 +900,10 @@ public class EventHandler
         if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level)
         {
             IColonyManager.getInstance().onWorldUnload((Level) event.getLevel());
+            ChunkSectionSnapshotCache.remove((Level) event.getLevel());
+            PathResultCache.remove((Level) event.getLevel());
+            CombatTargetTracker.remove((Level) event.getLevel());
+            ChunkPortalGraph.remove((Level) event.getLevel());
         }
         if (event.getLevel().isClientSide())
         {
@@ -811,7 +949,7 @@ public class EventHandler
                 if (ForgeEventFactory.canLivingConvert(entity, ModEntities.VISITOR, null))
                 {
                     IVisitorData visitorData = (IVisitorData) colony.getVisitorManager().createAndRegisterCivilianData();
-                    BlockPos tavernPos = colony.getBuildingManager().getRandomBuilding(b -> !b.getModulesByType(TavernBuildingModule.class).isEmpty());
+                    BlockPos tavernPos = colony.getBuildingManager().getRandomBuildingWithModule(TavernBuildingModule.class, b -> true);
                     IBuilding tavern = colony.getBuildingManager().getBuilding(tavernPos);
 
                     visitorData.setHomeBuilding(tavern);
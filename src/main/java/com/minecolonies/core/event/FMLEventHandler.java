@@ -3,6 +3,7 @@ package com.minecolonies.core.event;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.core.datalistener.*;
 import com.minecolonies.core.entity.pathfinding.Pathfinding;
+import com.minecolonies.core.entity.pathfinding.world.ChunkSectionSnapshotCache;
 import com.minecolonies.core.util.BackUpHelper;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.AddReloadListenerEvent;
@@ -10,6 +11,7 @@ import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.server.ServerAboutToStartEvent;
 import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
@@ -59,6 +61,16 @@ public class FMLEventHandler
     public static void onWorldTick(final TickEvent.LevelTickEvent event)
     {
         IColonyManager.getInstance().onWorldTick(event);
+
+        if (event.phase == TickEvent.Phase.END && !event.level.isClientSide())
+        {
+            // Copy the sections pathfinding jobs asked for while no block can change
+            final ChunkSectionSnapshotCache sectionCache = ChunkSectionSnapshotCache.getIfPresent(event.level);
+            if (sectionCache != null)
+            {
+                sectionCache.copyPendingSections();
+            }
+        }
     }
 
     @SubscribeEvent
@@ -73,6 +85,13 @@ public class FMLEventHandler
         Pathfinding.shutdown();
     }
 
+    @SubscribeEvent
+    public static void onServerFullyStopped(@NotNull final ServerStoppedEvent event)
+    {
+        // The backup worker is a daemon thread, let it finish the backup queued on world unload.
+        BackUpHelper.waitForBackups();
+    }
+
     @SubscribeEvent
     public static void onServerStarted(@NotNull final ServerStartedEvent event)
     {
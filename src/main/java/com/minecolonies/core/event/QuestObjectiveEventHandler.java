@@ -77,6 +77,7 @@ public class QuestObjectiveEventHandler
                 if (objective instanceof IBreakBlockObjectiveTemplate)
                 {
                     ((IBreakBlockObjectiveTemplate) objective).onBlockBreak(colonyQuest.getCurrentObjectiveInstance(), colonyQuest, event.getPlayer());
+                    colonyQuest.getColony().getQuestManager().markSaveDirty();
                 }
                 else
                 {
@@ -101,6 +102,7 @@ public class QuestObjectiveEventHandler
                 if (objective instanceof IKillEntityObjectiveTemplate)
                 {
                     ((IKillEntityObjectiveTemplate) objective).onEntityKill(colonyQuest.getCurrentObjectiveInstance(), colonyQuest, (Player) event.getSource().getEntity());
+                    colonyQuest.getColony().getQuestManager().markSaveDirty();
                 }
                 else
                 {
@@ -135,6 +137,7 @@ public class QuestObjectiveEventHandler
                 if (objective instanceof IPlaceBlockObjectiveTemplate)
                 {
                     ((IPlaceBlockObjectiveTemplate) objective).onBlockPlace(colonyQuest.getCurrentObjectiveInstance(), colonyQuest, (Player) event.getEntity());
+                    colonyQuest.getColony().getQuestManager().markSaveDirty();
                 }
                 else
                 {
@@ -244,6 +247,7 @@ public class QuestObjectiveEventHandler
                 if (objective instanceof IResearchObjectiveTemplate researchTemplate)
                 {
                     researchTemplate.onResearchCompletion(instance);
+                    colony.getQuestManager().markSaveDirty();
                 }
             }
         }
@@ -264,6 +268,7 @@ public class QuestObjectiveEventHandler
                 if (objective instanceof IBuildingUpgradeObjectiveTemplate buildingTemplate)
                 {
                     buildingTemplate.onBuildingUpgrade(instance.getCurrentObjectiveInstance(), instance, level);
+                    building.getColony().getQuestManager().markSaveDirty();
                 }
             }
         }
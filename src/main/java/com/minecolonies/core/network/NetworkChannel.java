@@ -260,6 +260,13 @@ public class NetworkChannel
 
         // Crafting GUI
         registerMessage(++idx, SwitchRecipeCraftingTeachingMessage.class, SwitchRecipeCraftingTeachingMessage::new);
+
+        // Request system sync
+        registerMessage(++idx, ColonyViewRequestManagerMessage.class, ColonyViewRequestManagerMessage::new);
+        registerMessage(++idx, RequestManagerResyncMessage.class, RequestManagerResyncMessage::new);
+
+        // Citizen view sync
+        registerMessage(++idx, CitizenViewResyncMessage.class, CitizenViewResyncMessage::new);
     }
 
     private void setupInternalMessages()
@@ -717,7 +717,7 @@ public class PermissionsMessage
                         rank.setColonyManager(false);
                         break;
                 }
-                colony.markDirty();
+                colony.getPermissions().markDirty();
             }
         }
     }
@@ -788,7 +788,7 @@ public class PermissionsMessage
             if (colony != null && colony.getPermissions().hasPermission(ctxIn.getSender(), Action.EDIT_PERMISSIONS))
             {
                 colony.getPermissions().getRank(rankId).setSubscriber(isSubscriber);
-                colony.markDirty();
+                colony.getPermissions().markDirty();
             }
         }
     }
@@ -1,6 +1,5 @@
 package com.minecolonies.core.network.messages.client;
 
-import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.ChunkCapData;
@@ -9,28 +8,47 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+import java.util.*;
 
 /**
- * Update the ChunkCapability with a colony.
+ * Update the ChunkCapability of a square of chunks on the client.
+ * <p>
+ * The claims are written as a palette of the distinct claims followed by the run lengths of equal palette entries over the square, row by row, so large uniformly claimed
+ * or unchanged areas only take a few bytes.
  */
 public class UpdateChunkRangeCapabilityMessage implements IMessage
 {
+    /**
+     * Palette value of chunks without data in this message.
+     */
+    private static final int NO_DATA = 0;
+
     /**
      * The colonies tags to send over.
      */
     private final List<ChunkCapData> caps = new ArrayList<>();
 
+    /**
+     * Lowest chunk x of the square.
+     */
+    private int minX;
+
+    /**
+     * Lowest chunk z of the square.
+     */
+    private int minZ;
+
+    /**
+     * Side length of the square in chunks.
+     */
+    private int size;
+
     /**
      * Empty constructor used when registering the
      */
@@ -42,50 +60,94 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     /**
      * Create a message to update the chunk cap on the client side.
      *
-     * @param world       the world.
-     * @param xC          the x pos.
-     * @param zC          the z pos.
-     * @param range       the range.
-     * @param checkLoaded are we checking for loaded?
+     * @param minX the lowest chunk x of the square.
+     * @param minZ the lowest chunk z of the square.
+     * @param size the side length of the square.
+     * @param caps the data of the chunks to update, all within the square.
      */
-    public UpdateChunkRangeCapabilityMessage(@NotNull final Level world, final int xC, final int zC, final int range, boolean checkLoaded)
+    public UpdateChunkRangeCapabilityMessage(final int minX, final int minZ, final int size, @NotNull final List<ChunkCapData> caps)
+    {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.size = size;
+        this.caps.addAll(caps);
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
     {
-        for (int x = -range; x <= range; x++)
+        minX = buf.readInt();
+        minZ = buf.readInt();
+        size = buf.readVarInt();
+
+        final int paletteSize = buf.readVarInt();
+        final List<ChunkCapData> palette = new ArrayList<>(paletteSize);
+        for (int i = 0; i < paletteSize; i++)
         {
-            for (int z = -range; z <= range; z++)
+            final int owning = buf.readVarInt();
+            final int staticSize = buf.readVarInt();
+            final List<Integer> closeColonies = new ArrayList<>(staticSize);
+            for (int j = 0; j < staticSize; j++)
             {
-                final int chunkX = xC + x;
-                final int chunkZ = zC + z;
-                if (!checkLoaded || WorldUtil.isEntityChunkLoaded(world, chunkX, chunkZ))
+                closeColonies.add(buf.readVarInt());
+            }
+            palette.add(new ChunkCapData(0, 0, owning, closeColonies, new HashMap<>()));
+        }
+
+        int index = 0;
+        while (index < size * size)
+        {
+            final int length = buf.readVarInt();
+            final int value = buf.readVarInt();
+            if (value != NO_DATA)
+            {
+                final ChunkCapData claim = palette.get(value - 1);
+                for (int i = index; i < index + length; i++)
                 {
-                    final LevelChunk chunk = world.getChunk(chunkX, chunkZ);
-                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).orElseGet(null);
-                    if (cap != null)
-                    {
-                        caps.add(new ChunkCapData(chunkX, chunkZ, cap.getOwningColony(), cap.getStaticClaimColonies(), cap.getAllClaimingBuildings()));
-                    }
+                    caps.add(new ChunkCapData(minX + i % size, minZ + i / size, claim.getOwningColony(), new ArrayList<>(claim.getStaticColonyClaim()), new HashMap<>()));
                 }
             }
+            index += length;
         }
     }
 
     @Override
-    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
     {
-        final int size = buf.readInt();
-        for (int i = 0; i < size; i++)
+        buf.writeInt(minX);
+        buf.writeInt(minZ);
+        buf.writeVarInt(size);
+
+        final Map<List<Integer>, Integer> palette = new LinkedHashMap<>();
+        final int[] values = new int[size * size];
+        for (final ChunkCapData data : caps)
         {
-            caps.add(ChunkCapData.fromBytes(buf));
+            final List<Integer> claim = new ArrayList<>(data.getStaticColonyClaim().size() + 1);
+            claim.add(data.getOwningColony());
+            claim.addAll(data.getStaticColonyClaim());
+            values[(data.z - minZ) * size + data.x - minX] = palette.computeIfAbsent(claim, key -> palette.size() + 1);
         }
-    }
 
-    @Override
-    public void toBytes(@NotNull final FriendlyByteBuf buf)
-    {
-        buf.writeInt(caps.size());
-        for (final ChunkCapData c : caps)
+        buf.writeVarInt(palette.size());
+        for (final List<Integer> claim : palette.keySet())
         {
-            c.toBytes(buf);
+            buf.writeVarInt(claim.get(0));
+            buf.writeVarInt(claim.size() - 1);
+            for (int i = 1; i < claim.size(); i++)
+            {
+                buf.writeVarInt(claim.get(i));
+            }
+        }
+
+        int runStart = 0;
+        for (int i = 1; i <= values.length; i++)
+        {
+            if (i == values.length || values[i] != values[runStart])
+            {
+                buf.writeVarInt(i - runStart);
+                buf.writeVarInt(values[runStart]);
+                runStart = i;
+            }
         }
     }
 
@@ -24,6 +24,16 @@ public class ColonyViewCitizenViewMessage implements IMessage
     private int          citizenId;
     private FriendlyByteBuf citizenBuffer;
 
+    /**
+     * Whether the buffer only holds the changed groups of the citizen data.
+     */
+    private boolean delta;
+
+    /**
+     * Size of the full citizen data, for a delta the size it replaces.
+     */
+    private int fullSize;
+
     /**
      * The dimension the citizen is in.
      */
@@ -51,6 +61,56 @@ public class ColonyViewCitizenViewMessage implements IMessage
         this.citizenBuffer = new FriendlyByteBuf(Unpooled.buffer());
         this.dimension = citizen.getColony().getDimension();
         citizen.serializeViewNetworkData(citizenBuffer);
+        this.fullSize = citizenBuffer.readableBytes();
+    }
+
+    /**
+     * Updates a {@link com.minecolonies.core.colony.CitizenDataView} of the citizens with the groups of data changed since the last delta.
+     *
+     * @param colony  Colony of the citizen
+     * @param citizen Citizen data of the citizen to update view
+     * @return the message.
+     */
+    public static ColonyViewCitizenViewMessage delta(@NotNull final Colony colony, @NotNull final ICitizenData citizen)
+    {
+        final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage();
+        message.colonyId = colony.getID();
+        message.citizenId = citizen.getId();
+        message.citizenBuffer = new FriendlyByteBuf(Unpooled.buffer());
+        message.dimension = citizen.getColony().getDimension();
+        message.delta = true;
+        message.fullSize = citizen.serializeViewNetworkDelta(message.citizenBuffer);
+        return message;
+    }
+
+    /**
+     * Check if a delta contains any change.
+     *
+     * @return true if it is a full update or at least one group changed.
+     */
+    public boolean hasChanges()
+    {
+        return !delta || citizenBuffer.getInt(0) != 0;
+    }
+
+    /**
+     * Get the size of the citizen data in this message.
+     *
+     * @return the size in bytes.
+     */
+    public int getSize()
+    {
+        return citizenBuffer.writerIndex();
+    }
+
+    /**
+     * Get the size of the full citizen data.
+     *
+     * @return the size in bytes.
+     */
+    public int getFullSize()
+    {
+        return fullSize;
     }
 
     @Override
@@ -59,6 +119,7 @@ public class ColonyViewCitizenViewMessage implements IMessage
         colonyId = buf.readInt();
         citizenId = buf.readInt();
         dimension = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)));
+        delta = buf.readBoolean();
         this.citizenBuffer = new FriendlyByteBuf(buf.retain());
     }
 
@@ -69,6 +130,7 @@ public class ColonyViewCitizenViewMessage implements IMessage
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
         buf.writeUtf(dimension.location().toString());
+        buf.writeBoolean(delta);
         buf.writeBytes(citizenBuffer);
     }
 
@@ -82,7 +144,14 @@ public class ColonyViewCitizenViewMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        IColonyManager.getInstance().handleColonyViewCitizensMessage(colonyId, citizenId, citizenBuffer, dimension);
+        if (delta)
+        {
+            IColonyManager.getInstance().handleColonyViewCitizenDeltaMessage(colonyId, citizenId, citizenBuffer, dimension);
+        }
+        else
+        {
+            IColonyManager.getInstance().handleColonyViewCitizensMessage(colonyId, citizenId, citizenBuffer, dimension);
+        }
         citizenBuffer.release();
     }
 }
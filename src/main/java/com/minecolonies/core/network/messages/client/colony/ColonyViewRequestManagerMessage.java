@@ -0,0 +1,102 @@
+package com.minecolonies.core.network.messages.client.colony;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyView;
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.core.colony.Colony;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Syncs the request system of a colony to the client, either as snapshot or as delta to the last sync.
+ */
+public class ColonyViewRequestManagerMessage implements IMessage
+{
+    /**
+     * The colony id.
+     */
+    private int colonyId;
+
+    /**
+     * The dimension of the colony.
+     */
+    private ResourceKey<Level> dimension;
+
+    /**
+     * Whether the data is a snapshot instead of a delta.
+     */
+    private boolean snapshot;
+
+    /**
+     * The buffer with the data.
+     */
+    private FriendlyByteBuf requestManagerBuffer;
+
+    /**
+     * Empty constructor used when registering the
+     */
+    public ColonyViewRequestManagerMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a message to sync the request system.
+     *
+     * @param colony   the colony.
+     * @param buf      the written snapshot or delta.
+     * @param snapshot whether the data is a snapshot.
+     */
+    public ColonyViewRequestManagerMessage(@NotNull final Colony colony, @NotNull final FriendlyByteBuf buf, final boolean snapshot)
+    {
+        this.colonyId = colony.getID();
+        this.dimension = colony.getDimension();
+        this.snapshot = snapshot;
+        this.requestManagerBuffer = new FriendlyByteBuf(buf.copy());
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        final FriendlyByteBuf newBuf = new FriendlyByteBuf(buf.retain());
+        colonyId = newBuf.readInt();
+        dimension = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(newBuf.readUtf(32767)));
+        snapshot = newBuf.readBoolean();
+        requestManagerBuffer = newBuf;
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        requestManagerBuffer.resetReaderIndex();
+        buf.writeInt(colonyId);
+        buf.writeUtf(dimension.location().toString());
+        buf.writeBoolean(snapshot);
+        buf.writeBytes(requestManagerBuffer);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final IColonyView colonyView = IColonyManager.getInstance().getColonyView(colonyId, dimension);
+        if (colonyView != null)
+        {
+            colonyView.handleColonyViewRequestManagerMessage(requestManagerBuffer, snapshot);
+        }
+        requestManagerBuffer.release();
+    }
+}
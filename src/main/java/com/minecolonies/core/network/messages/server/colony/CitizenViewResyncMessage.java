@@ -0,0 +1,85 @@
+package com.minecolonies.core.network.messages.server.colony;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.network.messages.client.colony.ColonyViewCitizenViewMessage;
+import com.minecolonies.core.network.messages.client.colony.ColonyViewRemoveCitizenMessage;
+import com.minecolonies.core.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sent by the client when it could not apply a citizen view delta, to get the full view of the citizen again.
+ */
+public class CitizenViewResyncMessage extends AbstractColonyServerMessage
+{
+    /**
+     * The citizen to resync.
+     */
+    private int citizenId;
+
+    /**
+     * Default constructor
+     **/
+    public CitizenViewResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request the full view of a citizen.
+     *
+     * @param colony    the colony.
+     * @param citizenId the citizen id.
+     */
+    public CitizenViewResyncMessage(final IColony colony, final int citizenId)
+    {
+        super(colony);
+        this.citizenId = citizenId;
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        final ServerPlayer sender = ctxIn.getSender();
+        if (sender == null || !(colony instanceof Colony) || !colony.getPackageManager().getCloseSubscribers().contains(sender))
+        {
+            return;
+        }
+
+        final ICitizenData citizen = colony.getCitizenManager().getCivilian(citizenId);
+        if (citizen != null)
+        {
+            Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage((Colony) colony, citizen), sender);
+        }
+        else
+        {
+            // The citizen is gone, let the client drop it and its pending resync.
+            Network.getNetwork().sendToPlayer(new ColonyViewRemoveCitizenMessage((Colony) colony, citizenId), sender);
+        }
+    }
+
+    @Override
+    protected void toBytesOverride(final FriendlyByteBuf buf)
+    {
+        buf.writeInt(citizenId);
+    }
+
+    @Override
+    protected void fromBytesOverride(final FriendlyByteBuf buf)
+    {
+        citizenId = buf.readInt();
+    }
+}
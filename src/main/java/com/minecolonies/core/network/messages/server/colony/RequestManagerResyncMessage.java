@@ -0,0 +1,60 @@
+package com.minecolonies.core.network.messages.server.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.core.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sent by the client when it missed a request system delta, to get a snapshot again.
+ */
+public class RequestManagerResyncMessage extends AbstractColonyServerMessage
+{
+    /**
+     * Default constructor
+     **/
+    public RequestManagerResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request a request system snapshot of the colony.
+     *
+     * @param colony the colony.
+     */
+    public RequestManagerResyncMessage(final IColony colony)
+    {
+        super(colony);
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        if (ctxIn.getSender() != null)
+        {
+            colony.getPackageManager().requestRequestManagerSnapshot(ctxIn.getSender());
+        }
+    }
+
+    @Override
+    protected void toBytesOverride(final FriendlyByteBuf buf)
+    {
+
+    }
+
+    @Override
+    protected void fromBytesOverride(final FriendlyByteBuf buf)
+    {
+
+    }
+}
@@ -78,7 +78,7 @@ public class AssignFieldMessage extends AbstractBuildingServerMessage<IBuilding>
       final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony, final IBuilding building)
     {
         final IField parsedField = FieldDataManager.bufferToField(fieldData);
-        colony.getBuildingManager().getField(otherField -> otherField.equals(parsedField)).ifPresent(field -> {
+        colony.getBuildingManager().getField(parsedField.getFieldType(), parsedField.getPosition()).ifPresent(field -> {
 
             if (building.getModule(moduleID) instanceof FieldsModule fieldsModule)
             {
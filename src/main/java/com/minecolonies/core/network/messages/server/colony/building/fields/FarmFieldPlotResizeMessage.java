@@ -59,9 +59,10 @@ public class FarmFieldPlotResizeMessage extends AbstractColonyServerMessage
         }
 
         colony.getBuildingManager()
-          .getField(f -> f.getFieldType().equals(FieldRegistries.farmField.get()) && f.getPosition().equals(position))
+          .getField(FieldRegistries.farmField.get(), position)
           .map(m -> (FarmField) m)
           .ifPresent(field -> field.setRadius(direction, size));
+        colony.getBuildingManager().markFieldsDirty();
     }
 
     @Override
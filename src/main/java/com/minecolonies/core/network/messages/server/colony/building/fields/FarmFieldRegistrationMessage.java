@@ -47,7 +47,7 @@ public class FarmFieldRegistrationMessage extends AbstractColonyServerMessage
         }
 
         final Optional<IField> field = colony.getBuildingManager()
-                                         .getField(f -> f.getFieldType().equals(FieldRegistries.farmField.get()) && f.getPosition().equals(position))
+                                         .getField(FieldRegistries.farmField.get(), position)
                                          .stream()
                                          .findFirst();
 
@@ -56,9 +56,10 @@ public class FarmFieldUpdateSeedMessage extends AbstractColonyServerMessage
         }
 
         colony.getBuildingManager()
-          .getField(f -> f.getFieldType().equals(FieldRegistries.farmField.get()) && f.getPosition().equals(position))
+          .getField(FieldRegistries.farmField.get(), position)
           .map(m -> (FarmField) m)
           .ifPresent(field -> field.setSeed(newSeed));
+        colony.getBuildingManager().markFieldsDirty();
     }
 
     @Override
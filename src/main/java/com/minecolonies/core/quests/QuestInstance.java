@@ -208,6 +208,7 @@ public class QuestInstance implements IQuestInstance
         }
 
         colony.markDirty();
+        colony.getQuestManager().markSaveDirty();
         if (nextObjective == -1)
         {
             this.onCompletion();
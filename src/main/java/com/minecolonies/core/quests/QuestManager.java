@@ -52,6 +52,11 @@ public class QuestManager implements IQuestManager
      */
     private final IColony colony;
 
+    /**
+     * Whether the quest data changed since the last save.
+     */
+    private boolean saveDirty = true;
+
     public QuestManager(final IColony colony)
     {
         this.colony = colony;
@@ -67,6 +72,7 @@ public class QuestManager implements IQuestManager
         }
         this.inProgressQuests.put(questID, quest);
         this.availableQuests.remove(questID);
+        saveDirty = true;
         return true;
     }
 
@@ -74,6 +80,7 @@ public class QuestManager implements IQuestManager
     public void alterReputation(final double difference)
     {
         this.questReputation += difference;
+        saveDirty = true;
     }
 
     @Override
@@ -98,6 +105,7 @@ public class QuestManager implements IQuestManager
         }
 
         finishedQuestsCache = null;
+        saveDirty = true;
     }
 
     @Override
@@ -131,6 +139,7 @@ public class QuestManager implements IQuestManager
             if (colonyQuest != null)
             {
                 this.availableQuests.put(quest.getKey(), colonyQuest);
+                saveDirty = true;
             }
         }
 
@@ -140,6 +149,7 @@ public class QuestManager implements IQuestManager
             {
                 availableQuest.getValue().onDeletion();
                 this.availableQuests.remove(availableQuest.getKey());
+                saveDirty = true;
             }
         }
 
@@ -149,6 +159,7 @@ public class QuestManager implements IQuestManager
             {
                 inProgressQuest.getValue().onDeletion();
                 this.inProgressQuests.remove(inProgressQuest.getKey());
+                saveDirty = true;
             }
         }
     }
@@ -158,6 +169,7 @@ public class QuestManager implements IQuestManager
     {
         this.availableQuests.remove(questID);
         this.inProgressQuests.remove(questID);
+        saveDirty = true;
     }
 
     @Override
@@ -179,6 +191,7 @@ public class QuestManager implements IQuestManager
     public void unlockQuest(final ResourceLocation questId)
     {
         this.unlockedQuests.add(questId);
+        saveDirty = true;
     }
 
     @Override
@@ -280,6 +293,7 @@ public class QuestManager implements IQuestManager
             this.unlockedQuests.add(new ResourceLocation(((CompoundTag) element).getString(TAG_ID)));
         }
         this.questReputation = nbt.getDouble(TAG_REPUTATION);
+        saveDirty = true;
     }
 
     @Override
@@ -317,5 +331,24 @@ public class QuestManager implements IQuestManager
     public void injectAvailableQuest(final IQuestInstance questInstance)
     {
         this.availableQuests.put(questInstance.getId(), questInstance);
+        saveDirty = true;
+    }
+
+    @Override
+    public void markSaveDirty()
+    {
+        saveDirty = true;
+    }
+
+    @Override
+    public boolean isSaveDirty()
+    {
+        return saveDirty;
+    }
+
+    @Override
+    public void clearSaveDirty()
+    {
+        saveDirty = false;
     }
 }
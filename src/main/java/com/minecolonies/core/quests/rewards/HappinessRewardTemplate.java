@@ -68,5 +68,6 @@ public class HappinessRewardTemplate implements IQuestRewardTemplate
         {
             ((CitizenData) colonyQuest.getParticipant(this.target)).getCitizenHappinessHandler().addModifier(new ExpirationBasedHappinessModifier(QUEST, 2.0, new StaticHappinessSupplier(qty), days));
         }
+        colony.getCitizenManager().markSaveDirty();
     }
 }
@@ -8,6 +8,7 @@ import com.minecolonies.api.quests.IQuestTriggerTemplate;
 import com.minecolonies.api.quests.ITriggerReturnData;
 import com.minecolonies.api.util.constant.ColonyConstants;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -58,7 +59,7 @@ public class CitizenQuestTriggerTemplate implements IQuestTriggerTemplate
     @Override
     public ITriggerReturnData canTriggerQuest(final IColony colony)
     {
-        final List<ICitizenData> citizenDataList = colony.getCitizenManager().getCitizens();
+        final List<ICitizenData> citizenDataList = new ArrayList<>(colony.getCitizenManager().getCitizens());
         if (matchTag == null && notMatchTag == null)
         {
             if (citizenDataList.isEmpty())
@@ -115,6 +115,7 @@ public class LocalResearchTree implements ILocalResearchTree
         {
             maxLevelResearchCompleted.add(branch);
         }
+        colony.getResearchManager().markSaveDirty();
     }
 
     @Override
@@ -134,6 +135,7 @@ public class LocalResearchTree implements ILocalResearchTree
     {
         inProgress.remove(id);
         isComplete.add(id);
+        colony.getResearchManager().markSaveDirty();
 
         QuestObjectiveEventHandler.onResearchComplete(colony, id);
     }
@@ -309,6 +311,7 @@ public class LocalResearchTree implements ILocalResearchTree
         {
             maxLevelResearchCompleted.remove(branch);
         }
+        colony.getResearchManager().markSaveDirty();
     }
 
     /**
@@ -2,9 +2,11 @@ package com.minecolonies.core.research;
 
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.research.effects.ResearchEffectHandles;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,11 @@ public class ResearchEffectManager implements IResearchEffectManager
      */
     private final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
 
+    /**
+     * The strength of the applied effects by effect handle, zero for effects not applied.
+     */
+    private double[] strengths = new double[0];
+
     @Override
     public <W extends IResearchEffect<?>> W getEffect(final ResourceLocation id, @NotNull final Class<W> type)
     {
@@ -32,30 +39,28 @@ public class ResearchEffectManager implements IResearchEffectManager
     @Override
     public double getEffectStrength(final ResourceLocation id)
     {
-        if(effectMap.containsKey(id))
-        {
-            if(effectMap.get(id) instanceof GlobalResearchEffect)
-            {
-                return ((GlobalResearchEffect)effectMap.get(id)).getEffect();
-            }
-        }
-        return 0;
+        return getEffectStrength(ResearchEffectHandles.findHandle(id));
+    }
+
+    @Override
+    public double getEffectStrength(final int handle)
+    {
+        final double[] current = strengths;
+        return handle >= 0 && handle < current.length ? current[handle] : 0;
     }
 
     @Override
     public void applyEffect(final IResearchEffect<?> effect)
     {
-        if (effectMap.containsKey(effect.getId()))
-        {
-            final IResearchEffect<?> effectInMap = effectMap.get(effect.getId());
-            if (effect.overrides(effectInMap))
-            {
-                effectMap.put(effect.getId(), effect);
-            }
-        }
-        else
+        final IResearchEffect<?> effectInMap = effectMap.get(effect.getId());
+        if (effectInMap == null || effect.overrides(effectInMap))
         {
             effectMap.put(effect.getId(), effect);
+
+            final int handle = ResearchEffectHandles.getHandle(effect.getId());
+            final double[] updated = handle < strengths.length ? strengths.clone() : Arrays.copyOf(strengths, ResearchEffectHandles.getHandleCount());
+            updated[handle] = effect instanceof GlobalResearchEffect ? ((GlobalResearchEffect) effect).getEffect() : 0;
+            strengths = updated;
         }
     }
 
@@ -63,5 +68,6 @@ public class ResearchEffectManager implements IResearchEffectManager
     public void removeAllEffects()
     {
         effectMap.clear();
+        strengths = new double[0];
     }
 }
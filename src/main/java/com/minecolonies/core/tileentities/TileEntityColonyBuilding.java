@@ -298,6 +298,7 @@ public class TileEntityColonyBuilding extends AbstractTileEntityColonyBuilding i
     @Override
     public void onLoad()
     {
+        super.onLoad();
         if (building != null)
         {
             building.setTileEntity(null);
@@ -17,6 +17,8 @@ import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.colony.Colony;
+import com.minecolonies.core.colony.buildings.workerbuildings.WarehouseItemIndex;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
@@ -124,6 +126,12 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
      */
     private boolean checkedAfterStartup = false;
 
+    /**
+     * Item index of the colony, set once the rack reported its content as warehouse rack.
+     */
+    @Nullable
+    private WarehouseItemIndex warehouseItemIndex;
+
     /**
      * Create a new rack.
      * @param type the specific block entity type.
@@ -303,6 +311,11 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         {
             final boolean beforeEmpty = content.isEmpty();
             updateContent();
+            final WarehouseItemIndex index = getWarehouseItemIndex();
+            if (index != null)
+            {
+                index.updateRack(worldPosition, content);
+            }
             if (getBlockState().getBlock() == ModBlocks.blockRack)
             {
                 boolean afterEmpty = content.isEmpty();
@@ -590,11 +603,56 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
         return Component.literal("Rack");
     }
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        final WarehouseItemIndex index = getWarehouseItemIndex();
+        if (index != null)
+        {
+            index.updateRack(worldPosition, content);
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded()
+    {
+        super.onChunkUnloaded();
+        if (warehouseItemIndex != null)
+        {
+            warehouseItemIndex.removeRack(worldPosition);
+        }
+    }
+
     @Override
     public void setRemoved()
     {
         super.setRemoved();
         invalidateCap();
+        if (warehouseItemIndex != null)
+        {
+            warehouseItemIndex.removeRack(worldPosition);
+        }
+    }
+
+    /**
+     * Get the item index of the colony if this is a warehouse rack on the server side, remembered for the removal.
+     *
+     * @return the index or null.
+     */
+    @Nullable
+    private WarehouseItemIndex getWarehouseItemIndex()
+    {
+        if (!inWarehouse || level == null || level.isClientSide || !WorldUtil.isBlockLoaded(level, worldPosition))
+        {
+            return null;
+        }
+
+        if (warehouseItemIndex == null && IColonyManager.getInstance().getColonyByPosFromWorld(level, worldPosition) instanceof Colony colony)
+        {
+            warehouseItemIndex = colony.getWarehouseItemIndex();
+        }
+        return warehouseItemIndex;
     }
 
     /**
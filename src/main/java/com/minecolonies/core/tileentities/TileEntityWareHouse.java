@@ -5,6 +5,7 @@ import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
 import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.util.*;
+import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -15,6 +16,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
@@ -41,6 +43,11 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
+        if (getBuilding() != null && getColony() instanceof Colony colony)
+        {
+            return colony.getWarehouseItemIndex().getCount(itemStackSelectionPredicate, getBuilding().getPosition()) >= count;
+        }
+
         int totalCount = 0;
         if (getBuilding() != null)
         {
@@ -106,9 +113,11 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         
         if (getBuilding() != null)
         {
+            // Only racks the index knows to hold matching items, in container order
+            final Set<BlockPos> racks = getColony() instanceof Colony colony ? colony.getWarehouseItemIndex().getRacks(itemStackSelectionPredicate, getBuilding().getPosition()) : null;
             for (@NotNull final BlockPos pos : getBuilding().getContainers())
             {
-                if (WorldUtil.isBlockLoaded(level, pos))
+                if ((racks == null || racks.contains(pos)) && WorldUtil.isBlockLoaded(level, pos))
                 {
                     final BlockEntity entity = getLevel().getBlockEntity(pos);
                     if (entity instanceof final TileEntityRack rack && !rack.isEmpty() && rack.getItemCount(itemStackSelectionPredicate) > 0)
@@ -1,5 +1,7 @@
 package com.minecolonies.core.util;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -21,12 +23,18 @@ import net.minecraftforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -61,6 +69,51 @@ public final class BackUpHelper
     public static        long lastBackupTime          = 0;
     private static final long MAX_TIME_TO_NEXT_BACKUP = 1000 * 60 * 5;
 
+    /**
+     * Single worker encoding and writing the colony files and backup zips, in the order they were queued.
+     */
+    private static final ExecutorService BACKUP_EXECUTOR = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Backup Worker");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((t, e) -> Log.getLogger().error("Minecolonies Backup Worker errored! ", e));
+        return thread;
+    });
+
+    /**
+     * Number of queued or running backup tasks.
+     */
+    private static final AtomicInteger pendingBackupTasks = new AtomicInteger();
+
+    /**
+     * Content hash of each colony file as last written by the backup worker, by file path. Only used on the backup worker.
+     */
+    private static final Map<String, HashCode> writtenFileHashes = new HashMap<>();
+
+    /**
+     * Content hash of each file in the last backup zip, by file path. Only used on the backup worker.
+     */
+    private static Map<String, HashCode> lastArchiveHashes = Collections.emptyMap();
+
+    /**
+     * Result of the last backup.
+     */
+    private static volatile String lastBackupStatus = "No backup done yet.";
+
+    /**
+     * A backup task, which may fail writing files.
+     */
+    @FunctionalInterface
+    private interface BackupTask
+    {
+        /**
+         * Run the task.
+         *
+         * @throws IOException if writing failed.
+         */
+        void run() throws IOException;
+    }
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -72,9 +125,9 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data. The colonies are written to NBT right away, encoding, writing and packing the files happens on the backup worker.
      *
-     * @return true if succesful.
+     * @return true if a backup was queued, false if the last one is too recent.
      */
     public static boolean backupColonyData()
     {
@@ -84,89 +137,265 @@ public final class BackUpHelper
         }
         lastBackupTime = System.currentTimeMillis();
 
-        BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        @NotNull final File saveDir = new File(server.getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        final Map<String, CompoundTag> snapshot = snapshotColonies();
+        final List<ResourceLocation> dimensions = new ArrayList<>();
+        for (final ResourceKey<Level> dimensionType : server.levels.keySet())
         {
-            @NotNull final File saveDir =
-              new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
+            dimensions.add(dimensionType.location());
+        }
+        final int topColonyId = IColonyManager.getInstance().getTopColonyId();
+        final Date date = new Date();
 
-            for (final ResourceKey<Level> dimensionType : net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().levels.keySet())
+        submitBackupTask(() -> writeBackup(saveDir, snapshot, dimensions, topColonyId, date));
+        return true;
+    }
+
+    /**
+     * Write the colony files of a snapshot and pack them into a new backup zip, runs on the backup worker.
+     * <p>
+     * Files whose content did not change since the worker last wrote them are not written again, and no new zip is created if every file equals the one in
+     * the last zip.
+     *
+     * @param saveDir     the minecolonies save folder.
+     * @param snapshot    the colony data by file path.
+     * @param dimensions  the dimensions of the world.
+     * @param topColonyId the highest colony id.
+     * @param date        the time of the backup.
+     * @throws IOException if the zip could not be written.
+     */
+    private static void writeBackup(
+      final File saveDir,
+      final Map<String, CompoundTag> snapshot,
+      final List<ResourceLocation> dimensions,
+      final int topColonyId,
+      final Date date) throws IOException
+    {
+        final long start = System.currentTimeMillis();
+        final Map<String, byte[]> contents = new LinkedHashMap<>();
+        final Map<String, HashCode> hashes = new HashMap<>();
+        final int written = writeSnapshot(saveDir, snapshot, contents, hashes);
+
+        for (final ResourceLocation dimension : dimensions)
+        {
+            for (int i = 1; i <= topColonyId + 1; i++)
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                final String fileName = getFolderForDimension(dimension) + String.format(FILENAME_COLONY, i);
+                if (contents.containsKey(fileName))
                 {
-                    @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
-                    @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
-                    if (file.exists())
-                    {
-                        // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
-                        {
-                            markColonyDeleted(i, dimensionType);
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
-                        }
-                        else
-                        {
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i), zos, saveDir);
-                        }
-                    }
-                    else if (fileDeleted.exists())
-                    {
-                        addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
-                    }
+                    continue;
+                }
+
+                // mark files of colonies which no longer exist
+                renameToDeleted(saveDir, i, dimension);
+                final String deletedName = getFolderForDimension(dimension) + String.format(FILENAME_COLONY_DELETED, i);
+                final File fileDeleted = new File(saveDir, deletedName);
+                if (fileDeleted.exists())
+                {
+                    final byte[] bytes = Files.toByteArray(fileDeleted);
+                    contents.put(deletedName, bytes);
+                    hashes.put(deletedName, Hashing.sha1().hashBytes(bytes));
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
+        }
 
-            File[] files = saveDir.listFiles();
+        final String summary = String.format("%d files, %d written, %d unchanged", contents.size(), written, snapshot.size() - written);
+        if (hashes.equals(lastArchiveHashes))
+        {
+            lastBackupStatus = String.format("Last backup %s: %s, no new zip as nothing changed, took %dms", date, summary, System.currentTimeMillis() - start);
+            return;
+        }
 
-            if (files == null)
+        final File backupFile = getBackupSaveLocation(saveDir, date);
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(backupFile)))
+        {
+            for (final Map.Entry<String, byte[]> entry : contents.entrySet())
             {
-                return true;
+                zos.putNextEntry(new ZipEntry(entry.getKey()));
+                zos.write(entry.getValue());
             }
+        }
+        lastArchiveHashes = hashes;
+        pruneBackups(saveDir);
+        lastBackupStatus = String.format("Last backup %s: %s, zip %s, took %dms", date, summary, backupFile.getName(), System.currentTimeMillis() - start);
+    }
 
-            final List<File> fileList = new ArrayList<>();
+    /**
+     * Encode the snapshot and write each file whose content changed, runs on the backup worker.
+     *
+     * @param saveDir  the minecolonies save folder.
+     * @param snapshot the colony data by file path.
+     * @param contents the map to put the encoded content by file path into.
+     * @param hashes   the map to put the content hashes by file path into.
+     * @return the number of files written.
+     * @throws IOException if a file could not be encoded.
+     */
+    private static int writeSnapshot(
+      final File saveDir,
+      final Map<String, CompoundTag> snapshot,
+      final Map<String, byte[]> contents,
+      final Map<String, HashCode> hashes) throws IOException
+    {
+        int written = 0;
+        for (final Map.Entry<String, CompoundTag> entry : snapshot.entrySet())
+        {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (DataOutputStream data = new DataOutputStream(out))
+            {
+                NbtIo.write(entry.getValue(), data);
+            }
 
-            for (final File current : files)
+            final byte[] bytes = out.toByteArray();
+            final HashCode hash = Hashing.sha1().hashBytes(bytes);
+            contents.put(entry.getKey(), bytes);
+            hashes.put(entry.getKey(), hash);
+
+            final File file = new File(saveDir, entry.getKey());
+            if (hash.equals(writtenFileHashes.get(entry.getKey())) && file.exists())
             {
-                if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
-                {
-                    continue;
-                }
+                continue;
+            }
 
-                fileList.add(current);
+            try
+            {
+                file.getParentFile().mkdirs();
+                Files.write(bytes, file);
+                writtenFileHashes.put(entry.getKey(), hash);
+                written++;
             }
+            catch (final IOException exception)
+            {
+                Log.getLogger().error("Exception when saving " + entry.getKey(), exception);
+            }
+        }
+        return written;
+    }
 
-            if (fileList.size() <= MAX_BACKUPS)
+    /**
+     * Delete the oldest backup zips above the maximum amount.
+     *
+     * @param saveDir the minecolonies save folder.
+     */
+    private static void pruneBackups(final File saveDir)
+    {
+        File[] files = saveDir.listFiles();
+
+        if (files == null)
+        {
+            return;
+        }
+
+        final List<File> fileList = new ArrayList<>();
+
+        for (final File current : files)
+        {
+            if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
             {
-                return true;
+                continue;
             }
 
-            fileList.sort(Comparator.comparingLong(File::lastModified));
+            fileList.add(current);
+        }
+
+        if (fileList.size() <= MAX_BACKUPS)
+        {
+            return;
+        }
+
+        fileList.sort(Comparator.comparingLong(File::lastModified));
 
-            int deleteCount = fileList.size() - MAX_BACKUPS;
-            for (File current : fileList)
+        int deleteCount = fileList.size() - MAX_BACKUPS;
+        for (File current : fileList)
+        {
+            if (deleteCount <= 0)
             {
-                if (deleteCount <= 0)
-                {
-                    break;
-                }
+                break;
+            }
+
+            deleteCount--;
+            current.delete();
+        }
+    }
+
+    /**
+     * Write the colony manager and all colonies to NBT, by the path of their file.
+     *
+     * @return the colony data by file path.
+     */
+    private static Map<String, CompoundTag> snapshotColonies()
+    {
+        final Map<String, CompoundTag> snapshot = new LinkedHashMap<>();
+        @NotNull final CompoundTag compound = new CompoundTag();
+        IColonyManager.getInstance().write(compound);
+        snapshot.put(FILENAME_MINECOLONIES, compound);
 
-                deleteCount--;
-                current.delete();
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            // The colony keeps the written tag for the world save, copy it so it's never shared with the worker.
+            final CompoundTag colonyCompound = colony.write(new CompoundTag()).copy();
+            snapshot.put(getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID()), colonyCompound);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Queue a task on the backup worker.
+     *
+     * @param task the task.
+     */
+    private static void submitBackupTask(final BackupTask task)
+    {
+        pendingBackupTasks.incrementAndGet();
+        BACKUP_EXECUTOR.execute(() ->
+        {
+            try
+            {
+                task.run();
+            }
+            catch (final Exception e)
+            {
+                /*
+                 * Intentionally not being thrown.
+                 */
+                Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+                lastBackupStatus = "Last backup failed: " + e;
+            }
+            finally
+            {
+                pendingBackupTasks.decrementAndGet();
             }
+        });
+    }
+
+    /**
+     * Wait until all queued backup tasks are done, so the colony files on disk are up to date.
+     */
+    public static void waitForBackups()
+    {
+        try
+        {
+            BACKUP_EXECUTOR.submit(() -> {}).get();
         }
-        catch (final Exception e)
+        catch (final InterruptedException e)
         {
-            /*
-             * Intentionally not being thrown.
-             */
-            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
-            return false;
+            Thread.currentThread().interrupt();
         }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Error waiting for colony backups", e);
+        }
+    }
 
-        return true;
+    /**
+     * Get the state of the backup worker and the result of the last backup.
+     *
+     * @return the status text.
+     */
+    public static String getBackupStatus()
+    {
+        final int pending = pendingBackupTasks.get();
+        return (pending == 0 ? "No backup running. " : pending + " backup task(s) queued. ") + lastBackupStatus;
     }
 
     /**
@@ -174,6 +403,7 @@ public final class BackUpHelper
      */
     public static void loadManagerBackup()
     {
+        waitForBackups();
         try
         {
             @NotNull final File file = BackUpHelper.getSaveLocation();
@@ -196,6 +426,7 @@ public final class BackUpHelper
      */
     public static void loadMissingColonies()
     {
+        waitForBackups();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
         for (final ResourceKey<Level> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
@@ -225,30 +456,16 @@ public final class BackUpHelper
     /**
      * Get save location for Minecolonies backup data, from the world/save directory.
      *
-     * @param date the current time.
+     * @param saveDir the minecolonies save folder.
+     * @param date    the current time.
      * @return Save file for minecolonies.
      */
     @NotNull
-    private static File getBackupSaveLocation(final Date date)
+    private static File getBackupSaveLocation(final File saveDir, final Date date)
     {
-        @NotNull final File saveDir =
-          new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
     }
 
-    /**
-     * Add zip to file.
-     *
-     * @param fileName the file name.
-     * @param zos      the output stream.
-     * @param folder   the folder.
-     */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
-    {
-        final File file = new File(folder, fileName);
-        addFileToZipWithPath(fileName, zos, file);
-    }
-
     /**
      * Add the file to the given zip, with the path
      *
@@ -329,27 +546,18 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Save all the Colonies. The colonies are written to NBT right away, the files are written on the backup worker.
      */
     public static void saveColonies()
     {
-        @NotNull final CompoundTag compound = new CompoundTag();
-        IColonyManager.getInstance().write(compound);
-
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
-        {
-            final CompoundTag colonyCompound = new CompoundTag();
-            colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
-        }
+        final Map<String, CompoundTag> snapshot = snapshotColonies();
+        submitBackupTask(() -> writeSnapshot(saveDir, snapshot, new HashMap<>(), new HashMap<>()));
     }
 
     /**
-     * Marks a colony's backup file as deleted.
+     * Marks a colony's backup file as deleted. Happens on the backup worker, after the colony files queued before are written.
      *
      * @param colonyID    id of the colony to delete
      * @param dimensionID dimension of the colony to delete
@@ -358,16 +566,30 @@ public final class BackUpHelper
     {
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
+        submitBackupTask(() -> renameToDeleted(saveDir, colonyID, dimensionID.location()));
+    }
+
+    /**
+     * Renames a colony's backup file to the deleted file name, runs on the backup worker.
+     *
+     * @param saveDir   the minecolonies save folder.
+     * @param colonyID  id of the colony to delete
+     * @param dimension dimension of the colony to delete
+     */
+    private static void renameToDeleted(final File saveDir, final int colonyID, final ResourceLocation dimension)
+    {
+        final String colonyFileName = getFolderForDimension(dimension) + String.format(FILENAME_COLONY, colonyID);
+        final File toDelete = new File(saveDir, colonyFileName);
         if (toDelete.exists())
         {
-            final String fileName = getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY_DELETED, colonyID);
+            final String fileName = getFolderForDimension(dimension) + String.format(FILENAME_COLONY_DELETED, colonyID);
             final File oldFile = new File(saveDir, fileName);
             if (oldFile.exists())
             {
                 oldFile.delete();
             }
             toDelete.renameTo(new File(saveDir, fileName));
+            writtenFileHashes.remove(colonyFileName);
         }
     }
 
@@ -376,6 +598,7 @@ public final class BackUpHelper
      */
     public static void loadAllBackups()
     {
+        waitForBackups();
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
@@ -412,6 +635,7 @@ public final class BackUpHelper
      */
     public static void loadColonyBackup(final int colonyId, final ResourceKey<Level> dimension, boolean loadDeleted, boolean claimChunks)
     {
+        waitForBackups();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         @NotNull final File backupFile = new File(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId));
         CompoundTag compound = loadNBTFromPath(backupFile);
@@ -486,6 +710,7 @@ public final class BackUpHelper
      */
     public static String exportColony(final IColony colony)
     {
+        waitForBackups();
         final MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
         final File topworldDir = server.getWorldPath(LevelResource.ROOT).toFile();
         final File minecraftDir = new File(topworldDir.getAbsolutePath().replace(topworldDir.getPath(), ""));
@@ -0,0 +1,186 @@
+package com.minecolonies.core.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.ChunkCapData;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
+/**
+ * Keeps track of the chunk claims each player received around its position, to only send the claims of chunks the client does not know yet or which changed since.
+ * <p>
+ * The claims are compared by content: they are changed from several places, and the changes done while a player tracks the chunk are sent to it directly. A chunk the
+ * player stops tracking is forgotten, as the client drops its data with the chunk.
+ */
+public final class ChunkClaimSyncTracker
+{
+    /**
+     * Claim of a chunk without owner and close colonies, what the client assumes for chunks it did not receive.
+     */
+    private static final List<Integer> UNCLAIMED = List.of(0);
+
+    /**
+     * The claims sent to each player.
+     */
+    private static final Map<UUID, PlayerClaims> playerClaims = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ChunkClaimSyncTracker()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Sends the claims around a player the client does not have yet.
+     *
+     * @param player the player.
+     * @param center the chunk the player is in.
+     * @param range  the range in chunks around the center.
+     */
+    public static void sendClaims(@NotNull final ServerPlayer player, @NotNull final ChunkPos center, final int range)
+    {
+        final Level world = player.level;
+        PlayerClaims claims = playerClaims.get(player.getUUID());
+        if (claims == null || claims.dimension != world.dimension())
+        {
+            claims = new PlayerClaims(world.dimension());
+            playerClaims.put(player.getUUID(), claims);
+        }
+
+        final int minX = center.x - range;
+        final int minZ = center.z - range;
+        final int size = range * 2 + 1;
+
+        // Forget what went out of range, the client may have dropped it in between
+        for (final LongIterator iterator = claims.sent.keySet().iterator(); iterator.hasNext(); )
+        {
+            final long pos = iterator.nextLong();
+            if (Math.abs(ChunkPos.getX(pos) - center.x) > range || Math.abs(ChunkPos.getZ(pos) - center.z) > range)
+            {
+                iterator.remove();
+            }
+        }
+
+        final List<ChunkCapData> changed = new ArrayList<>();
+        for (int z = minZ; z < minZ + size; z++)
+        {
+            for (int x = minX; x < minX + size; x++)
+            {
+                if (!WorldUtil.isEntityChunkLoaded(world, x, z))
+                {
+                    continue;
+                }
+
+                final LevelChunk chunk = world.getChunk(x, z);
+                final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+                if (cap == null)
+                {
+                    continue;
+                }
+
+                final List<Integer> claim = getClaim(cap);
+                final long pos = ChunkPos.asLong(x, z);
+                if (claim.equals(claims.sent.getOrDefault(pos, UNCLAIMED)))
+                {
+                    claims.sent.putIfAbsent(pos, claim);
+                    continue;
+                }
+
+                claims.sent.put(pos, claim);
+                changed.add(new ChunkCapData(x, z, cap.getOwningColony(), cap.getStaticClaimColonies(), Collections.emptyMap()));
+            }
+        }
+
+        if (!changed.isEmpty())
+        {
+            Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(minX, minZ, size, changed), player);
+        }
+    }
+
+    /**
+     * Forgets the claim sent for a chunk, called when the player stops tracking it.
+     *
+     * @param player the player.
+     * @param pos    the chunk position.
+     */
+    public static void onChunkUnwatched(@NotNull final ServerPlayer player, @NotNull final ChunkPos pos)
+    {
+        final PlayerClaims claims = playerClaims.get(player.getUUID());
+        if (claims != null && claims.dimension == player.level.dimension())
+        {
+            claims.sent.remove(pos.toLong());
+        }
+    }
+
+    /**
+     * Forgets all claims sent to a player.
+     *
+     * @param playerId the id of the player.
+     */
+    public static void removePlayer(@NotNull final UUID playerId)
+    {
+        playerClaims.remove(playerId);
+    }
+
+    /**
+     * Get the claim of a chunk as comparable list, the owning colony followed by the close colonies.
+     *
+     * @param cap the chunk capability.
+     * @return the claim.
+     */
+    private static List<Integer> getClaim(@NotNull final IColonyTagCapability cap)
+    {
+        final List<Integer> staticClaims = cap.getStaticClaimColonies();
+        if (cap.getOwningColony() == 0 && staticClaims.isEmpty())
+        {
+            return UNCLAIMED;
+        }
+
+        final List<Integer> claim = new ArrayList<>(staticClaims.size() + 1);
+        claim.add(cap.getOwningColony());
+        claim.addAll(staticClaims);
+        return claim;
+    }
+
+    /**
+     * The claims sent to one player.
+     */
+    private static class PlayerClaims
+    {
+        /**
+         * The dimension the claims are from.
+         */
+        private final ResourceKey<Level> dimension;
+
+        /**
+         * The sent claim by chunk position.
+         */
+        private final Long2ObjectOpenHashMap<List<Integer>> sent = new Long2ObjectOpenHashMap<>();
+
+        /**
+         * Create the claims of a player in a dimension.
+         *
+         * @param dimension the dimension.
+         */
+        private PlayerClaims(final ResourceKey<Level> dimension)
+        {
+            this.dimension = dimension;
+        }
+    }
+}